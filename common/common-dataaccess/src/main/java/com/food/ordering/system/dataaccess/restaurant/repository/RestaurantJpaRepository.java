@@ -5,6 +5,7 @@ import com.food.ordering.system.dataaccess.restaurant.entity.RestaurantEntityId;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -12,4 +13,8 @@ import java.util.UUID;
 @Repository
 public interface RestaurantJpaRepository extends JpaRepository<RestaurantEntity, RestaurantEntityId> {
     Optional<List<RestaurantEntity>> findByRestaurantIdAndProductIdIn(UUID restaurantId, List<UUID> productIds);
+
+    List<RestaurantEntity> findByRestaurantId(UUID restaurantId);
+
+    List<RestaurantEntity> findByRestaurantIdIn(Collection<UUID> restaurantIds);
 }
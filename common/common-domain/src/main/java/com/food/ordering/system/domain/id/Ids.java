@@ -0,0 +1,23 @@
+package com.food.ordering.system.domain.id;
+
+import java.util.UUID;
+
+/**
+ * Creates the ids of aggregates, entities and messages. Time ordered ids are used unless another generator is set
+ * at startup.
+ */
+public final class Ids {
+
+    private static volatile IdGenerator idGenerator = new TimeOrderedIdGenerator();
+
+    private Ids() {
+    }
+
+    public static UUID newId() {
+        return idGenerator.generate();
+    }
+
+    public static void setIdGenerator(IdGenerator idGenerator) {
+        Ids.idGenerator = idGenerator;
+    }
+}
@@ -0,0 +1,56 @@
+package com.food.ordering.system.domain.id;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * UUID version 7 ids: a 48 bit millisecond timestamp, a 12 bit counter and 62 random bits. Ids created one after
+ * the other sort in creation order, so new rows go to the right edge of a primary key index instead of random
+ * pages. The timestamp and counter are advanced together with one CAS and never go backwards, even if the clock
+ * does; a counter overflow within a millisecond moves on to the next millisecond. Random bits come from a secure
+ * random per thread, so the ids stay unguessable without contending on one shared generator.
+ */
+public class TimeOrderedIdGenerator implements IdGenerator {
+
+    private static final int COUNTER_BITS = 12;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000000000000000L;
+    private static final long RANDOM_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+    private static final ThreadLocal<SecureRandom> RANDOM = ThreadLocal.withInitial(() -> {
+        try {
+            return SecureRandom.getInstance("DRBG");
+        } catch (NoSuchAlgorithmException e) {
+            return new SecureRandom();
+        }
+    });
+
+    private final AtomicLong lastTimestampAndCounter = new AtomicLong();
+
+    @Override
+    public UUID generate() {
+        return generate(System.currentTimeMillis());
+    }
+
+    UUID generate(long currentTimeMillis) {
+        long timestampAndCounter = nextTimestampAndCounter(currentTimeMillis);
+        long mostSigBits = (timestampAndCounter >>> COUNTER_BITS) << 16 | VERSION |
+                (timestampAndCounter & COUNTER_MASK);
+        long leastSigBits = RANDOM.get().nextLong() & RANDOM_MASK | VARIANT;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    private long nextTimestampAndCounter(long currentTimeMillis) {
+        long start = currentTimeMillis << COUNTER_BITS;
+        while (true) {
+            long last = lastTimestampAndCounter.get();
+            long next = Math.max(last + 1, start);
+            if (lastTimestampAndCounter.compareAndSet(last, next)) {
+                return next;
+            }
+        }
+    }
+}
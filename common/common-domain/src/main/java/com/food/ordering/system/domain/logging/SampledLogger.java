@@ -0,0 +1,78 @@
+package com.food.ordering.system.domain.logging;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Logs events of a hot path as one structured line, {@code event key=value ... skipped=n}, for only a part of the
+ * events: every sampleEvery-th event is considered and of those at most one per minInterval is logged. Skipped
+ * reports how many events were dropped since the last line. Values are formatted only for a logged event, so pass
+ * objects such as lists as they are instead of calling toString on them. An event that is dropped costs a counter
+ * update and allocates nothing, apart from boxing of primitive values by the caller.
+ */
+public final class SampledLogger {
+
+    private static final String FORMAT_1 = "{} {}={} skipped={}";
+    private static final String FORMAT_2 = "{} {}={} {}={} skipped={}";
+    private static final String FORMAT_3 = "{} {}={} {}={} {}={} skipped={}";
+
+    private final Logger logger;
+    private final long sampleEvery;
+    private final long minIntervalNanos;
+    private final AtomicLong events = new AtomicLong();
+    private final AtomicLong nextLogNanos;
+    private final LongAdder skipped = new LongAdder();
+
+    private SampledLogger(Logger logger, long sampleEvery, Duration minInterval) {
+        this.logger = logger;
+        this.sampleEvery = sampleEvery;
+        this.minIntervalNanos = minInterval.toNanos();
+        this.nextLogNanos = new AtomicLong(System.nanoTime());
+    }
+
+    public static SampledLogger of(Class<?> type, long sampleEvery, Duration minInterval) {
+        return new SampledLogger(LoggerFactory.getLogger(type), sampleEvery, minInterval);
+    }
+
+    public void info(String event, String key, Object value) {
+        if (sample()) {
+            logger.info(FORMAT_1, event, key, value, skipped.sumThenReset());
+        }
+    }
+
+    public void info(String event, String key1, Object value1, String key2, Object value2) {
+        if (sample()) {
+            logger.info(FORMAT_2, event, key1, value1, key2, value2, skipped.sumThenReset());
+        }
+    }
+
+    public void info(String event,
+                     String key1, Object value1,
+                     String key2, Object value2,
+                     String key3, Object value3) {
+        if (sample()) {
+            logger.info(FORMAT_3, event, key1, value1, key2, value2, key3, value3, skipped.sumThenReset());
+        }
+    }
+
+    private boolean sample() {
+        if (!logger.isInfoEnabled()) {
+            return false;
+        }
+        if (sampleEvery > 1 && events.incrementAndGet() % sampleEvery != 0) {
+            skipped.increment();
+            return false;
+        }
+        long now = System.nanoTime();
+        long next = nextLogNanos.get();
+        if (now - next < 0 || !nextLogNanos.compareAndSet(next, now + minIntervalNanos)) {
+            skipped.increment();
+            return false;
+        }
+        return true;
+    }
+}
@@ -4,37 +4,88 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.Objects;
 
+/**
+ * Amounts with scale 2 that fit in a long are kept as cents and added, subtracted and multiplied with exact long
+ * arithmetic. Anything else, and any result that would overflow, goes through the BigDecimal path with the same
+ * rounding as before.
+ */
 public class Money {
+    private static final int SCALE = 2;
+    private static final int MAX_COMPACT_PRECISION = 18;
+
     private final BigDecimal amount;
+    private final long cents;
+    private final boolean compact;
 
-    public static final Money ZERO = new Money(BigDecimal.ZERO);
+    public static final Money ZERO = new Money(0L);
 
     public Money(BigDecimal amount) {
-        this.amount = amount;
+        if (amount != null && amount.scale() == SCALE && amount.precision() <= MAX_COMPACT_PRECISION) {
+            this.amount = null;
+            this.cents = amount.unscaledValue().longValue();
+            this.compact = true;
+        } else {
+            this.amount = amount;
+            this.cents = 0L;
+            this.compact = false;
+        }
+    }
+
+    private Money(long cents) {
+        this.amount = null;
+        this.cents = cents;
+        this.compact = true;
     }
 
     public boolean isGreaterThanZero() {
+        if (compact) {
+            return cents > 0;
+        }
         return this.amount != null && this.amount.compareTo(BigDecimal.ZERO) > 0;
     }
 
     public boolean isGreaterThan(Money money) {
-        return this.amount != null && this.amount.compareTo(money.getAmount()) > 0;
+        if (compact && money.compact) {
+            return cents > money.cents;
+        }
+        return getAmount() != null && getAmount().compareTo(money.getAmount()) > 0;
     }
 
     public Money add(Money money) {
-        return new Money(setScale(this.amount.add(money.getAmount())));
+        if (compact && money.compact) {
+            try {
+                return new Money(Math.addExact(cents, money.cents));
+            } catch (ArithmeticException e) {
+                // overflow, fall back to BigDecimal
+            }
+        }
+        return new Money(setScale(getAmount().add(money.getAmount())));
     }
 
     public Money substract(Money money) {
-        return new Money(setScale(this.amount.subtract(money.getAmount())));
+        if (compact && money.compact) {
+            try {
+                return new Money(Math.subtractExact(cents, money.cents));
+            } catch (ArithmeticException e) {
+                // overflow, fall back to BigDecimal
+            }
+        }
+        return new Money(setScale(getAmount().subtract(money.getAmount())));
     }
 
     public Money multiply(int multiplier) {
-        return new Money(setScale(this.amount.multiply(new BigDecimal(multiplier))));
+        if (compact) {
+            try {
+                return new Money(Math.multiplyExact(cents, multiplier));
+            } catch (ArithmeticException e) {
+                // overflow, fall back to BigDecimal
+            }
+        }
+        return new Money(setScale(getAmount().multiply(new BigDecimal(multiplier))));
     }
 
     public BigDecimal getAmount() {
-        return amount;
+        return compact ? BigDecimal.valueOf(cents, SCALE) : amount;
     }
 
     @Override
@@ -42,15 +93,18 @@ public class Money {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         Money money = (Money) o;
-        return Objects.equals(amount, money.amount);
+        if (compact && money.compact) {
+            return cents == money.cents;
+        }
+        return Objects.equals(getAmount(), money.getAmount());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(amount);
+        return Objects.hash(getAmount());
     }
 
     private  BigDecimal setScale(BigDecimal input) {
-        return input.setScale(2, RoundingMode.HALF_EVEN);
+        return input.setScale(SCALE, RoundingMode.HALF_EVEN);
     }
 }
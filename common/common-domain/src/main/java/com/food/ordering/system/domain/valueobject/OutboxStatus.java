@@ -0,0 +1,5 @@
+package com.food.ordering.system.domain.valueobject;
+
+public enum OutboxStatus {
+    STARTED, COMPLETED, FAILED
+}
@@ -0,0 +1,5 @@
+package com.food.ordering.system.domain.valueobject;
+
+public enum SagaStatus {
+    STARTED, PROCESSING, SUCCEEDED, COMPENSATING, COMPENSATED, FAILED
+}
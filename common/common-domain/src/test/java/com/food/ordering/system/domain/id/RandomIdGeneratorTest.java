@@ -0,0 +1,27 @@
+package com.food.ordering.system.domain.id;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+public class RandomIdGeneratorTest {
+
+    @AfterEach
+    public void resetIdGenerator() {
+        Ids.setIdGenerator(new TimeOrderedIdGenerator());
+    }
+
+    @Test
+    public void testIdsAreRandomVersion4() {
+        Ids.setIdGenerator(new RandomIdGenerator());
+        UUID first = Ids.newId();
+        UUID second = Ids.newId();
+        assertEquals(4, first.version());
+        assertEquals(2, first.variant());
+        assertNotEquals(first, second);
+    }
+}
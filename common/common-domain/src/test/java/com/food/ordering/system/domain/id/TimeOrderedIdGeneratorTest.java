@@ -0,0 +1,94 @@
+package com.food.ordering.system.domain.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TimeOrderedIdGeneratorTest {
+
+    private static final int THREADS = 8;
+    private static final int IDS_PER_THREAD = 10_000;
+
+    private final TimeOrderedIdGenerator idGenerator = new TimeOrderedIdGenerator();
+
+    @Test
+    public void testIdsHaveVersion7AndRfcVariant() {
+        long currentTimeMillis = System.currentTimeMillis();
+        UUID id = idGenerator.generate(currentTimeMillis);
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+        assertEquals(currentTimeMillis, timestampOf(id));
+    }
+
+    @Test
+    public void testIdsAreStrictlyIncreasingAcrossThreads() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        ConcurrentLinkedQueue<List<UUID>> idsPerThread = new ConcurrentLinkedQueue<>();
+        for (int i = 0; i < THREADS; i++) {
+            executor.submit(() -> {
+                List<UUID> ids = new ArrayList<>(IDS_PER_THREAD);
+                start.await();
+                for (int j = 0; j < IDS_PER_THREAD; j++) {
+                    ids.add(idGenerator.generate());
+                }
+                idsPerThread.add(ids);
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        List<Long> timestampsAndCounters = new ArrayList<>(THREADS * IDS_PER_THREAD);
+        for (List<UUID> ids : idsPerThread) {
+            for (int i = 1; i < ids.size(); i++) {
+                assertTrue(ids.get(i - 1).toString().compareTo(ids.get(i).toString()) < 0);
+            }
+            ids.forEach(id -> timestampsAndCounters.add(id.getMostSignificantBits()));
+        }
+        assertEquals(THREADS * IDS_PER_THREAD, timestampsAndCounters.stream().distinct().count());
+    }
+
+    @Test
+    public void testCounterOverflowMovesToNextMillisecond() {
+        long currentTimeMillis = System.currentTimeMillis();
+        UUID last = null;
+        for (int i = 0; i < 4096; i++) {
+            last = idGenerator.generate(currentTimeMillis);
+        }
+        assertEquals(currentTimeMillis, timestampOf(last));
+        assertEquals(4095, counterOf(last));
+
+        UUID overflow = idGenerator.generate(currentTimeMillis);
+        assertEquals(currentTimeMillis + 1, timestampOf(overflow));
+        assertEquals(0, counterOf(overflow));
+    }
+
+    @Test
+    public void testClockGoingBackwardsDoesNotGoBackInIds() {
+        long currentTimeMillis = System.currentTimeMillis();
+        UUID first = idGenerator.generate(currentTimeMillis);
+        UUID second = idGenerator.generate(currentTimeMillis - 1_000);
+        assertEquals(currentTimeMillis, timestampOf(second));
+        assertTrue(first.toString().compareTo(second.toString()) < 0);
+    }
+
+    private long timestampOf(UUID id) {
+        return id.getMostSignificantBits() >>> 16;
+    }
+
+    private long counterOf(UUID id) {
+        return id.getMostSignificantBits() & 0xFFFL;
+    }
+}
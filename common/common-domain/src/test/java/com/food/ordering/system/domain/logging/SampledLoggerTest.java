@@ -0,0 +1,49 @@
+package com.food.ordering.system.domain.logging;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SampledLoggerTest {
+
+    private static final int DROPPED_EVENTS = 1_000;
+
+    @Test
+    public void testEventDroppedByIntervalDoesNotFormatValues() {
+        assertTrue(LoggerFactory.getLogger(SampledLoggerTest.class).isInfoEnabled());
+        SampledLogger sampledLogger = SampledLogger.of(SampledLoggerTest.class, 1, Duration.ofHours(1));
+        sampledLogger.info("first-event", "value", "logged");
+
+        CountingValue value = new CountingValue();
+        for (int i = 0; i < DROPPED_EVENTS; i++) {
+            sampledLogger.info("dropped-event", "value1", value, "value2", value, "value3", value);
+        }
+        assertEquals(0, value.toStringCalls);
+    }
+
+    @Test
+    public void testEventDroppedBySampleEveryDoesNotFormatValues() {
+        assertTrue(LoggerFactory.getLogger(SampledLoggerTest.class).isInfoEnabled());
+        SampledLogger sampledLogger = SampledLogger.of(SampledLoggerTest.class, DROPPED_EVENTS + 1, Duration.ZERO);
+
+        CountingValue value = new CountingValue();
+        for (int i = 0; i < DROPPED_EVENTS; i++) {
+            sampledLogger.info("dropped-event", "value", value);
+        }
+        assertEquals(0, value.toStringCalls);
+    }
+
+    private static class CountingValue {
+        private int toStringCalls;
+
+        @Override
+        public String toString() {
+            toStringCalls++;
+            return "counting-value";
+        }
+    }
+}
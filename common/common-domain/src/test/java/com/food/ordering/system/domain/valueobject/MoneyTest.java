@@ -0,0 +1,109 @@
+package com.food.ordering.system.domain.valueobject;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MoneyTest {
+
+    private static final int RANDOM_PAIRS = 100_000;
+
+    // 18 digits is the largest amount kept as cents, times 9 still fits in a long but not twice that
+    private static final Money LARGEST_COMPACT = money("9999999999999999.99");
+    private static final Money NEAR_LONG_MAX = LARGEST_COMPACT.multiply(9);
+
+    @Test
+    public void testAddFallsBackToBigDecimalOnOverflow() {
+        Money sum = NEAR_LONG_MAX.add(NEAR_LONG_MAX);
+        assertEquals(new BigDecimal("179999999999999999.82"), sum.getAmount());
+        assertEquals(money("179999999999999999.82"), sum);
+    }
+
+    @Test
+    public void testSubstractFallsBackToBigDecimalOnOverflow() {
+        Money negative = money("-9999999999999999.99").multiply(9);
+        Money difference = negative.substract(NEAR_LONG_MAX);
+        assertEquals(new BigDecimal("-179999999999999999.82"), difference.getAmount());
+    }
+
+    @Test
+    public void testMultiplyFallsBackToBigDecimalOnOverflow() {
+        Money product = LARGEST_COMPACT.multiply(1000);
+        assertEquals(new BigDecimal("9999999999999999990.00"), product.getAmount());
+        assertEquals(money("19999999999999999980.00"), product.multiply(2));
+    }
+
+    @Test
+    public void testArithmeticMatchesBigDecimal() {
+        Random random = new Random(42);
+        for (int i = 0; i < RANDOM_PAIRS; i++) {
+            BigDecimal left = BigDecimal.valueOf(random.nextLong() / (1 + random.nextInt(1_000_000)), 2);
+            BigDecimal right = BigDecimal.valueOf(random.nextLong() / (1 + random.nextInt(1_000_000)), 2);
+            int multiplier = random.nextInt(1_000);
+            Money leftMoney = new Money(left);
+            Money rightMoney = new Money(right);
+
+            assertEquals(scaled(left.add(right)), leftMoney.add(rightMoney).getAmount());
+            assertEquals(scaled(left.subtract(right)), leftMoney.substract(rightMoney).getAmount());
+            assertEquals(scaled(left.multiply(BigDecimal.valueOf(multiplier))),
+                    leftMoney.multiply(multiplier).getAmount());
+            assertEquals(left.compareTo(right) > 0, leftMoney.isGreaterThan(rightMoney));
+        }
+    }
+
+    @Test
+    public void testOtherScalesKeepBigDecimalRounding() {
+        Money money = new Money(new BigDecimal("1.005"));
+        assertEquals(new BigDecimal("2.00"), money.add(money("1.00")).getAmount());
+        assertEquals(new BigDecimal("3.02"), money.multiply(3).getAmount());
+    }
+
+    @Test
+    public void testEqualsAndHashCodeMatchBetweenCentsAndBigDecimal() {
+        Money fromCents = NEAR_LONG_MAX;
+        Money fromBigDecimal = money("89999999999999999.91");
+        assertEquals(fromBigDecimal, fromCents);
+        assertEquals(fromCents, fromBigDecimal);
+        assertEquals(fromBigDecimal.hashCode(), fromCents.hashCode());
+
+        assertEquals(money("12.50"), money("10.00").add(money("2.50")));
+        assertEquals(money("12.50").hashCode(), money("10.00").add(money("2.50")).hashCode());
+    }
+
+    @Test
+    public void testEqualsKeepsScaleOfBigDecimal() {
+        assertNotEquals(money("1.00"), new Money(new BigDecimal("1.0")));
+        assertNotEquals(new Money(new BigDecimal("1.0")), money("1.00"));
+        assertEquals(new Money(new BigDecimal("1.0")), new Money(new BigDecimal("1.0")));
+    }
+
+    @Test
+    public void testZeroHasScaleTwo() {
+        assertEquals(new BigDecimal("0.00"), Money.ZERO.getAmount());
+        assertEquals(money("0.00"), Money.ZERO);
+        assertNotEquals(new Money(BigDecimal.ZERO), Money.ZERO);
+        assertFalse(Money.ZERO.isGreaterThanZero());
+
+        // the items total of an order without items, as reduced in Order.validateItemsPrice
+        List<Money> noItems = Collections.emptyList();
+        assertEquals(money("0.00"), noItems.stream().reduce(Money.ZERO, Money::add));
+        assertTrue(money("0.01").isGreaterThan(Money.ZERO));
+    }
+
+    private static Money money(String amount) {
+        return new Money(new BigDecimal(amount));
+    }
+
+    private static BigDecimal scaled(BigDecimal amount) {
+        return amount.setScale(2, RoundingMode.HALF_EVEN);
+    }
+}
@@ -13,36 +13,63 @@ CREATE TABLE customer.customers
     CONSTRAINT customers_pkey PRIMARY KEY (id)
 );
 
-DROP MATERIALIZED VIEW IF EXISTS customer.order_customer_m_view;
+DROP TABLE IF EXISTS customer.order_customer_m_view CASCADE;
 
-CREATE MATERIALIZED VIEW customer.order_customer_m_view
-TABLESPACE pg_default
-AS
- SELECT id,
-    username,
-    first_name,
-    last_name
- FROM customer.customers
-WITH DATA;
+-- Projection table kept under the old view name so order-service keeps reading it unchanged.
+-- A row level trigger maintains it per changed customer instead of a full refresh per statement.
+CREATE TABLE customer.order_customer_m_view
+(
+    id uuid NOT NULL,
+    username character varying COLLATE pg_catalog."default" NOT NULL,
+    first_name character varying COLLATE pg_catalog."default" NOT NULL,
+    last_name character varying COLLATE pg_catalog."default" NOT NULL,
+    CONSTRAINT order_customer_m_view_pkey PRIMARY KEY (id)
+);
 
-refresh materialized VIEW customer.order_customer_m_view;
+INSERT INTO customer.order_customer_m_view
+ SELECT id, username, first_name, last_name
+ FROM customer.customers;
 
-CREATE OR replace function customer.refresh_order_customer_m_view()
+CREATE OR replace function customer.project_customer()
 returns trigger
 AS '
 BEGIN
-    refresh materialized VIEW customer.order_customer_m_view;
+    IF TG_OP = ''DELETE'' THEN
+        DELETE FROM customer.order_customer_m_view WHERE id = OLD.id;
+        return null;
+    END IF;
+    IF TG_OP = ''UPDATE'' AND NEW.id <> OLD.id THEN
+        DELETE FROM customer.order_customer_m_view WHERE id = OLD.id;
+    END IF;
+    INSERT INTO customer.order_customer_m_view (id, username, first_name, last_name)
+    VALUES (NEW.id, NEW.username, NEW.first_name, NEW.last_name)
+    ON CONFLICT (id) DO UPDATE
+       SET username = EXCLUDED.username,
+           first_name = EXCLUDED.first_name,
+           last_name = EXCLUDED.last_name;
     return null;
 END;
 ' LANGUAGE plpgsql;
 
-DROP trigger IF EXISTS refresh_order_customer_m_view ON customer.customers;
-
-CREATE trigger refresh_order_customer_m_view
-after INSERT OR UPDATE OR DELETE OR truncate
-ON customer.customers FOR each statement
-EXECUTE PROCEDURE customer.refresh_order_customer_m_view();
+DROP trigger IF EXISTS project_customer ON customer.customers;
 
+CREATE trigger project_customer
+after INSERT OR UPDATE OR DELETE
+ON customer.customers FOR each row
+EXECUTE PROCEDURE customer.project_customer();
 
+CREATE OR replace function customer.truncate_customer_projection()
+returns trigger
+AS '
+BEGIN
+    TRUNCATE customer.order_customer_m_view;
+    return null;
+END;
+' LANGUAGE plpgsql;
 
+DROP trigger IF EXISTS truncate_customer_projection ON customer.customers;
 
+CREATE trigger truncate_customer_projection
+after truncate
+ON customer.customers FOR each statement
+EXECUTE PROCEDURE customer.truncate_customer_projection();
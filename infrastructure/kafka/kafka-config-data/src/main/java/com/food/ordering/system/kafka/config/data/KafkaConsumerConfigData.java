@@ -4,6 +4,8 @@ import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.List;
+
 @Data
 @Configuration
 @ConfigurationProperties(prefix = "kafka-consumer-config")
@@ -23,4 +25,10 @@ public class KafkaConsumerConfigData {
     private Integer maxPollRecords;
     private Integer maxPartitionFetchBytesDefault;
     private Integer maxPartitionFetchBytesBoostFactor;
+    private Integer processedMessageFilterExpectedInsertions;
+    private Double processedMessageFilterFalsePositiveRate;
+    private Integer processedMessageCacheSize;
+    private Boolean keyOrderedDispatchEnabled;
+    private Integer keyOrderedDispatchThreads;
+    private List<Long> retryTopicDelaysMs;
 }
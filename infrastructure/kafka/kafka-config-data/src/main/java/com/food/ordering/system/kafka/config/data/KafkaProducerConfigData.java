@@ -17,4 +17,6 @@ public class KafkaProducerConfigData {
     private Integer lingerMs;
     private Integer requestTimeoutMs;
     private Integer retryCount;
+    private Integer maxInFlightSends;
+    private Long inFlightWaitTimeoutMs;
 }
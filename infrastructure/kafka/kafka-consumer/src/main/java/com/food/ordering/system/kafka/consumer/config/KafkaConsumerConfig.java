@@ -2,6 +2,9 @@ package com.food.ordering.system.kafka.consumer.config;
 
 import com.food.ordering.system.kafka.config.data.KafkaConfigData;
 import com.food.ordering.system.kafka.config.data.KafkaConsumerConfigData;
+import com.food.ordering.system.kafka.consumer.retry.RetryTopicDelayInterceptor;
+import com.food.ordering.system.kafka.consumer.retry.RetryTopicPublishingRecoverer;
+import com.food.ordering.system.kafka.consumer.retry.RetryTopicResolver;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -9,20 +12,32 @@ import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.config.KafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.KafkaOperations;
 import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.util.backoff.FixedBackOff;
 
+import javax.annotation.PreDestroy;
 import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 
 @Configuration
 public class KafkaConsumerConfig<K extends Serializable, V extends Serializable>{
     private final KafkaConfigData kafkaConfigData;
     private final KafkaConsumerConfigData kafkaConsumerConfigData;
+    private final RetryTopicResolver retryTopicResolver;
+    private final ScheduledExecutorService retryTopicResumeScheduler =
+            Executors.newSingleThreadScheduledExecutor(runnable -> new Thread(runnable, "kafka-retry-topic-resume"));
 
-    public KafkaConsumerConfig(KafkaConfigData kafkaConfigData, KafkaConsumerConfigData kafkaConsumerConfigData) {
+    public KafkaConsumerConfig(KafkaConfigData kafkaConfigData,
+                               KafkaConsumerConfigData kafkaConsumerConfigData,
+                               RetryTopicResolver retryTopicResolver) {
         this.kafkaConfigData = kafkaConfigData;
         this.kafkaConsumerConfigData = kafkaConsumerConfigData;
+        this.retryTopicResolver = retryTopicResolver;
     }
 
     @Bean
@@ -49,12 +64,44 @@ public class KafkaConsumerConfig<K extends Serializable, V extends Serializable>
         return new DefaultKafkaConsumerFactory<>(consumerConfig());
     }
 
-    public KafkaListenerContainerFactory<ConcurrentMessageListenerContainer<K, V>> kafkaListenerContainerFactory() {
+    /**
+     * Failed records are not retried in place, which would block their partition. The failed record goes to the
+     * next retry topic or the dead letter topic, the records before it are committed and the rest is redelivered.
+     */
+    @Bean
+    public DefaultErrorHandler retryTopicErrorHandler(KafkaOperations<?, ?> kafkaOperations) {
+        return new DefaultErrorHandler(new RetryTopicPublishingRecoverer(kafkaOperations, retryTopicResolver),
+                new FixedBackOff(0L, 0L));
+    }
+
+    @Bean
+    public KafkaListenerContainerFactory<ConcurrentMessageListenerContainer<K, V>> kafkaListenerContainerFactory(
+            DefaultErrorHandler retryTopicErrorHandler) {
+        return listenerContainerFactory(retryTopicErrorHandler);
+    }
+
+    @Bean
+    public KafkaListenerContainerFactory<ConcurrentMessageListenerContainer<K, V>> retryKafkaListenerContainerFactory(
+            DefaultErrorHandler retryTopicErrorHandler) {
+        ConcurrentKafkaListenerContainerFactory<K, V> factory = listenerContainerFactory(retryTopicErrorHandler);
+        factory.setContainerCustomizer(container -> container.setBatchInterceptor(
+                new RetryTopicDelayInterceptor<>(retryTopicResolver, container, retryTopicResumeScheduler)));
+        return factory;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        retryTopicResumeScheduler.shutdownNow();
+    }
+
+    private ConcurrentKafkaListenerContainerFactory<K, V> listenerContainerFactory(
+            DefaultErrorHandler retryTopicErrorHandler) {
         ConcurrentKafkaListenerContainerFactory<K, V> factory = new ConcurrentKafkaListenerContainerFactory<K, V>();
         factory.setConsumerFactory(consumerFactory());
         factory.setBatchListener(kafkaConsumerConfigData.getBatchListener());
         factory.setConcurrency(kafkaConsumerConfigData.getConcurrencyLevel());
         factory.setAutoStartup(kafkaConsumerConfigData.getAutoStartup());
+        factory.setCommonErrorHandler(retryTopicErrorHandler);
         factory.getContainerProperties().setPollTimeout(kafkaConsumerConfigData.getPollTimeoutMs());
         return factory;
     }
@@ -0,0 +1,182 @@
+package com.food.ordering.system.kafka.consumer.dispatch;
+
+import com.food.ordering.system.kafka.config.data.KafkaConsumerConfigData;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Spreads the records of a polled batch over a worker pool so processing is not limited to one thread per
+ * partition. Records are assigned to lanes by a key taken from the message, each lane runs its records in poll
+ * order, so records with the same key keep their order. The listener returns once all lanes are done.
+ * <p>
+ * A lane stops at its first failure. The batch then fails at the earliest failed record, the error handler commits
+ * the offsets before it and redelivers the rest, so the listener should drop records that were already processed,
+ * e.g. with a ProcessedMessageFilter. When the mode is disabled all records run in one lane on the listener thread.
+ */
+@Slf4j
+@Component
+public class KeyOrderedDispatcher {
+
+    private final int laneCount;
+    private final ExecutorService workers;
+
+    public KeyOrderedDispatcher(KafkaConsumerConfigData kafkaConsumerConfigData) {
+        if (Boolean.TRUE.equals(kafkaConsumerConfigData.getKeyOrderedDispatchEnabled())) {
+            AtomicInteger threadCount = new AtomicInteger();
+            this.laneCount = kafkaConsumerConfigData.getKeyOrderedDispatchThreads();
+            this.workers = Executors.newFixedThreadPool(laneCount, runnable ->
+                    new Thread(runnable, "kafka-key-ordered-" + threadCount.incrementAndGet()));
+            log.info("Key ordered dispatch of polled records is enabled with {} threads", laneCount);
+        } else {
+            this.laneCount = 1;
+            this.workers = null;
+        }
+    }
+
+    /**
+     * Hands the messages to the handler one by one. Messages is the polled batch, or a part of it in poll order.
+     */
+    public <T> void dispatch(List<T> batch,
+                             List<T> messages,
+                             Function<T, String> messageKey,
+                             Consumer<T> handler) {
+        execute(batch, lanes(messages, messageKey), lane -> {
+            for (T message : lane) {
+                try {
+                    handler.accept(message);
+                } catch (RuntimeException e) {
+                    return new LaneFailure<>(message, e);
+                }
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Hands the messages of each lane to the handler as one list, for handlers that process a batch in one
+     * transaction. A failed lane is treated as failed at its first message, unless the handler names the failed
+     * message with a {@link MessageFailedException}.
+     */
+    public <T> void dispatchBatches(List<T> batch,
+                                    List<T> messages,
+                                    Function<T, String> messageKey,
+                                    Consumer<List<T>> handler) {
+        execute(batch, lanes(messages, messageKey), lane -> {
+            try {
+                handler.accept(lane);
+                return null;
+            } catch (MessageFailedException e) {
+                return new LaneFailure<>(failedMessageOf(lane, e.failedMessage), e.getCause());
+            } catch (RuntimeException e) {
+                return new LaneFailure<>(lane.get(0), e);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (workers != null) {
+            workers.shutdown();
+        }
+    }
+
+    private <T> List<List<T>> lanes(List<T> messages, Function<T, String> messageKey) {
+        List<List<T>> lanes = new ArrayList<>(laneCount);
+        for (int i = 0; i < laneCount; i++) {
+            lanes.add(new ArrayList<>());
+        }
+        messages.forEach(message ->
+                lanes.get(Math.floorMod(Objects.hashCode(messageKey.apply(message)), laneCount)).add(message));
+        lanes.removeIf(List::isEmpty);
+        return lanes;
+    }
+
+    private <T> void execute(List<T> batch, List<List<T>> lanes, Function<List<T>, LaneFailure<T>> laneTask) {
+        List<LaneFailure<T>> laneFailures;
+        if (workers == null || lanes.size() == 1) {
+            laneFailures = lanes.stream().map(laneTask).collect(Collectors.toList());
+        } else {
+            laneFailures = lanes.stream()
+                    .map(lane -> CompletableFuture.supplyAsync(() -> laneTask.apply(lane), workers))
+                    .collect(Collectors.toList()).stream()
+                    .map(CompletableFuture::join)
+                    .collect(Collectors.toList());
+        }
+
+        int failedIndex = batch.size();
+        RuntimeException cause = null;
+        for (LaneFailure<T> laneFailure : laneFailures) {
+            if (laneFailure != null) {
+                int index = indexOf(batch, laneFailure.message);
+                log.error("Processing of record {} of the polled batch failed", index, laneFailure.cause);
+                if (index < failedIndex) {
+                    failedIndex = index;
+                    cause = laneFailure.cause;
+                }
+            }
+        }
+        if (cause != null) {
+            throw new BatchListenerFailedException("Processing failed at record " + failedIndex +
+                    " of the polled batch", cause, failedIndex);
+        }
+    }
+
+    private <T> T failedMessageOf(List<T> lane, Object failedMessage) {
+        for (T message : lane) {
+            if (message == failedMessage) {
+                return message;
+            }
+        }
+        return lane.get(0);
+    }
+
+    private <T> int indexOf(List<T> batch, T message) {
+        for (int i = 0; i < batch.size(); i++) {
+            if (batch.get(i) == message) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Dispatched message is not part of the polled batch");
+    }
+
+    private static class LaneFailure<T> {
+        private final T message;
+        private final RuntimeException cause;
+
+        private LaneFailure(T message, RuntimeException cause) {
+            this.message = message;
+            this.cause = cause;
+        }
+    }
+
+    /**
+     * Thrown by a batch handler to report which message of its lane failed. The messages of the lane before it
+     * must have been processed.
+     */
+    public static class MessageFailedException extends RuntimeException {
+        private final transient Object failedMessage;
+
+        public MessageFailedException(Object failedMessage, RuntimeException cause) {
+            super(cause.getMessage(), cause);
+            this.failedMessage = failedMessage;
+        }
+
+        @Override
+        public synchronized RuntimeException getCause() {
+            return (RuntimeException) super.getCause();
+        }
+    }
+}
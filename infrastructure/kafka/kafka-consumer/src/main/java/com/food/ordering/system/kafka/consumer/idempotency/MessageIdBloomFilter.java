@@ -0,0 +1,74 @@
+package com.food.ordering.system.kafka.consumer.idempotency;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bloom filter over message ids. Bits are only ever set, with a CAS per word, so listener threads share it without
+ * locking.
+ */
+class MessageIdBloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+    private final int capacity;
+    private final AtomicInteger insertions = new AtomicInteger();
+
+    MessageIdBloomFilter(int expectedInsertions, double falsePositiveRate) {
+        long optimalBitCount = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) /
+                (Math.log(2) * Math.log(2)));
+        int wordCount = (int) Math.max(1, (optimalBitCount + Long.SIZE - 1) / Long.SIZE);
+        this.words = new AtomicLongArray(wordCount);
+        this.bitCount = (long) wordCount * Long.SIZE;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+        this.capacity = expectedInsertions;
+    }
+
+    boolean mightContain(String messageId) {
+        long hash = hash(messageId);
+        long step = step(hash);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(hash + i * step, bitCount);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    void put(String messageId) {
+        long hash = hash(messageId);
+        long step = step(hash);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(hash + i * step, bitCount);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current;
+            while (((current = words.get(word)) & mask) == 0 && !words.compareAndSet(word, current, current | mask)) {
+                // another thread changed the word, retry with its value
+            }
+        }
+        insertions.incrementAndGet();
+    }
+
+    boolean isFull() {
+        return insertions.get() >= capacity;
+    }
+
+    // 64 bit FNV-1a, String.hashCode has too few bits for filters of this size
+    private static long hash(String messageId) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < messageId.length(); i++) {
+            hash ^= messageId.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    private static long step(long hash) {
+        long step = (hash ^ (hash >>> 33)) * 0xff51afd7ed558ccdL;
+        step = (step ^ (step >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return (step ^ (step >>> 33)) | 1;
+    }
+}
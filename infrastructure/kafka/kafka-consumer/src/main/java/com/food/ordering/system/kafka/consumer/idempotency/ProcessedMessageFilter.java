@@ -0,0 +1,128 @@
+package com.food.ordering.system.kafka.consumer.idempotency;
+
+import com.food.ordering.system.kafka.config.data.KafkaConsumerConfigData;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Drops redelivered messages before they reach the business logic. A listener opts in by creating a filter over
+ * its service's {@link ProcessedMessageStore}.
+ * <p>
+ * An id the bloom filter has never seen belongs to a new message, which goes straight through without a store
+ * lookup. Only a possible duplicate that is not in the cache of recently processed ids is looked up, once per poll.
+ * The store is written in the business transaction and has the final say: a duplicate the filter no longer knows,
+ * for example after a restart, fails on the store's primary key and is recognised by a lookup afterwards. The bloom
+ * filter is replaced once it holds the expected number of ids, the previous one is still consulted until the next
+ * replacement.
+ */
+@Slf4j
+public class ProcessedMessageFilter {
+
+    private final ProcessedMessageStore processedMessageStore;
+    private final int expectedInsertions;
+    private final double falsePositiveRate;
+    private final Map<String, Boolean> recentlyProcessed;
+    private volatile MessageIdBloomFilter currentBloomFilter;
+    private volatile MessageIdBloomFilter previousBloomFilter;
+
+    public ProcessedMessageFilter(ProcessedMessageStore processedMessageStore,
+                                  KafkaConsumerConfigData kafkaConsumerConfigData) {
+        this.processedMessageStore = processedMessageStore;
+        this.expectedInsertions = kafkaConsumerConfigData.getProcessedMessageFilterExpectedInsertions();
+        this.falsePositiveRate = kafkaConsumerConfigData.getProcessedMessageFilterFalsePositiveRate();
+        int cacheSize = kafkaConsumerConfigData.getProcessedMessageCacheSize();
+        this.recentlyProcessed = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > cacheSize;
+            }
+        });
+        this.currentBloomFilter = new MessageIdBloomFilter(expectedInsertions, falsePositiveRate);
+    }
+
+    /**
+     * Returns the messages that have not been processed yet, in their original order. A message repeated within
+     * the list is kept once.
+     */
+    public <T> List<T> removeProcessed(List<T> messages, Function<T, String> messageId) {
+        Set<String> processedIds = new HashSet<>();
+        List<String> possiblyProcessedIds = new ArrayList<>();
+        for (T message : messages) {
+            String id = messageId.apply(message);
+            if (recentlyProcessed.get(id) != null) {
+                processedIds.add(id);
+            } else if (mightHaveProcessed(id)) {
+                possiblyProcessedIds.add(id);
+            }
+        }
+        if (!possiblyProcessedIds.isEmpty()) {
+            Set<String> storedIds = processedMessageStore.findProcessed(possiblyProcessedIds);
+            storedIds.forEach(id -> recentlyProcessed.put(id, Boolean.TRUE));
+            processedIds.addAll(storedIds);
+        }
+
+        List<T> newMessages = new ArrayList<>(messages.size());
+        Set<String> newIds = new HashSet<>();
+        for (T message : messages) {
+            String id = messageId.apply(message);
+            if (processedIds.contains(id) || !newIds.add(id)) {
+                log.info("Skipping message with id: {}, it has already been processed", id);
+            } else {
+                newMessages.add(message);
+            }
+        }
+        return newMessages;
+    }
+
+    /**
+     * Hands a message returned by removeProcessed to the handler and marks it processed once the handler returns.
+     */
+    public <T> void process(T message, String messageId, Consumer<T> handler) {
+        try {
+            handler.accept(message);
+        } catch (DataIntegrityViolationException e) {
+            if (!isProcessed(messageId)) {
+                throw e;
+            }
+            log.info("Message with id: {} was processed by an earlier delivery, skipping it", messageId);
+        }
+        markProcessed(Collections.singletonList(messageId));
+    }
+
+    public boolean isProcessed(String messageId) {
+        return recentlyProcessed.get(messageId) != null ||
+                processedMessageStore.findProcessed(Collections.singletonList(messageId)).contains(messageId);
+    }
+
+    /**
+     * To be called after the business transaction of the messages has committed.
+     */
+    public void markProcessed(Collection<String> messageIds) {
+        messageIds.forEach(messageId -> {
+            bloomFilterWithCapacity().put(messageId);
+            recentlyProcessed.put(messageId, Boolean.TRUE);
+        });
+    }
+
+    private boolean mightHaveProcessed(String messageId) {
+        MessageIdBloomFilter previous = previousBloomFilter;
+        return currentBloomFilter.mightContain(messageId) || (previous != null && previous.mightContain(messageId));
+    }
+
+    private MessageIdBloomFilter bloomFilterWithCapacity() {
+        MessageIdBloomFilter current = currentBloomFilter;
+        return current.isFull() ? replaceBloomFilter(current) : current;
+    }
+
+    private synchronized MessageIdBloomFilter replaceBloomFilter(MessageIdBloomFilter full) {
+        if (currentBloomFilter == full) {
+            previousBloomFilter = full;
+            currentBloomFilter = new MessageIdBloomFilter(expectedInsertions, falsePositiveRate);
+        }
+        return currentBloomFilter;
+    }
+}
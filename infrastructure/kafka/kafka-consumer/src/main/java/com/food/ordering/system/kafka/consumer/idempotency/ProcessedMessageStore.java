@@ -0,0 +1,12 @@
+package com.food.ordering.system.kafka.consumer.idempotency;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Durable record of processed message ids, written by the service in the same transaction as the business change.
+ */
+@FunctionalInterface
+public interface ProcessedMessageStore {
+    Set<String> findProcessed(Collection<String> messageIds);
+}
@@ -0,0 +1,77 @@
+package com.food.ordering.system.kafka.consumer.retry;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.listener.BatchInterceptor;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.MessageListenerContainer;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Holds records of a retry topic back until they have waited the delay of their tier. The consumer is sought back to
+ * the first record of a partition that is not due yet and the partition is paused on the container until then, so
+ * the consumer thread keeps polling its other partitions and stays responsive to stop and rebalance. Records of a
+ * retry topic are in failure order, so the records after it are not due either. Only the released records reach
+ * the listener and have their offsets committed, which holds as long as the container intercepts before invoking
+ * the listener, its default without a Kafka transaction manager.
+ */
+@Slf4j
+public class RetryTopicDelayInterceptor<K, V> implements BatchInterceptor<K, V> {
+
+    private final RetryTopicResolver retryTopicResolver;
+    private final MessageListenerContainer container;
+    private final ScheduledExecutorService resumeScheduler;
+
+    public RetryTopicDelayInterceptor(RetryTopicResolver retryTopicResolver,
+                                      MessageListenerContainer container,
+                                      ScheduledExecutorService resumeScheduler) {
+        this.retryTopicResolver = retryTopicResolver;
+        this.container = container;
+        this.resumeScheduler = resumeScheduler;
+    }
+
+    @Override
+    public ConsumerRecords<K, V> intercept(ConsumerRecords<K, V> records, Consumer<K, V> consumer) {
+        long now = System.currentTimeMillis();
+        Map<TopicPartition, List<ConsumerRecord<K, V>>> dueRecords = new HashMap<>();
+        for (TopicPartition topicPartition : records.partitions()) {
+            List<ConsumerRecord<K, V>> partitionRecords = records.records(topicPartition);
+            long delayMs = retryTopicResolver.delayMs(topicPartition.topic());
+            int due = 0;
+            while (due < partitionRecords.size() && partitionRecords.get(due).timestamp() + delayMs <= now) {
+                due++;
+            }
+            if (due > 0) {
+                dueRecords.put(topicPartition, partitionRecords.subList(0, due));
+            }
+            if (due < partitionRecords.size()) {
+                ConsumerRecord<K, V> firstNotDue = partitionRecords.get(due);
+                long waitMs = firstNotDue.timestamp() + delayMs - now;
+                log.info("Holding back {} retried records of {} for {} ms", partitionRecords.size() - due,
+                        topicPartition, waitMs);
+                consumer.seek(topicPartition, firstNotDue.offset());
+                container.pausePartition(topicPartition);
+                resumeScheduler.schedule(() -> resume(topicPartition), waitMs, TimeUnit.MILLISECONDS);
+            }
+        }
+        return dueRecords.isEmpty() ? null : new ConsumerRecords<>(dueRecords);
+    }
+
+    private void resume(TopicPartition topicPartition) {
+        // a rebalance may have moved the partition to another consumer of the container since it was paused
+        if (container instanceof ConcurrentMessageListenerContainer) {
+            ((ConcurrentMessageListenerContainer<?, ?>) container).getContainers()
+                    .forEach(childContainer -> childContainer.resumePartition(topicPartition));
+        } else {
+            container.resumePartition(topicPartition);
+        }
+    }
+}
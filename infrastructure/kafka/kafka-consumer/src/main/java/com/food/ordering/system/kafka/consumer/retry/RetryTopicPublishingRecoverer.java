@@ -0,0 +1,34 @@
+package com.food.ordering.system.kafka.consumer.retry;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Headers;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+
+/**
+ * Publishes a failed record to its next retry tier or the dead letter topic, see {@link RetryTopicResolver}. The
+ * record carries the standard dead letter headers with the original topic, partition, offset, timestamp, consumer
+ * group and the exception, so it can be replayed to the original topic with a tool. The copy gets the time it was
+ * published as its timestamp, the tier delays are measured from there.
+ */
+public class RetryTopicPublishingRecoverer extends DeadLetterPublishingRecoverer {
+
+    public RetryTopicPublishingRecoverer(KafkaOperations<?, ?> kafkaOperations,
+                                         RetryTopicResolver retryTopicResolver) {
+        super(kafkaOperations, retryTopicResolver::nextTopic);
+    }
+
+    @Override
+    protected ProducerRecord<Object, Object> createProducerRecord(ConsumerRecord<?, ?> record,
+                                                                  TopicPartition topicPartition,
+                                                                  Headers headers,
+                                                                  byte[] key,
+                                                                  byte[] value) {
+        ProducerRecord<Object, Object> producerRecord =
+                super.createProducerRecord(record, topicPartition, headers, key, value);
+        return new ProducerRecord<>(producerRecord.topic(), producerRecord.partition(), null,
+                producerRecord.key(), producerRecord.value(), producerRecord.headers());
+    }
+}
@@ -0,0 +1,63 @@
+package com.food.ordering.system.kafka.consumer.retry;
+
+import com.food.ordering.system.kafka.config.data.KafkaConsumerConfigData;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Names the retry tiers of a topic. A record that fails on topic {@code t} moves to {@code t-retry-0}, then through
+ * one retry topic per configured delay, and after the last one to {@code t-dlt}. Listeners subscribe to the retry
+ * topics with the {@code retryKafkaListenerContainerFactory}, one {@code @KafkaListener} per configured delay.
+ */
+@Component
+public class RetryTopicResolver {
+
+    public static final String RETRY_TOPIC_SUFFIX = "-retry-";
+    public static final String DEAD_LETTER_TOPIC_SUFFIX = "-dlt";
+
+    private final KafkaConsumerConfigData kafkaConsumerConfigData;
+
+    public RetryTopicResolver(KafkaConsumerConfigData kafkaConsumerConfigData) {
+        this.kafkaConsumerConfigData = kafkaConsumerConfigData;
+    }
+
+    /**
+     * Destination of a failed record, partition -1 lets the producer pick the partition from the record key.
+     */
+    public TopicPartition nextTopic(ConsumerRecord<?, ?> record, Exception exception) {
+        String topic = record.topic();
+        int tierCount = kafkaConsumerConfigData.getRetryTopicDelaysMs().size();
+        int tier = tierOf(topic);
+        if (tier < 0) {
+            return new TopicPartition(tierCount > 0 ? topic + RETRY_TOPIC_SUFFIX + 0 : topic + DEAD_LETTER_TOPIC_SUFFIX,
+                    -1);
+        }
+        String mainTopic = topic.substring(0, topic.lastIndexOf(RETRY_TOPIC_SUFFIX));
+        return new TopicPartition(tier + 1 < tierCount ? mainTopic + RETRY_TOPIC_SUFFIX + (tier + 1) :
+                mainTopic + DEAD_LETTER_TOPIC_SUFFIX, -1);
+    }
+
+    /**
+     * Time a record waits on the given topic before it is consumed again, zero for topics outside the retry tiers.
+     */
+    public long delayMs(String topic) {
+        int tier = tierOf(topic);
+        List<Long> delays = kafkaConsumerConfigData.getRetryTopicDelaysMs();
+        return tier < 0 || tier >= delays.size() ? 0L : delays.get(tier);
+    }
+
+    private int tierOf(String topic) {
+        int suffixStart = topic.lastIndexOf(RETRY_TOPIC_SUFFIX);
+        if (suffixStart < 0) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(topic.substring(suffixStart + RETRY_TOPIC_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
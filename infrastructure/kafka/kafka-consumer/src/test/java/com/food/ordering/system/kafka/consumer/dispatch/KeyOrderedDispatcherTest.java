@@ -0,0 +1,143 @@
+package com.food.ordering.system.kafka.consumer.dispatch;
+
+import com.food.ordering.system.kafka.config.data.KafkaConsumerConfigData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class KeyOrderedDispatcherTest {
+
+    private static final int THREADS = 4;
+    private static final int KEYS = 16;
+    private static final int MESSAGES_PER_KEY = 200;
+
+    private KeyOrderedDispatcher keyOrderedDispatcher;
+
+    @AfterEach
+    public void shutdown() {
+        keyOrderedDispatcher.shutdown();
+    }
+
+    @Test
+    public void testMessagesOfAKeyKeepPollOrderAcrossLanes() {
+        keyOrderedDispatcher = new KeyOrderedDispatcher(configData(true, THREADS));
+        List<Message> batch = new ArrayList<>();
+        for (int sequence = 0; sequence < MESSAGES_PER_KEY; sequence++) {
+            for (int key = 0; key < KEYS; key++) {
+                batch.add(new Message(String.valueOf(key), sequence));
+            }
+        }
+        Map<String, List<Integer>> handledSequences = new ConcurrentHashMap<>();
+        Map<String, Boolean> threadNames = new ConcurrentHashMap<>();
+
+        keyOrderedDispatcher.dispatch(batch, batch, Message::getKey, message -> {
+            threadNames.put(Thread.currentThread().getName(), Boolean.TRUE);
+            handledSequences.computeIfAbsent(message.getKey(), key -> Collections.synchronizedList(new ArrayList<>()))
+                    .add(message.getSequence());
+        });
+
+        assertEquals(KEYS, handledSequences.size());
+        handledSequences.values().forEach(sequences -> {
+            assertEquals(MESSAGES_PER_KEY, sequences.size());
+            for (int i = 0; i < sequences.size(); i++) {
+                assertEquals(i, sequences.get(i));
+            }
+        });
+        assertTrue(threadNames.size() > 1);
+    }
+
+    @Test
+    public void testLaneStopsAtItsFirstFailure() {
+        keyOrderedDispatcher = new KeyOrderedDispatcher(configData(false, null));
+        List<Message> batch = messages("a", "a", "a", "a");
+        List<Message> handled = new ArrayList<>();
+        RuntimeException failure = new RuntimeException("failed");
+
+        BatchListenerFailedException exception = assertThrows(BatchListenerFailedException.class, () ->
+                keyOrderedDispatcher.dispatch(batch, batch, Message::getKey, message -> {
+                    if (message == batch.get(1)) {
+                        throw failure;
+                    }
+                    handled.add(message);
+                }));
+
+        assertEquals(Collections.singletonList(batch.get(0)), handled);
+        assertEquals(1, exception.getIndex());
+        assertSame(failure, exception.getCause());
+    }
+
+    @Test
+    public void testFailureIndexCountsFilteredOutMessagesOfThePolledBatch() {
+        keyOrderedDispatcher = new KeyOrderedDispatcher(configData(true, 2));
+        // keys "0" and "1" go to different lanes, the filtered out duplicates sit before each failure
+        List<Message> batch = messages("0", "1", "0", "1", "1", "0", "1");
+        List<Message> newMessages = Arrays.asList(batch.get(1), batch.get(4), batch.get(5), batch.get(6));
+
+        BatchListenerFailedException exception = assertThrows(BatchListenerFailedException.class, () ->
+                keyOrderedDispatcher.dispatch(batch, newMessages, Message::getKey, message -> {
+                    if (message == batch.get(4) || message == batch.get(5)) {
+                        throw new RuntimeException("failed");
+                    }
+                }));
+
+        assertEquals(4, exception.getIndex());
+    }
+
+    @Test
+    public void testBatchHandlerFailureIsReportedAtTheNamedMessage() {
+        keyOrderedDispatcher = new KeyOrderedDispatcher(configData(true, 2));
+        List<Message> batch = messages("0", "0", "0", "0");
+        List<Message> newMessages = batch.subList(1, batch.size());
+
+        BatchListenerFailedException exception = assertThrows(BatchListenerFailedException.class, () ->
+                keyOrderedDispatcher.dispatchBatches(batch, newMessages, Message::getKey, lane -> {
+                    throw new KeyOrderedDispatcher.MessageFailedException(lane.get(1),
+                            new RuntimeException("failed"));
+                }));
+
+        assertEquals(2, exception.getIndex());
+    }
+
+    private KafkaConsumerConfigData configData(boolean keyOrderedDispatchEnabled, Integer threads) {
+        KafkaConsumerConfigData kafkaConsumerConfigData = new KafkaConsumerConfigData();
+        kafkaConsumerConfigData.setKeyOrderedDispatchEnabled(keyOrderedDispatchEnabled);
+        kafkaConsumerConfigData.setKeyOrderedDispatchThreads(threads);
+        return kafkaConsumerConfigData;
+    }
+
+    private List<Message> messages(String... keys) {
+        List<Message> messages = Arrays.stream(keys).map(key -> new Message(key, 0)).collect(Collectors.toList());
+        return Collections.unmodifiableList(messages);
+    }
+
+    private static class Message {
+        private final String key;
+        private final int sequence;
+
+        private Message(String key, int sequence) {
+            this.key = key;
+            this.sequence = sequence;
+        }
+
+        private String getKey() {
+            return key;
+        }
+
+        private int getSequence() {
+            return sequence;
+        }
+    }
+}
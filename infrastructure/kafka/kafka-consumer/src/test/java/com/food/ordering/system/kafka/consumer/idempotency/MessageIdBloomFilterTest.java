@@ -0,0 +1,53 @@
+package com.food.ordering.system.kafka.consumer.idempotency;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MessageIdBloomFilterTest {
+
+    private static final int EXPECTED_INSERTIONS = 10_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    @Test
+    public void testInsertedIdsAreAlwaysFound() {
+        MessageIdBloomFilter bloomFilter = new MessageIdBloomFilter(EXPECTED_INSERTIONS, FALSE_POSITIVE_RATE);
+        for (int i = 0; i < EXPECTED_INSERTIONS; i++) {
+            bloomFilter.put(messageId(i));
+        }
+        for (int i = 0; i < EXPECTED_INSERTIONS; i++) {
+            assertTrue(bloomFilter.mightContain(messageId(i)));
+        }
+    }
+
+    @Test
+    public void testFalsePositivesStayNearTheConfiguredRate() {
+        MessageIdBloomFilter bloomFilter = new MessageIdBloomFilter(EXPECTED_INSERTIONS, FALSE_POSITIVE_RATE);
+        for (int i = 0; i < EXPECTED_INSERTIONS; i++) {
+            bloomFilter.put(messageId(i));
+        }
+        int falsePositives = 0;
+        for (int i = EXPECTED_INSERTIONS; i < 2 * EXPECTED_INSERTIONS; i++) {
+            if (bloomFilter.mightContain(messageId(i))) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 2 * FALSE_POSITIVE_RATE * EXPECTED_INSERTIONS);
+    }
+
+    @Test
+    public void testFilterIsFullAtItsExpectedInsertions() {
+        MessageIdBloomFilter bloomFilter = new MessageIdBloomFilter(2, FALSE_POSITIVE_RATE);
+        bloomFilter.put(messageId(0));
+        assertFalse(bloomFilter.isFull());
+        bloomFilter.put(messageId(1));
+        assertTrue(bloomFilter.isFull());
+    }
+
+    private String messageId(int i) {
+        return new UUID(0x0190_0000_0000_7000L, i).toString();
+    }
+}
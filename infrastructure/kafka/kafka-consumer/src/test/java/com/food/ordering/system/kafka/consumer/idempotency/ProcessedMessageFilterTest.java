@@ -0,0 +1,119 @@
+package com.food.ordering.system.kafka.consumer.idempotency;
+
+import com.food.ordering.system.kafka.config.data.KafkaConsumerConfigData;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ProcessedMessageFilterTest {
+
+    private final RecordingStore store = new RecordingStore();
+
+    @Test
+    public void testNewMessagesPassWithoutStoreLookup() {
+        ProcessedMessageFilter filter = new ProcessedMessageFilter(store, configData(100));
+        List<String> messages = Arrays.asList("m1", "m2", "m3");
+
+        assertEquals(messages, filter.removeProcessed(messages, Function.identity()));
+        assertTrue(store.lookups.isEmpty());
+    }
+
+    @Test
+    public void testPossibleDuplicatesAreLookedUpOncePerPoll() {
+        // a cache of one id leaves the bloom filter to answer for the others, as after a busy period
+        ProcessedMessageFilter filter = new ProcessedMessageFilter(store, configData(1));
+        filter.markProcessed(Arrays.asList("m1", "m2", "m3", "m4"));
+        store.storedIds.add("m2");
+
+        List<String> newMessages = filter.removeProcessed(Arrays.asList("m1", "m2", "m3", "m5"), Function.identity());
+
+        assertEquals(Arrays.asList("m1", "m3", "m5"), newMessages);
+        assertEquals(1, store.lookups.size());
+        assertEquals(new HashSet<>(Arrays.asList("m1", "m2", "m3")), new HashSet<>(store.lookups.get(0)));
+    }
+
+    @Test
+    public void testRecentlyProcessedIdsAreEvictedLeastRecentlyUsedFirst() {
+        ProcessedMessageFilter filter = new ProcessedMessageFilter(store, configData(2));
+        filter.markProcessed(Arrays.asList("m1", "m2"));
+        assertTrue(filter.isProcessed("m1"));
+        filter.markProcessed(Collections.singletonList("m3"));
+        assertTrue(store.lookups.isEmpty());
+
+        assertTrue(filter.isProcessed("m1"));
+        assertTrue(filter.isProcessed("m3"));
+        assertTrue(store.lookups.isEmpty());
+        assertFalse(filter.isProcessed("m2"));
+        assertEquals(Collections.singletonList(Collections.singletonList("m2")), store.lookups);
+    }
+
+    @Test
+    public void testMessageIsRemovedOnceWithinAPoll() {
+        ProcessedMessageFilter filter = new ProcessedMessageFilter(store, configData(100));
+
+        assertEquals(Arrays.asList("m1", "m2"),
+                filter.removeProcessed(Arrays.asList("m1", "m2", "m1"), Function.identity()));
+    }
+
+    @Test
+    public void testDuplicateKeyOfAStoredMessageIsSkipped() {
+        ProcessedMessageFilter filter = new ProcessedMessageFilter(store, configData(100));
+        store.storedIds.add("m1");
+
+        filter.process("m1", "m1", message -> {
+            throw new DataIntegrityViolationException("duplicate key");
+        });
+
+        assertTrue(filter.removeProcessed(Collections.singletonList("m1"), Function.identity()).isEmpty());
+    }
+
+    @Test
+    public void testOtherDataIntegrityViolationIsRethrown() {
+        ProcessedMessageFilter filter = new ProcessedMessageFilter(store, configData(100));
+        DataIntegrityViolationException violation = new DataIntegrityViolationException("not null");
+
+        DataIntegrityViolationException thrown = assertThrows(DataIntegrityViolationException.class, () ->
+                filter.process("m1", "m1", message -> {
+                    throw violation;
+                }));
+
+        assertSame(violation, thrown);
+        assertEquals(Collections.singletonList("m1"),
+                filter.removeProcessed(Collections.singletonList("m1"), Function.identity()));
+    }
+
+    private KafkaConsumerConfigData configData(int cacheSize) {
+        KafkaConsumerConfigData kafkaConsumerConfigData = new KafkaConsumerConfigData();
+        kafkaConsumerConfigData.setProcessedMessageFilterExpectedInsertions(1000);
+        kafkaConsumerConfigData.setProcessedMessageFilterFalsePositiveRate(0.001);
+        kafkaConsumerConfigData.setProcessedMessageCacheSize(cacheSize);
+        return kafkaConsumerConfigData;
+    }
+
+    private static class RecordingStore implements ProcessedMessageStore {
+        private final Set<String> storedIds = new HashSet<>();
+        private final List<List<String>> lookups = new ArrayList<>();
+
+        @Override
+        public Set<String> findProcessed(Collection<String> messageIds) {
+            lookups.add(new ArrayList<>(messageIds));
+            Set<String> processed = new HashSet<>(messageIds);
+            processed.retainAll(storedIds);
+            return processed;
+        }
+    }
+}
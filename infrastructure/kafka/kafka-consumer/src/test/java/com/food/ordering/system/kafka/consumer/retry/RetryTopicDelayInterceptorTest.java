@@ -0,0 +1,144 @@
+package com.food.ordering.system.kafka.consumer.retry;
+
+import com.food.ordering.system.kafka.config.data.KafkaConsumerConfigData;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.KafkaMessageListenerContainer;
+import org.springframework.kafka.listener.MessageListenerContainer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class RetryTopicDelayInterceptorTest {
+
+    private static final String RETRY_TOPIC = "payment-request-retry-0";
+    private static final long VERIFY_TIMEOUT_MS = 5000;
+
+    private final MockConsumer<String, String> consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+    private final ScheduledExecutorService resumeScheduler = Executors.newSingleThreadScheduledExecutor();
+    private final MessageListenerContainer container = mock(MessageListenerContainer.class);
+
+    @AfterEach
+    public void shutdown() {
+        resumeScheduler.shutdownNow();
+    }
+
+    @Test
+    public void testRecordsFromTheFirstNotDueOneAreHeldBack() {
+        RetryTopicDelayInterceptor<String, String> interceptor = interceptor(container, 60_000L);
+        TopicPartition mixed = assign(0);
+        TopicPartition due = assign(1);
+        TopicPartition notDue = assign(2);
+        long now = System.currentTimeMillis();
+        long past = now - 120_000L;
+        Map<TopicPartition, List<ConsumerRecord<String, String>>> polled = new HashMap<>();
+        polled.put(mixed, Arrays.asList(record(mixed, 0, past), record(mixed, 1, past), record(mixed, 2, now),
+                record(mixed, 3, now)));
+        polled.put(due, Arrays.asList(record(due, 5, past), record(due, 6, past)));
+        polled.put(notDue, Collections.singletonList(record(notDue, 7, now)));
+
+        ConsumerRecords<String, String> released = interceptor.intercept(new ConsumerRecords<>(polled), consumer);
+
+        assertEquals(polled.get(mixed).subList(0, 2), released.records(mixed));
+        assertEquals(polled.get(due), released.records(due));
+        assertEquals(Collections.emptyList(), released.records(notDue));
+        assertEquals(2, consumer.position(mixed));
+        assertEquals(7, consumer.position(notDue));
+        verify(container).pausePartition(mixed);
+        verify(container).pausePartition(notDue);
+        verify(container, never()).pausePartition(due);
+        verify(container, never()).resumePartition(any());
+    }
+
+    @Test
+    public void testBatchWithoutDueRecordsIsSkipped() {
+        RetryTopicDelayInterceptor<String, String> interceptor = interceptor(container, 60_000L);
+        TopicPartition topicPartition = assign(0);
+        ConsumerRecords<String, String> polled = new ConsumerRecords<>(Collections.singletonMap(topicPartition,
+                Collections.singletonList(record(topicPartition, 3, System.currentTimeMillis()))));
+
+        assertNull(interceptor.intercept(polled, consumer));
+        assertEquals(3, consumer.position(topicPartition));
+        verify(container).pausePartition(topicPartition);
+    }
+
+    @Test
+    public void testPartitionIsResumedOnceDue() {
+        RetryTopicDelayInterceptor<String, String> interceptor = interceptor(container, 200L);
+        TopicPartition topicPartition = assign(0);
+        ConsumerRecords<String, String> polled = new ConsumerRecords<>(Collections.singletonMap(topicPartition,
+                Collections.singletonList(record(topicPartition, 0, System.currentTimeMillis()))));
+
+        interceptor.intercept(polled, consumer);
+
+        verify(container).pausePartition(topicPartition);
+        verify(container, timeout(VERIFY_TIMEOUT_MS)).resumePartition(topicPartition);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testResumeReachesEveryConsumerOfAConcurrentContainer() {
+        ConcurrentMessageListenerContainer<String, String> concurrentContainer =
+                mock(ConcurrentMessageListenerContainer.class);
+        List<KafkaMessageListenerContainer<String, String>> childContainers = new ArrayList<>();
+        childContainers.add(mock(KafkaMessageListenerContainer.class));
+        childContainers.add(mock(KafkaMessageListenerContainer.class));
+        when(concurrentContainer.getContainers()).thenReturn(childContainers);
+        RetryTopicDelayInterceptor<String, String> interceptor = interceptor(concurrentContainer, 200L);
+        TopicPartition topicPartition = assign(0);
+        ConsumerRecords<String, String> polled = new ConsumerRecords<>(Collections.singletonMap(topicPartition,
+                Collections.singletonList(record(topicPartition, 0, System.currentTimeMillis()))));
+
+        interceptor.intercept(polled, consumer);
+
+        // the partition may have moved to another consumer of the container before it is due
+        childContainers.forEach(childContainer ->
+                verify(childContainer, timeout(VERIFY_TIMEOUT_MS)).resumePartition(topicPartition));
+    }
+
+    private RetryTopicDelayInterceptor<String, String> interceptor(MessageListenerContainer listenerContainer,
+                                                                   long delayMs) {
+        KafkaConsumerConfigData kafkaConsumerConfigData = new KafkaConsumerConfigData();
+        kafkaConsumerConfigData.setRetryTopicDelaysMs(Collections.singletonList(delayMs));
+        return new RetryTopicDelayInterceptor<>(new RetryTopicResolver(kafkaConsumerConfigData), listenerContainer,
+                resumeScheduler);
+    }
+
+    private TopicPartition assign(int partition) {
+        TopicPartition topicPartition = new TopicPartition(RETRY_TOPIC, partition);
+        List<TopicPartition> assignment = new ArrayList<>(consumer.assignment());
+        assignment.add(topicPartition);
+        consumer.assign(assignment);
+        consumer.updateBeginningOffsets(Collections.singletonMap(topicPartition, 0L));
+        return topicPartition;
+    }
+
+    private ConsumerRecord<String, String> record(TopicPartition topicPartition, long offset, long timestamp) {
+        return new ConsumerRecord<>(topicPartition.topic(), topicPartition.partition(), offset, timestamp,
+                TimestampType.CREATE_TIME, 0, 0, "key", "value", new RecordHeaders(), Optional.empty());
+    }
+}
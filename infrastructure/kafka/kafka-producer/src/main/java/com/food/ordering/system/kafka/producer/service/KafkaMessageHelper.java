@@ -1,33 +1,33 @@
 package com.food.ordering.system.kafka.producer.service;
 
+import com.food.ordering.system.domain.logging.SampledLogger;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.kafka.clients.producer.RecordMetadata;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
 import org.springframework.util.concurrent.ListenableFutureCallback;
 
+import java.time.Duration;
+
 @Slf4j
 @Component
 public class KafkaMessageHelper {
+
+    private static final SampledLogger acknowledgedLog =
+            SampledLogger.of(KafkaMessageHelper.class, 1, Duration.ofSeconds(1));
+
     public <T> ListenableFutureCallback<SendResult<String, T>> getKafkaCallback(
             String topicName, T avroModel, String orderID, String avroModelName) {
         return new ListenableFutureCallback<SendResult<String, T>>() {
             @Override
             public void onFailure(Throwable ex) {
-                log.error("Error while sending " + avroModelName + "message {} to topic {}",
-                        avroModel.toString(), topicName);
+                log.error("Error while sending {} message {} to topic {}", avroModelName, avroModel, topicName, ex);
             }
 
             @Override
             public void onSuccess(SendResult<String, T> result) {
-                RecordMetadata recordMetadata = result.getRecordMetadata();
-                log.info("Received successfully response from kafka for order id: {}" +
-                                " Topic: {} Partition: {} Offset: {} Timestamp: {}",
-                        orderID,
-                        recordMetadata.topic(),
-                        recordMetadata.partition(),
-                        recordMetadata.offset(),
-                        recordMetadata.timestamp());
+                // the record metadata prints as topic-partition@offset
+                acknowledgedLog.info("kafka-send-acknowledged", "orderId", orderID,
+                        "record", result.getRecordMetadata());
             }
         };
     }
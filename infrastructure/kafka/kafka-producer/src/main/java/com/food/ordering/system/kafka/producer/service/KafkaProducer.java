@@ -1,10 +1,27 @@
 package com.food.ordering.system.kafka.producer.service;
 
+import org.apache.kafka.clients.producer.ProducerRecord;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.util.concurrent.ListenableFutureCallback;
 
 import java.io.Serializable;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public interface KafkaProducer<K extends Serializable, V extends Serializable> {
+    /**
+     * Waits for the in-flight limit like {@link KafkaSendPolicy#WAIT}, failures are reported to the callback.
+     */
     void send(String topicName, K key, V value, ListenableFutureCallback<SendResult<K, V>> callback);
+
+    CompletableFuture<SendResult<K, V>> send(String topicName, K key, V value, KafkaSendPolicy sendPolicy);
+
+    /**
+     * Hands all records to the producer before returning, so they can share producer batches. The futures are in
+     * the order of the records.
+     */
+    List<CompletableFuture<SendResult<K, V>>> sendBatch(List<ProducerRecord<K, V>> records,
+                                                         KafkaSendPolicy sendPolicy);
+
+    KafkaProducerMetrics getMetrics();
 }
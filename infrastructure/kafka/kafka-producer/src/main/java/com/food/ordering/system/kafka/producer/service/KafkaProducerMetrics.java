@@ -0,0 +1,94 @@
+package com.food.ordering.system.kafka.producer.service;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of a KafkaProducer. Latency is measured from handing a record to the producer until the broker
+ * acknowledged it.
+ */
+public class KafkaProducerMetrics {
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder totalLatencyNanos = new LongAdder();
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+
+    public void recordStarted() {
+        inFlight.incrementAndGet();
+    }
+
+    public void recordSent(long latencyNanos) {
+        inFlight.decrementAndGet();
+        sent.increment();
+        totalLatencyNanos.add(latencyNanos);
+        maxLatencyNanos.accumulateAndGet(latencyNanos, Math::max);
+    }
+
+    public void recordFailed() {
+        inFlight.decrementAndGet();
+        failed.increment();
+    }
+
+    public void recordRejected() {
+        rejected.increment();
+    }
+
+    public void recordWaitStarted() {
+        waiting.incrementAndGet();
+    }
+
+    public void recordWaitEnded() {
+        waiting.decrementAndGet();
+    }
+
+    /**
+     * Records handed to the producer that are not acknowledged yet.
+     */
+    public int getInFlightCount() {
+        return inFlight.get();
+    }
+
+    /**
+     * Callers waiting for the in-flight limit.
+     */
+    public int getWaitingCount() {
+        return waiting.get();
+    }
+
+    public long getSentCount() {
+        return sent.sum();
+    }
+
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    public double getAverageSendLatencyMs() {
+        long count = sent.sum();
+        return count == 0 ? 0.0 : totalLatencyNanos.sum() / (count * 1_000_000.0);
+    }
+
+    public double getMaxSendLatencyMs() {
+        return maxLatencyNanos.get() / 1_000_000.0;
+    }
+
+    @Override
+    public String toString() {
+        return "{inFlight=" + getInFlightCount() +
+                ", waiting=" + getWaitingCount() +
+                ", sent=" + getSentCount() +
+                ", failed=" + getFailedCount() +
+                ", rejected=" + getRejectedCount() +
+                ", averageLatencyMs=" + getAverageSendLatencyMs() +
+                ", maxLatencyMs=" + getMaxSendLatencyMs() + "}";
+    }
+}
@@ -0,0 +1,16 @@
+package com.food.ordering.system.kafka.producer.service;
+
+/**
+ * What a send does when the producer already has the configured maximum of sends in flight.
+ */
+public enum KafkaSendPolicy {
+    /**
+     * The send fails right away with a KafkaProducerException. Meant for callers on a request thread that must
+     * not block; the outbox relays and the callback based send use WAIT.
+     */
+    FAIL_FAST,
+    /**
+     * The caller waits for an in-flight send to complete, at most in-flight-wait-timeout-ms, then the send fails.
+     */
+    WAIT
+}
@@ -1,39 +1,81 @@
 package com.food.ordering.system.kafka.producer.service.impl;
 
+import com.food.ordering.system.domain.logging.SampledLogger;
+import com.food.ordering.system.kafka.config.data.KafkaProducerConfigData;
 import com.food.ordering.system.kafka.producer.service.KafkaProducer;
 import com.food.ordering.system.kafka.producer.exception.KafkaProducerException;
+import com.food.ordering.system.kafka.producer.service.KafkaProducerMetrics;
+import com.food.ordering.system.kafka.producer.service.KafkaSendPolicy;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.avro.specific.SpecificRecordBase;
-import org.springframework.kafka.KafkaException;
+import org.apache.kafka.clients.producer.ProducerRecord;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
-import org.springframework.util.concurrent.ListenableFuture;
 import org.springframework.util.concurrent.ListenableFutureCallback;
 
 import javax.annotation.PreDestroy;
 import java.io.Serializable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Limits the sends in flight, so a slow broker makes callers wait here or fail fast, depending on their
+ * {@link KafkaSendPolicy}, instead of blocking in the producer for up to max.block.ms once its buffer is full.
+ */
 @Slf4j
 @Component
 public class KafkaProducerImpl<K extends Serializable, V extends SpecificRecordBase> implements KafkaProducer<K, V> {
 
+    private static final SampledLogger sendLog = SampledLogger.of(KafkaProducerImpl.class, 1, Duration.ofSeconds(1));
+
     private final KafkaTemplate<K, V> kafkaTemplate;
+    private final Semaphore inFlightPermits;
+    private final int maxInFlightSends;
+    private final long inFlightWaitTimeoutMs;
+    private final KafkaProducerMetrics metrics = new KafkaProducerMetrics();
 
-    public KafkaProducerImpl(KafkaTemplate<K, V> kafkaTemplate) {
+    public KafkaProducerImpl(KafkaTemplate<K, V> kafkaTemplate, KafkaProducerConfigData kafkaProducerConfigData) {
         this.kafkaTemplate = kafkaTemplate;
+        this.maxInFlightSends = kafkaProducerConfigData.getMaxInFlightSends() == null ? Integer.MAX_VALUE :
+                kafkaProducerConfigData.getMaxInFlightSends();
+        this.inFlightWaitTimeoutMs = kafkaProducerConfigData.getInFlightWaitTimeoutMs() == null ? 0L :
+                kafkaProducerConfigData.getInFlightWaitTimeoutMs();
+        this.inFlightPermits = new Semaphore(maxInFlightSends);
     }
 
     @Override
     public void send(String topicName, K key, V message, ListenableFutureCallback<SendResult<K, V>> callback) {
-        log.info("Sending message={} o topic={}", message, topicName);
-        try {
-            ListenableFuture<SendResult<K, V>> listenableFuture = kafkaTemplate.send(topicName, key, message);
-            listenableFuture.addCallback(callback);
-        } catch (KafkaException e) {
-            log.error("Error on kafka producer with key: {}, message: {} and exception: {}", key, message, e.getMessage());
-            throw new KafkaProducerException("Error on kafka producer with key: " + key +" and message: " + message);
-        }
+        send(new ProducerRecord<>(topicName, key, message), KafkaSendPolicy.WAIT).whenComplete((result, ex) -> {
+            if (ex == null) {
+                callback.onSuccess(result);
+            } else {
+                callback.onFailure(ex);
+            }
+        });
+    }
+
+    @Override
+    public CompletableFuture<SendResult<K, V>> send(String topicName, K key, V message, KafkaSendPolicy sendPolicy) {
+        return send(new ProducerRecord<>(topicName, key, message), sendPolicy);
+    }
+
+    @Override
+    public List<CompletableFuture<SendResult<K, V>>> sendBatch(List<ProducerRecord<K, V>> records,
+                                                                KafkaSendPolicy sendPolicy) {
+        log.debug("Sending {} messages", records.size());
+        List<CompletableFuture<SendResult<K, V>>> futures = new ArrayList<>(records.size());
+        records.forEach(record -> futures.add(send(record, sendPolicy)));
+        return futures;
+    }
+
+    @Override
+    public KafkaProducerMetrics getMetrics() {
+        return metrics;
     }
 
     @PreDestroy
@@ -43,4 +85,58 @@ public class KafkaProducerImpl<K extends Serializable, V extends SpecificRecordB
             kafkaTemplate.destroy();
         }
     }
+
+    private CompletableFuture<SendResult<K, V>> send(ProducerRecord<K, V> record, KafkaSendPolicy sendPolicy) {
+        CompletableFuture<SendResult<K, V>> future = new CompletableFuture<>();
+        if (!acquireInFlightPermit(sendPolicy)) {
+            metrics.recordRejected();
+            log.warn("Rejecting message with key: {} to topic: {}, {} sends are in flight",
+                    record.key(), record.topic(), maxInFlightSends);
+            future.completeExceptionally(new KafkaProducerException("Kafka producer has reached its limit of " +
+                    maxInFlightSends + " sends in flight, message with key: " + record.key() + " is not sent"));
+            return future;
+        }
+
+        log.debug("Sending message with key: {} to topic: {}", record.key(), record.topic());
+        sendLog.info("kafka-send", "topic", record.topic(), "metrics", metrics);
+        long startNanos = System.nanoTime();
+        metrics.recordStarted();
+        try {
+            kafkaTemplate.send(record).addCallback(result -> {
+                inFlightPermits.release();
+                metrics.recordSent(System.nanoTime() - startNanos);
+                future.complete(result);
+            }, ex -> {
+                inFlightPermits.release();
+                metrics.recordFailed();
+                future.completeExceptionally(ex);
+            });
+        } catch (RuntimeException e) {
+            inFlightPermits.release();
+            metrics.recordFailed();
+            log.error("Error on kafka producer with key: {}, message: {} and exception: {}",
+                    record.key(), record.value(), e.getMessage());
+            future.completeExceptionally(new KafkaProducerException("Error on kafka producer with key: " +
+                    record.key() + " and message: " + record.value(), e));
+        }
+        return future;
+    }
+
+    private boolean acquireInFlightPermit(KafkaSendPolicy sendPolicy) {
+        if (inFlightPermits.tryAcquire()) {
+            return true;
+        }
+        if (sendPolicy == KafkaSendPolicy.FAIL_FAST) {
+            return false;
+        }
+        metrics.recordWaitStarted();
+        try {
+            return inFlightPermits.tryAcquire(inFlightWaitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            metrics.recordWaitEnded();
+        }
+    }
 }
@@ -4,13 +4,18 @@ import com.food.ordering.order.system.application.exception.handler.ErrorDTO;
 import com.food.ordering.order.system.application.exception.handler.GlobalExceptionHandler;
 import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
 import com.food.ordering.system.order.service.domain.exception.OrderNotFoundException;
+import com.food.ordering.system.order.service.domain.exception.RestaurantOverloadedException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
+import java.util.concurrent.RejectedExecutionException;
+
 @Slf4j
 @ControllerAdvice
 public class OrderGlobalExceptionHanlder extends GlobalExceptionHandler {
@@ -37,4 +42,25 @@ public class OrderGlobalExceptionHanlder extends GlobalExceptionHandler {
                 .build();
     }
 
+    @ExceptionHandler(value = {RestaurantOverloadedException.class})
+    public ResponseEntity<ErrorDTO> handleException(RestaurantOverloadedException restaurantOverloadedException) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(restaurantOverloadedException.getRetryAfterSeconds()))
+                .body(ErrorDTO.builder()
+                        .code(HttpStatus.TOO_MANY_REQUESTS.getReasonPhrase())
+                        .message(restaurantOverloadedException.getMessage())
+                        .build());
+    }
+
+    @ResponseBody
+    @ExceptionHandler(value = {RejectedExecutionException.class})
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ErrorDTO handleException(RejectedExecutionException rejectedExecutionException) {
+        log.warn("Order request rejected, bulkhead is full");
+        return ErrorDTO.builder()
+                .code(HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase())
+                .message("Too many order requests, please retry later")
+                .build();
+    }
+
 }
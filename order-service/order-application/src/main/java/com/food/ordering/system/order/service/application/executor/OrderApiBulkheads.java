@@ -0,0 +1,53 @@
+package com.food.ordering.system.order.service.application.executor;
+
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Separate bounded pools for order creation and order tracking, so a burst of one cannot take the threads or the
+ * queue of the other. Requests run here instead of on the servlet thread; when a pool and its queue are full the
+ * request is rejected with a RejectedExecutionException rather than queued without limit.
+ */
+@Slf4j
+@Component
+public class OrderApiBulkheads {
+
+    private final ThreadPoolExecutor createExecutor;
+    private final ThreadPoolExecutor trackExecutor;
+
+    public OrderApiBulkheads(OrderServiceConfigData orderServiceConfigData) {
+        this.createExecutor = newBulkhead("order-api-create", orderServiceConfigData.getOrderApiCreateThreads(),
+                orderServiceConfigData.getOrderApiCreateQueueSize());
+        this.trackExecutor = newBulkhead("order-api-track", orderServiceConfigData.getOrderApiTrackThreads(),
+                orderServiceConfigData.getOrderApiTrackQueueSize());
+    }
+
+    public <T> CompletableFuture<T> create(Supplier<T> supplier) {
+        return CompletableFuture.supplyAsync(supplier, createExecutor);
+    }
+
+    public <T> CompletableFuture<T> track(Supplier<T> supplier) {
+        return CompletableFuture.supplyAsync(supplier, trackExecutor);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        createExecutor.shutdown();
+        trackExecutor.shutdown();
+    }
+
+    private ThreadPoolExecutor newBulkhead(String name, int threads, int queueSize) {
+        AtomicInteger threadCount = new AtomicInteger();
+        log.info("Starting {} bulkhead with {} threads and a queue of {}", name, threads, queueSize);
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize),
+                runnable -> new Thread(runnable, name + "-" + threadCount.incrementAndGet()),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+}
@@ -1,41 +1,80 @@
 package com.food.ordering.system.order.service.application.rest;
 
 
+import com.food.ordering.system.order.service.application.executor.OrderApiBulkheads;
+import com.food.ordering.system.order.service.application.stream.OrderStatusStreamRegistry;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResult;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderQuery;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
 import com.food.ordering.system.order.service.domain.ports.input.service.OrderApplicationService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @RestController
 @RequestMapping(value = "/orders", produces = "application/vnd.api.v1+json")
 public class OrderController {
 
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     private final OrderApplicationService orderApplicationService;
+    private final OrderStatusStreamRegistry orderStatusStreamRegistry;
+    private final OrderApiBulkheads orderApiBulkheads;
 
-    public OrderController(OrderApplicationService orderApplicationService) {
+    public OrderController(OrderApplicationService orderApplicationService,
+                           OrderStatusStreamRegistry orderStatusStreamRegistry,
+                           OrderApiBulkheads orderApiBulkheads) {
         this.orderApplicationService = orderApplicationService;
+        this.orderStatusStreamRegistry = orderStatusStreamRegistry;
+        this.orderApiBulkheads = orderApiBulkheads;
     }
 
     @PostMapping
-    public ResponseEntity<CreateOrderResponse> createOrder(@RequestBody CreateOrderCommand createOrderCommand) {
+    public CompletableFuture<ResponseEntity<CreateOrderResponse>> createOrder(
+            @RequestBody CreateOrderCommand createOrderCommand,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
         log.info("Creating order for customer: {} at retaurant: {}", createOrderCommand.getCustomerId(), createOrderCommand.getRestaurantId());
-        CreateOrderResponse createOrderResponse = orderApplicationService.createOrder(createOrderCommand);
-        log.info("Order created with tracking id: {}", createOrderResponse.getOrderTracingId());
-        return ResponseEntity.ok(createOrderResponse);
+        return orderApiBulkheads.create(() -> {
+            CreateOrderResponse createOrderResponse =
+                    orderApplicationService.createOrder(createOrderCommand, idempotencyKey);
+            log.info("Order created with tracking id: {}", createOrderResponse.getOrderTracingId());
+            return ResponseEntity.ok(createOrderResponse);
+        });
+    }
+
+    @PostMapping("/bulk")
+    public CompletableFuture<ResponseEntity<List<CreateOrderResult>>> createOrders(
+            @RequestBody List<CreateOrderCommand> createOrderCommands) {
+        log.info("Creating {} orders in bulk", createOrderCommands.size());
+        return orderApiBulkheads.create(() ->
+                ResponseEntity.ok(orderApplicationService.createOrders(createOrderCommands)));
     }
 
     @GetMapping("/{trackingId}")
-    public ResponseEntity<TrackOrderResponse> getOrderByTrackingId(@PathVariable UUID trackingId) {
+    public CompletableFuture<ResponseEntity<TrackOrderResponse>> getOrderByTrackingId(@PathVariable UUID trackingId) {
+        return orderApiBulkheads.track(() -> {
+            TrackOrderResponse trackOrderResponse = orderApplicationService.trackOrder(
+                    TrackOrderQuery.builder().orderTracingId(trackingId).build());
+            log.info("Order status: {} for tracking id: {}", trackingId, trackOrderResponse.getOrderStatus());
+            return ResponseEntity.ok(trackOrderResponse);
+        });
+    }
+
+    @GetMapping(value = "/{trackingId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamOrderStatus(@PathVariable UUID trackingId) {
         TrackOrderResponse trackOrderResponse =
                 orderApplicationService.trackOrder(TrackOrderQuery.builder().orderTracingId(trackingId).build());
-        log.info("Order status: {} for tracking id: {}", trackingId, trackOrderResponse.getOrderStatus());
-        return ResponseEntity.ok(trackOrderResponse);
+        log.info("Streaming order status for tracking id: {}, current status: {}", trackingId,
+                trackOrderResponse.getOrderStatus());
+        return orderStatusStreamRegistry.subscribe(trackOrderResponse);
     }
 }
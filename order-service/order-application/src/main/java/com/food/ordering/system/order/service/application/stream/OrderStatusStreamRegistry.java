@@ -0,0 +1,189 @@
+package com.food.ordering.system.order.service.application.stream;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.ports.input.service.OrderApplicationService;
+import com.food.ordering.system.order.service.domain.ports.output.notification.OrderStatusChangeNotifier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Open order status streams keyed by tracking id. Streams are servlet async requests, so an idle subscriber holds
+ * no thread; a small dispatcher pool writes buffered events. A subscriber whose buffer overflows is disconnected
+ * and is expected to reconnect. Status changes applied on this node are pushed right after commit, changes applied
+ * by other nodes are picked up by the refresh that runs with every heartbeat.
+ */
+@Slf4j
+@Component
+public class OrderStatusStreamRegistry implements OrderStatusChangeNotifier {
+
+    private static final String ORDER_STATUS_EVENT_NAME = "order-status";
+    private static final SseEmitter.SseEventBuilder COMPLETE = SseEmitter.event();
+
+    private final OrderApplicationService orderApplicationService;
+    private final OrderServiceConfigData orderServiceConfigData;
+    private final ConcurrentHashMap<UUID, Set<OrderStatusSubscription>> subscriptions = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ExecutorService dispatcher;
+
+    public OrderStatusStreamRegistry(OrderApplicationService orderApplicationService,
+                                     OrderServiceConfigData orderServiceConfigData) {
+        this.orderApplicationService = orderApplicationService;
+        this.orderServiceConfigData = orderServiceConfigData;
+        this.dispatcher = Executors.newFixedThreadPool(orderServiceConfigData.getOrderStatusStreamDispatcherThreads());
+    }
+
+    public SseEmitter subscribe(TrackOrderResponse trackOrderResponse) {
+        if (subscriberCount.incrementAndGet() > orderServiceConfigData.getOrderStatusStreamMaxSubscribers()) {
+            subscriberCount.decrementAndGet();
+            log.warn("Rejecting order status stream for tracking id: {}, subscriber limit reached",
+                    trackOrderResponse.getOrderTracingID());
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many order status streams");
+        }
+        UUID trackingId = trackOrderResponse.getOrderTracingID();
+        SseEmitter sseEmitter = createSseEmitter();
+        OrderStatusSubscription subscription = new OrderStatusSubscription(trackingId, sseEmitter,
+                orderServiceConfigData.getOrderStatusStreamBufferSize());
+        sseEmitter.onCompletion(() -> remove(subscription));
+        sseEmitter.onTimeout(() -> remove(subscription));
+        sseEmitter.onError(throwable -> remove(subscription));
+        subscriptions.compute(trackingId, (key, trackingIdSubscriptions) -> {
+            Set<OrderStatusSubscription> result =
+                    trackingIdSubscriptions != null ? trackingIdSubscriptions : ConcurrentHashMap.newKeySet();
+            result.add(subscription);
+            return result;
+        });
+
+        // a change pushed between the status read and the registration is newer, do not overwrite it
+        if (subscription.advanceFromNothingTo(trackOrderResponse.getOrderStatus())) {
+            send(subscription, trackOrderResponse);
+        }
+        log.debug("Order status stream opened for tracking id: {}", trackingId);
+        return sseEmitter;
+    }
+
+    @Override
+    public void orderStatusChanged(List<TrackOrderResponse> trackOrderResponses) {
+        trackOrderResponses.forEach(trackOrderResponse -> {
+            Set<OrderStatusSubscription> trackingIdSubscriptions =
+                    subscriptions.get(trackOrderResponse.getOrderTracingID());
+            if (trackingIdSubscriptions != null) {
+                trackingIdSubscriptions.forEach(subscription -> {
+                    if (subscription.advanceTo(trackOrderResponse.getOrderStatus())) {
+                        send(subscription, trackOrderResponse);
+                    }
+                });
+            }
+        });
+    }
+
+    @Scheduled(fixedRateString = "${order-service.order-status-stream-heartbeat-ms}")
+    public void heartbeat() {
+        if (subscriptions.isEmpty()) {
+            return;
+        }
+        subscriptions.values().forEach(trackingIdSubscriptions -> trackingIdSubscriptions.forEach(subscription ->
+                enqueue(subscription, SseEmitter.event().comment("heartbeat"))));
+
+        int refreshBatchSize = orderServiceConfigData.getOrderStatusStreamRefreshBatchSize();
+        List<UUID> trackingIds = new ArrayList<>(subscriptions.keySet());
+        for (int from = 0; from < trackingIds.size(); from += refreshBatchSize) {
+            orderStatusChanged(orderApplicationService.trackOrders(
+                    trackingIds.subList(from, Math.min(from + refreshBatchSize, trackingIds.size()))));
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+        subscriptions.values().forEach(trackingIdSubscriptions ->
+                trackingIdSubscriptions.forEach(subscription -> subscription.getSseEmitter().complete()));
+    }
+
+    SseEmitter createSseEmitter() {
+        return new SseEmitter(orderServiceConfigData.getOrderStatusStreamTimeoutMs());
+    }
+
+    private void send(OrderStatusSubscription subscription, TrackOrderResponse trackOrderResponse) {
+        enqueue(subscription, SseEmitter.event()
+                .name(ORDER_STATUS_EVENT_NAME)
+                .id(trackOrderResponse.getOrderStatus().name())
+                .data(trackOrderResponse));
+        if (isFinal(trackOrderResponse.getOrderStatus())) {
+            enqueue(subscription, COMPLETE);
+        }
+    }
+
+    private boolean isFinal(OrderStatus orderStatus) {
+        return OrderStatus.APPROVED == orderStatus || OrderStatus.CANCELLED == orderStatus;
+    }
+
+    private void enqueue(OrderStatusSubscription subscription, SseEmitter.SseEventBuilder event) {
+        if (subscription.isClosed()) {
+            return;
+        }
+        if (!subscription.offer(event)) {
+            log.warn("Order status stream for tracking id: {} is not keeping up, disconnecting it",
+                    subscription.getTrackingId());
+            remove(subscription);
+            subscription.getSseEmitter().complete();
+            return;
+        }
+        if (subscription.startDraining()) {
+            dispatcher.execute(() -> drain(subscription));
+        }
+    }
+
+    private void drain(OrderStatusSubscription subscription) {
+        do {
+            SseEmitter.SseEventBuilder event;
+            while ((event = subscription.poll()) != null && !subscription.isClosed()) {
+                try {
+                    if (event == COMPLETE) {
+                        remove(subscription);
+                        subscription.getSseEmitter().complete();
+                    } else {
+                        subscription.getSseEmitter().send(event);
+                    }
+                } catch (IOException | IllegalStateException e) {
+                    log.debug("Order status stream for tracking id: {} is gone: {}", subscription.getTrackingId(),
+                            e.getMessage());
+                    remove(subscription);
+                }
+            }
+            subscription.stopDraining();
+            // an event offered after the last poll but before stopDraining would otherwise wait for the next one
+        } while (subscription.hasBufferedEvents() && !subscription.isClosed() && subscription.startDraining());
+    }
+
+    private void remove(OrderStatusSubscription subscription) {
+        if (!subscription.close()) {
+            return;
+        }
+        subscriberCount.decrementAndGet();
+        subscriptions.computeIfPresent(subscription.getTrackingId(), (trackingId, trackingIdSubscriptions) -> {
+            trackingIdSubscriptions.remove(subscription);
+            return trackingIdSubscriptions.isEmpty() ? null : trackingIdSubscriptions;
+        });
+    }
+}
@@ -0,0 +1,95 @@
+package com.food.ordering.system.order.service.application.stream;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * One open event stream. Events wait in a bounded buffer until a dispatcher thread writes them, so a slow
+ * client never blocks the thread that applied the status change.
+ */
+class OrderStatusSubscription {
+
+    private final UUID trackingId;
+    private final SseEmitter sseEmitter;
+    private final BlockingQueue<SseEmitter.SseEventBuilder> buffer;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private volatile OrderStatus lastOrderStatus;
+
+    OrderStatusSubscription(UUID trackingId, SseEmitter sseEmitter, int bufferSize) {
+        this.trackingId = trackingId;
+        this.sseEmitter = sseEmitter;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+    }
+
+    UUID getTrackingId() {
+        return trackingId;
+    }
+
+    SseEmitter getSseEmitter() {
+        return sseEmitter;
+    }
+
+    boolean offer(SseEmitter.SseEventBuilder event) {
+        return buffer.offer(event);
+    }
+
+    SseEmitter.SseEventBuilder poll() {
+        return buffer.poll();
+    }
+
+    boolean hasBufferedEvents() {
+        return !buffer.isEmpty();
+    }
+
+    boolean startDraining() {
+        return draining.compareAndSet(false, true);
+    }
+
+    void stopDraining() {
+        draining.set(false);
+    }
+
+    boolean close() {
+        return closed.compareAndSet(false, true);
+    }
+
+    boolean isClosed() {
+        return closed.get();
+    }
+
+    /**
+     * Records the status about to be sent, returns false if the client has already been sent this status or one
+     * that comes after it. A refresh that read the order before a newer change was pushed must not send it back.
+     */
+    synchronized boolean advanceTo(OrderStatus orderStatus) {
+        if (lastOrderStatus != null && !isReachable(lastOrderStatus, orderStatus)) {
+            return false;
+        }
+        lastOrderStatus = orderStatus;
+        return true;
+    }
+
+    synchronized boolean advanceFromNothingTo(OrderStatus orderStatus) {
+        return lastOrderStatus == null && advanceTo(orderStatus);
+    }
+
+    // the order lifecycle: PENDING -> PAID -> APPROVED, PAID -> CANCELLING -> CANCELLED, PENDING -> CANCELLED
+    private static boolean isReachable(OrderStatus from, OrderStatus to) {
+        switch (from) {
+            case PENDING:
+                return to != OrderStatus.PENDING;
+            case PAID:
+                return to == OrderStatus.APPROVED || to == OrderStatus.CANCELLING || to == OrderStatus.CANCELLED;
+            case CANCELLING:
+                return to == OrderStatus.CANCELLED;
+            default:
+                return false;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.food.ordering.system.order.service.application.stream;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.ports.input.service.OrderApplicationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class OrderStatusStreamRegistryTest {
+
+    private static final long TIMEOUT_SECONDS = 5;
+    private static final UUID TRACKING_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb41");
+
+    private final OrderApplicationService orderApplicationService = mock(OrderApplicationService.class);
+    private final FakeSseEmitter sseEmitter = new FakeSseEmitter();
+    private OrderStatusStreamRegistry orderStatusStreamRegistry;
+
+    @AfterEach
+    public void shutdown() {
+        sseEmitter.release.countDown();
+        orderStatusStreamRegistry.shutdown();
+    }
+
+    @Test
+    public void testOlderStatusIsNotSentAfterNewerOne() throws Exception {
+        orderStatusStreamRegistry = registry(8);
+        sseEmitter.release.countDown();
+        // the refresh read the order before the saga committed PAID
+        when(orderApplicationService.trackOrders(anyCollection()))
+                .thenReturn(Collections.singletonList(trackOrderResponse(OrderStatus.PENDING)));
+
+        orderStatusStreamRegistry.subscribe(trackOrderResponse(OrderStatus.PENDING));
+        orderStatusStreamRegistry.orderStatusChanged(Collections.singletonList(trackOrderResponse(OrderStatus.PAID)));
+        orderStatusStreamRegistry.heartbeat();
+        orderStatusStreamRegistry.orderStatusChanged(
+                Collections.singletonList(trackOrderResponse(OrderStatus.APPROVED)));
+
+        assertEquals(OrderStatus.PENDING, sseEmitter.nextSent());
+        assertEquals(OrderStatus.PAID, sseEmitter.nextSent());
+        assertEquals(OrderStatus.APPROVED, sseEmitter.nextSent());
+        assertTrue(sseEmitter.completed.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertNull(sseEmitter.sent.poll());
+        assertEquals(0, orderStatusStreamRegistry.getSubscriberCount());
+    }
+
+    @Test
+    public void testSubscriberThatDoesNotKeepUpIsDisconnected() throws Exception {
+        orderStatusStreamRegistry = registry(2);
+
+        orderStatusStreamRegistry.subscribe(trackOrderResponse(OrderStatus.PENDING));
+        assertTrue(sseEmitter.sending.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        orderStatusStreamRegistry.orderStatusChanged(Collections.singletonList(trackOrderResponse(OrderStatus.PAID)));
+        orderStatusStreamRegistry.orderStatusChanged(
+                Collections.singletonList(trackOrderResponse(OrderStatus.CANCELLING)));
+        assertEquals(1, orderStatusStreamRegistry.getSubscriberCount());
+
+        // the buffer holds PAID and CANCELLING while PENDING is still being written
+        orderStatusStreamRegistry.orderStatusChanged(
+                Collections.singletonList(trackOrderResponse(OrderStatus.CANCELLED)));
+
+        assertEquals(0, sseEmitter.completed.getCount());
+        assertEquals(0, orderStatusStreamRegistry.getSubscriberCount());
+        sseEmitter.release.countDown();
+        assertEquals(OrderStatus.PENDING, sseEmitter.nextSent());
+    }
+
+    @Test
+    public void testEventsBufferedWhileDrainingAreDelivered() throws Exception {
+        orderStatusStreamRegistry = registry(4);
+
+        orderStatusStreamRegistry.subscribe(trackOrderResponse(OrderStatus.PENDING));
+        assertTrue(sseEmitter.sending.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        orderStatusStreamRegistry.orderStatusChanged(Collections.singletonList(trackOrderResponse(OrderStatus.PAID)));
+        orderStatusStreamRegistry.orderStatusChanged(
+                Collections.singletonList(trackOrderResponse(OrderStatus.CANCELLING)));
+        sseEmitter.release.countDown();
+
+        assertEquals(OrderStatus.PENDING, sseEmitter.nextSent());
+        assertEquals(OrderStatus.PAID, sseEmitter.nextSent());
+        assertEquals(OrderStatus.CANCELLING, sseEmitter.nextSent());
+
+        // the drain that wrote the buffer has run dry, a later change starts the next one
+        orderStatusStreamRegistry.orderStatusChanged(
+                Collections.singletonList(trackOrderResponse(OrderStatus.CANCELLED)));
+        assertEquals(OrderStatus.CANCELLED, sseEmitter.nextSent());
+        assertTrue(sseEmitter.completed.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertEquals(0, orderStatusStreamRegistry.getSubscriberCount());
+    }
+
+    private OrderStatusStreamRegistry registry(int bufferSize) {
+        OrderServiceConfigData orderServiceConfigData = new OrderServiceConfigData();
+        orderServiceConfigData.setOrderStatusStreamDispatcherThreads(2);
+        orderServiceConfigData.setOrderStatusStreamMaxSubscribers(10);
+        orderServiceConfigData.setOrderStatusStreamBufferSize(bufferSize);
+        orderServiceConfigData.setOrderStatusStreamRefreshBatchSize(100);
+        return new OrderStatusStreamRegistry(orderApplicationService, orderServiceConfigData) {
+            @Override
+            SseEmitter createSseEmitter() {
+                return sseEmitter;
+            }
+        };
+    }
+
+    private TrackOrderResponse trackOrderResponse(OrderStatus orderStatus) {
+        return TrackOrderResponse.builder()
+                .orderTracingID(TRACKING_ID)
+                .orderStatus(orderStatus)
+                .failureMessages(Collections.emptyList())
+                .build();
+    }
+
+    // records the status events it is asked to write, the first write blocks until released
+    private static class FakeSseEmitter extends SseEmitter {
+        private final BlockingQueue<OrderStatus> sent = new LinkedBlockingQueue<>();
+        private final CountDownLatch sending = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final CountDownLatch completed = new CountDownLatch(1);
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            sending.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+            builder.build().stream()
+                    .map(DataWithMediaType::getData)
+                    .filter(TrackOrderResponse.class::isInstance)
+                    .forEach(data -> sent.add(((TrackOrderResponse) data).getOrderStatus()));
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed.countDown();
+        }
+
+        private OrderStatus nextSent() throws InterruptedException {
+            return sent.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+    }
+}
@@ -19,6 +19,10 @@ CREATE TABLE "order".orders
     CONSTRAINT orders_pkey PRIMARY KEY (id)
 );
 
+CREATE UNIQUE INDEX "orders_tracking_id"
+    ON "order".orders
+    (tracking_id);
+
 
 DROP TABLE IF EXISTS "order".order_items CASCADE;
 
@@ -60,3 +64,117 @@ ALTER TABLE "order".order_address
     NOT VALID;
 
 
+DROP TYPE IF EXISTS "order".outbox_status;
+CREATE TYPE "order".outbox_status AS ENUM ('STARTED', 'COMPLETED', 'FAILED');
+
+DROP TYPE IF EXISTS "order".payment_order_status;
+CREATE TYPE "order".payment_order_status AS ENUM ('PENDING', 'CANCELLED');
+
+DROP TABLE IF EXISTS "order".payment_outbox CASCADE;
+
+CREATE TABLE "order".payment_outbox
+(
+    id uuid NOT NULL,
+    saga_id uuid NOT NULL,
+    order_id uuid NOT NULL,
+    customer_id uuid NOT NULL,
+    price numeric(10,2) NOT NULL,
+    payment_order_status "order".payment_order_status NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    processed_at TIMESTAMP WITH TIME ZONE,
+    claimed_until TIMESTAMP WITH TIME ZONE,
+    outbox_status "order".outbox_status NOT NULL,
+    CONSTRAINT payment_outbox_pkey PRIMARY KEY (id)
+);
+
+CREATE INDEX "payment_outbox_started_created_at"
+    ON "order".payment_outbox
+    (created_at)
+    WHERE outbox_status = 'STARTED';
+
+DROP TABLE IF EXISTS "order".restaurant_approval_outbox CASCADE;
+
+CREATE TABLE "order".restaurant_approval_outbox
+(
+    id uuid NOT NULL,
+    saga_id uuid NOT NULL,
+    order_id uuid NOT NULL,
+    restaurant_id uuid NOT NULL,
+    price numeric(10,2) NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    processed_at TIMESTAMP WITH TIME ZONE,
+    claimed_until TIMESTAMP WITH TIME ZONE,
+    outbox_status "order".outbox_status NOT NULL,
+    CONSTRAINT restaurant_approval_outbox_pkey PRIMARY KEY (id)
+);
+
+CREATE INDEX "restaurant_approval_outbox_started_created_at"
+    ON "order".restaurant_approval_outbox
+    (created_at)
+    WHERE outbox_status = 'STARTED';
+
+DROP TABLE IF EXISTS "order".restaurant_approval_outbox_products CASCADE;
+
+CREATE TABLE "order".restaurant_approval_outbox_products
+(
+    outbox_id uuid NOT NULL,
+    product_id uuid NOT NULL,
+    quantity integer NOT NULL
+);
+
+CREATE INDEX "restaurant_approval_outbox_products_outbox_id"
+    ON "order".restaurant_approval_outbox_products
+    (outbox_id);
+
+ALTER TABLE "order".restaurant_approval_outbox_products
+    ADD CONSTRAINT "FK_OUTBOX_ID" FOREIGN KEY (outbox_id)
+    REFERENCES "order".restaurant_approval_outbox (id) MATCH SIMPLE
+    ON UPDATE NO ACTION
+    ON DELETE CASCADE
+    NOT VALID;
+
+DROP TYPE IF EXISTS "order".saga_status;
+CREATE TYPE "order".saga_status AS ENUM ('STARTED', 'PROCESSING', 'SUCCEEDED', 'COMPENSATING', 'COMPENSATED', 'FAILED');
+
+DROP TABLE IF EXISTS "order".order_saga CASCADE;
+
+CREATE TABLE "order".order_saga
+(
+    id uuid NOT NULL,
+    order_id uuid NOT NULL,
+    saga_status "order".saga_status NOT NULL,
+    order_status order_status NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    processed_at TIMESTAMP WITH TIME ZONE,
+    version bigint NOT NULL,
+    CONSTRAINT order_saga_pkey PRIMARY KEY (id),
+    CONSTRAINT order_saga_order_id_key UNIQUE (order_id)
+);
+
+DROP TABLE IF EXISTS "order".order_tracking CASCADE;
+
+CREATE TABLE "order".order_tracking
+(
+    tracking_id uuid NOT NULL,
+    order_id uuid NOT NULL,
+    order_status order_status NOT NULL,
+    failure_messages character varying COLLATE pg_catalog."default",
+    CONSTRAINT order_tracking_pkey PRIMARY KEY (tracking_id)
+);
+
+DROP TABLE IF EXISTS "order".order_idempotency_keys CASCADE;
+
+CREATE TABLE "order".order_idempotency_keys
+(
+    customer_id uuid NOT NULL,
+    idempotency_key character varying(255) COLLATE pg_catalog."default" NOT NULL,
+    tracking_id uuid,
+    order_status order_status,
+    message character varying COLLATE pg_catalog."default",
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    CONSTRAINT order_idempotency_keys_pkey PRIMARY KEY (customer_id, idempotency_key)
+);
+
+CREATE INDEX "order_idempotency_keys_created_at"
+    ON "order".order_idempotency_keys
+    (created_at);
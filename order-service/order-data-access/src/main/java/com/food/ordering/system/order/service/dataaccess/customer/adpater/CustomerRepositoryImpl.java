@@ -1,28 +1,79 @@
 package com.food.ordering.system.order.service.dataaccess.customer.adpater;
 
+import com.food.ordering.system.order.service.dataaccess.customer.cache.CustomerExistenceCache;
+import com.food.ordering.system.order.service.dataaccess.customer.entity.CustomerEntity;
 import com.food.ordering.system.order.service.dataaccess.customer.mapper.CustomerDataAccessMapper;
 import com.food.ordering.system.order.service.dataaccess.customer.repository.CustomerJpaRepository;
 import com.food.ordering.system.order.service.domain.entity.Customer;
 import com.food.ordering.system.order.service.domain.ports.output.repository.CustomerRepository;
 import org.springframework.stereotype.Component;
 
-import java.util.Optional;
-import java.util.UUID;
+import java.util.*;
+import java.util.stream.Collectors;
 
 @Component
 public class CustomerRepositoryImpl implements CustomerRepository {
 
     private final CustomerJpaRepository customerJpaRepository;
     private final CustomerDataAccessMapper customerDataAccessMapper;
+    private final CustomerExistenceCache customerExistenceCache;
 
     public CustomerRepositoryImpl(CustomerJpaRepository customerJpaRepository,
-                                  CustomerDataAccessMapper customerDataAccessMapper) {
+                                  CustomerDataAccessMapper customerDataAccessMapper,
+                                  CustomerExistenceCache customerExistenceCache) {
         this.customerJpaRepository = customerJpaRepository;
         this.customerDataAccessMapper = customerDataAccessMapper;
+        this.customerExistenceCache = customerExistenceCache;
     }
 
     @Override
     public Optional<Customer> findCustomer(UUID customerId) {
-        return customerJpaRepository.findById(customerId).map(customerDataAccessMapper::customerEntityToCustomer);
+        switch (customerExistenceCache.lookup(customerId)) {
+            case EXISTS:
+                return Optional.of(customerDataAccessMapper
+                        .customerEntityToCustomer(CustomerEntity.builder().id(customerId).build()));
+            case MISSING:
+                return Optional.empty();
+            default:
+                Optional<Customer> customer = customerJpaRepository.findById(customerId)
+                        .map(customerDataAccessMapper::customerEntityToCustomer);
+                if (customer.isPresent()) {
+                    customerExistenceCache.putExisting(customerId);
+                } else {
+                    customerExistenceCache.putMissing(customerId);
+                }
+                return customer;
+        }
+    }
+
+    @Override
+    public Set<UUID> findExistingCustomerIds(Collection<UUID> customerIds) {
+        Set<UUID> existingCustomerIds = new HashSet<>(customerIds.size() * 2);
+        List<UUID> unknownCustomerIds = new ArrayList<>();
+        for (UUID customerId : new HashSet<>(customerIds)) {
+            switch (customerExistenceCache.lookup(customerId)) {
+                case EXISTS:
+                    existingCustomerIds.add(customerId);
+                    break;
+                case MISSING:
+                    break;
+                default:
+                    unknownCustomerIds.add(customerId);
+            }
+        }
+        if (!unknownCustomerIds.isEmpty()) {
+            Set<UUID> foundCustomerIds = customerJpaRepository.findAllById(unknownCustomerIds).stream()
+                    .map(CustomerEntity::getId)
+                    .collect(Collectors.toSet());
+            unknownCustomerIds.forEach(customerId -> {
+                if (foundCustomerIds.contains(customerId)) {
+                    customerExistenceCache.putExisting(customerId);
+                } else {
+                    customerExistenceCache.putMissing(customerId);
+                }
+            });
+            existingCustomerIds.addAll(foundCustomerIds);
+        }
+        return existingCustomerIds;
     }
 }
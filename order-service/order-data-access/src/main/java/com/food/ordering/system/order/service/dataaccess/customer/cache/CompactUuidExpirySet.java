@@ -0,0 +1,219 @@
+package com.food.ordering.system.order.service.dataaccess.customer.cache;
+
+import java.util.UUID;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Open addressing set of UUIDs with a per entry expiry, stored in parallel primitive arrays so each entry costs
+ * 20 bytes of table space instead of a map node, a UUID object and a boxed value. Reads use an optimistic
+ * stamp and only fall back to the read lock when a write raced with them.
+ */
+class CompactUuidExpirySet {
+
+    private static final float LOAD_FACTOR = 0.75f;
+    private static final int MINIMUM_CAPACITY = 16;
+    private static final int EMPTY = 0;
+
+    private final StampedLock lock = new StampedLock();
+    private final int maximumSize;
+    private final long baseSecond;
+
+    private Table table;
+    private int size;
+    private int purgedAt;
+
+    CompactUuidExpirySet(int initialCapacity, int maximumSize, long baseSecond) {
+        this.maximumSize = maximumSize;
+        this.baseSecond = baseSecond;
+        this.table = new Table(tableSizeFor(initialCapacity));
+    }
+
+    boolean contains(UUID id, long nowSecond) {
+        long msb = id.getMostSignificantBits();
+        long lsb = id.getLeastSignificantBits();
+        int now = relative(nowSecond);
+        long stamp = lock.tryOptimisticRead();
+        boolean found = table.find(msb, lsb, now) >= 0;
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                found = table.find(msb, lsb, now) >= 0;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Returns false when the set is full of live entries and the id could not be added.
+     */
+    boolean add(UUID id, long expiresAtSecond, long nowSecond) {
+        long msb = id.getMostSignificantBits();
+        long lsb = id.getLeastSignificantBits();
+        long stamp = lock.writeLock();
+        try {
+            int slot = table.slotOf(msb, lsb);
+            if (table.expiresAt[slot] != EMPTY) {
+                table.expiresAt[slot] = relative(expiresAtSecond);
+                return true;
+            }
+            int now = relative(nowSecond);
+            if (size >= maximumSize && purgedAt == now) {
+                return false;
+            }
+            if (size >= maximumSize || size + 1 > table.capacity() * LOAD_FACTOR) {
+                rebuild(now);
+                purgedAt = now;
+                if (size >= maximumSize) {
+                    return false;
+                }
+                slot = table.slotOf(msb, lsb);
+            }
+            table.msb[slot] = msb;
+            table.lsb[slot] = lsb;
+            table.expiresAt[slot] = relative(expiresAtSecond);
+            size++;
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    void remove(UUID id) {
+        long stamp = lock.writeLock();
+        try {
+            if (table.delete(id.getMostSignificantBits(), id.getLeastSignificantBits())) {
+                size--;
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    void clear() {
+        long stamp = lock.writeLock();
+        try {
+            table = new Table(MINIMUM_CAPACITY);
+            size = 0;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private void rebuild(int now) {
+        int live = 0;
+        for (int i = 0; i < table.capacity(); i++) {
+            if (table.expiresAt[i] != EMPTY && table.expiresAt[i] > now) {
+                live++;
+            }
+        }
+        int capacity = table.capacity();
+        if (live + 1 > capacity * LOAD_FACTOR) {
+            capacity = tableSizeFor(Math.min(Math.max(live + 1, capacity + 1), maximumSize));
+        }
+        Table rebuilt = new Table(capacity);
+        for (int i = 0; i < table.capacity(); i++) {
+            if (table.expiresAt[i] != EMPTY && table.expiresAt[i] > now) {
+                int slot = rebuilt.slotOf(table.msb[i], table.lsb[i]);
+                rebuilt.msb[slot] = table.msb[i];
+                rebuilt.lsb[slot] = table.lsb[i];
+                rebuilt.expiresAt[slot] = table.expiresAt[i];
+            }
+        }
+        table = rebuilt;
+        size = live;
+    }
+
+    private int relative(long epochSecond) {
+        return (int) Math.max(1, Math.min(Integer.MAX_VALUE, epochSecond - baseSecond + 1));
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        int capacity = MINIMUM_CAPACITY;
+        while (capacity * LOAD_FACTOR < expectedSize && capacity < (1 << 30)) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private static int hash(long msb, long lsb) {
+        long h = msb ^ lsb;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+
+    private static final class Table {
+        private final long[] msb;
+        private final long[] lsb;
+        private final int[] expiresAt;
+        private final int mask;
+
+        private Table(int capacity) {
+            msb = new long[capacity];
+            lsb = new long[capacity];
+            expiresAt = new int[capacity];
+            mask = capacity - 1;
+        }
+
+        private int capacity() {
+            return expiresAt.length;
+        }
+
+        private int find(long keyMsb, long keyLsb, int now) {
+            int slot = hash(keyMsb, keyLsb) & mask;
+            for (int probes = 0; probes <= mask; probes++) {
+                int expiry = expiresAt[slot];
+                if (expiry == EMPTY) {
+                    return -1;
+                }
+                if (msb[slot] == keyMsb && lsb[slot] == keyLsb) {
+                    return expiry > now ? slot : -1;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return -1;
+        }
+
+        private int slotOf(long keyMsb, long keyLsb) {
+            int slot = hash(keyMsb, keyLsb) & mask;
+            while (expiresAt[slot] != EMPTY && (msb[slot] != keyMsb || lsb[slot] != keyLsb)) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        private boolean delete(long keyMsb, long keyLsb) {
+            int slot = slotOf(keyMsb, keyLsb);
+            if (expiresAt[slot] == EMPTY) {
+                return false;
+            }
+            // backward shift deletion keeps probe chains intact without tombstones
+            int hole = slot;
+            int next = (hole + 1) & mask;
+            while (expiresAt[next] != EMPTY) {
+                int home = hash(msb[next], lsb[next]) & mask;
+                if (((next - home) & mask) >= ((next - hole) & mask)) {
+                    msb[hole] = msb[next];
+                    lsb[hole] = lsb[next];
+                    expiresAt[hole] = expiresAt[next];
+                    hole = next;
+                }
+                next = (next + 1) & mask;
+            }
+            expiresAt[hole] = EMPTY;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.food.ordering.system.order.service.dataaccess.customer.cache;
+
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Remembers which customer ids exist and which do not. Known customers live in a compact primitive set with the
+ * positive TTL, unknown ids in a small bounded cache with the (usually much shorter) negative TTL.
+ */
+@Slf4j
+@Component
+public class CustomerExistenceCache {
+
+    public enum Lookup {
+        EXISTS, MISSING, UNKNOWN
+    }
+
+    private final Clock clock = Clock.systemUTC();
+    private final long positiveTtlSeconds;
+    private final CompactUuidExpirySet existingCustomers;
+    private final Cache<UUID, Boolean> missingCustomers;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public CustomerExistenceCache(OrderServiceConfigData orderServiceConfigData) {
+        this.positiveTtlSeconds = orderServiceConfigData.getCustomerCachePositiveTtlSeconds();
+        this.existingCustomers = new CompactUuidExpirySet(
+                orderServiceConfigData.getCustomerCacheInitialCapacity(),
+                orderServiceConfigData.getCustomerCacheMaximumSize(),
+                clock.instant().getEpochSecond());
+        this.missingCustomers = Caffeine.newBuilder()
+                .maximumSize(orderServiceConfigData.getCustomerCacheNegativeMaximumSize())
+                .expireAfterWrite(Duration.ofSeconds(orderServiceConfigData.getCustomerCacheNegativeTtlSeconds()))
+                .build();
+    }
+
+    public Lookup lookup(UUID customerId) {
+        if (existingCustomers.contains(customerId, nowSecond())) {
+            hits.increment();
+            return Lookup.EXISTS;
+        }
+        if (missingCustomers.getIfPresent(customerId) != null) {
+            hits.increment();
+            return Lookup.MISSING;
+        }
+        misses.increment();
+        return Lookup.UNKNOWN;
+    }
+
+    public void putExisting(UUID customerId) {
+        missingCustomers.invalidate(customerId);
+        long now = nowSecond();
+        if (!existingCustomers.add(customerId, now + positiveTtlSeconds, now)) {
+            log.debug("Customer existence cache is full, customer id: {} is not cached", customerId);
+        }
+    }
+
+    public void putAllExisting(Collection<UUID> customerIds) {
+        customerIds.forEach(this::putExisting);
+    }
+
+    public void putMissing(UUID customerId) {
+        missingCustomers.put(customerId, Boolean.TRUE);
+    }
+
+    public void evict(UUID customerId) {
+        existingCustomers.remove(customerId);
+        missingCustomers.invalidate(customerId);
+    }
+
+    public void evictAll() {
+        existingCustomers.clear();
+        missingCustomers.invalidateAll();
+    }
+
+    public int getExistingSize() {
+        return existingCustomers.size();
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    private long nowSecond() {
+        return clock.instant().getEpochSecond();
+    }
+}
@@ -0,0 +1,59 @@
+package com.food.ordering.system.order.service.dataaccess.customer.cache;
+
+import com.food.ordering.system.order.service.dataaccess.customer.repository.CustomerJpaRepository;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Component
+public class CustomerExistenceCacheWarmer {
+
+    private static final UUID MINIMUM_UUID = new UUID(0L, 0L);
+
+    private final CustomerJpaRepository customerJpaRepository;
+    private final CustomerExistenceCache customerExistenceCache;
+    private final OrderServiceConfigData orderServiceConfigData;
+
+    public CustomerExistenceCacheWarmer(CustomerJpaRepository customerJpaRepository,
+                                        CustomerExistenceCache customerExistenceCache,
+                                        OrderServiceConfigData orderServiceConfigData) {
+        this.customerJpaRepository = customerJpaRepository;
+        this.customerExistenceCache = customerExistenceCache;
+        this.orderServiceConfigData = orderServiceConfigData;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!Boolean.TRUE.equals(orderServiceConfigData.getCustomerCacheWarmUpEnabled())) {
+            return;
+        }
+        int batchSize = orderServiceConfigData.getCustomerCacheWarmUpBatchSize();
+        long started = System.currentTimeMillis();
+        long loaded = 0;
+        UUID lastId = MINIMUM_UUID;
+        try {
+            List<UUID> ids;
+            do {
+                // keyset pagination over the primary key, so every batch is an index range scan
+                ids = customerJpaRepository.findIdsAfter(lastId, PageRequest.of(0, batchSize));
+                customerExistenceCache.putAllExisting(ids);
+                loaded += ids.size();
+                if (!ids.isEmpty()) {
+                    lastId = ids.get(ids.size() - 1);
+                }
+            } while (ids.size() == batchSize);
+            log.info("Customer existence cache warmed up with {} customers in {} ms", loaded,
+                    System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            log.error("Customer existence cache warm up stopped after {} customers, error: {}", loaded,
+                    e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.food.ordering.system.order.service.dataaccess.idempotency.adpater;
+
+import com.food.ordering.system.order.service.dataaccess.idempotency.cache.OrderIdempotencyCache;
+import com.food.ordering.system.order.service.dataaccess.idempotency.mapper.OrderIdempotencyDataAccessMapper;
+import com.food.ordering.system.order.service.dataaccess.idempotency.repository.OrderIdempotencyJpaRepository;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderIdempotencyRepository;
+import org.springframework.stereotype.Component;
+
+import java.time.ZonedDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+@Component
+public class OrderIdempotencyRepositoryImpl implements OrderIdempotencyRepository {
+
+    private final OrderIdempotencyJpaRepository orderIdempotencyJpaRepository;
+    private final OrderIdempotencyDataAccessMapper orderIdempotencyDataAccessMapper;
+    private final OrderIdempotencyCache orderIdempotencyCache;
+
+    public OrderIdempotencyRepositoryImpl(OrderIdempotencyJpaRepository orderIdempotencyJpaRepository,
+                                          OrderIdempotencyDataAccessMapper orderIdempotencyDataAccessMapper,
+                                          OrderIdempotencyCache orderIdempotencyCache) {
+        this.orderIdempotencyJpaRepository = orderIdempotencyJpaRepository;
+        this.orderIdempotencyDataAccessMapper = orderIdempotencyDataAccessMapper;
+        this.orderIdempotencyCache = orderIdempotencyCache;
+    }
+
+    @Override
+    public Optional<CreateOrderResponse> findByCustomerIdAndIdempotencyKey(UUID customerId, String idempotencyKey) {
+        String cacheKey = cacheKey(customerId, idempotencyKey);
+        Optional<CreateOrderResponse> cachedResponse = orderIdempotencyCache.get(cacheKey);
+        if (cachedResponse.isPresent()) {
+            return cachedResponse;
+        }
+        Optional<CreateOrderResponse> storedResponse = orderIdempotencyJpaRepository
+                .findByCustomerIdAndIdempotencyKeyAndTrackingIdIsNotNull(customerId, idempotencyKey)
+                .map(orderIdempotencyDataAccessMapper::orderIdempotencyEntityToCreateOrderResponse);
+        storedResponse.ifPresent(response -> orderIdempotencyCache.put(cacheKey, response));
+        return storedResponse;
+    }
+
+    @Override
+    public boolean insertIfAbsent(UUID customerId, String idempotencyKey, ZonedDateTime createdAt) {
+        return orderIdempotencyJpaRepository.insertIfAbsent(customerId, idempotencyKey, createdAt) == 1;
+    }
+
+    @Override
+    public void saveResponse(UUID customerId, String idempotencyKey, CreateOrderResponse createOrderResponse) {
+        orderIdempotencyJpaRepository.updateResponse(customerId, idempotencyKey,
+                createOrderResponse.getOrderTracingId(), createOrderResponse.getOrderStatus(),
+                createOrderResponse.getMessage());
+        orderIdempotencyCache.putAfterCommit(cacheKey(customerId, idempotencyKey), createOrderResponse);
+    }
+
+    @Override
+    public int deleteByCreatedAtBefore(ZonedDateTime createdAt) {
+        return orderIdempotencyJpaRepository.deleteByCreatedAtBefore(createdAt);
+    }
+
+    private String cacheKey(UUID customerId, String idempotencyKey) {
+        return customerId + ":" + idempotencyKey;
+    }
+}
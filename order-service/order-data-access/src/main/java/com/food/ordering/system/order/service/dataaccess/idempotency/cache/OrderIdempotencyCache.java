@@ -0,0 +1,57 @@
+package com.food.ordering.system.order.service.dataaccess.idempotency.cache;
+
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * In-memory tier of the idempotency store, so client retries of a recent request are answered without a query.
+ * Only responses of committed requests are cached.
+ */
+@Component
+public class OrderIdempotencyCache {
+
+    private final Cache<String, CreateOrderResponse> cache;
+
+    public OrderIdempotencyCache(OrderServiceConfigData orderServiceConfigData) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(orderServiceConfigData.getIdempotencyCacheMaximumSize())
+                .expireAfterWrite(Duration.ofSeconds(
+                        orderServiceConfigData.getIdempotencyCacheExpireAfterWriteSeconds()))
+                .recordStats()
+                .build();
+    }
+
+    public Optional<CreateOrderResponse> get(String key) {
+        return Optional.ofNullable(cache.getIfPresent(key));
+    }
+
+    public void put(String key, CreateOrderResponse createOrderResponse) {
+        cache.put(key, createOrderResponse);
+    }
+
+    public void putAfterCommit(String key, CreateOrderResponse createOrderResponse) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            put(key, createOrderResponse);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                put(key, createOrderResponse);
+            }
+        });
+    }
+
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+}
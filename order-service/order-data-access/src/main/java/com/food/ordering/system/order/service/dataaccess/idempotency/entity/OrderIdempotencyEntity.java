@@ -0,0 +1,42 @@
+package com.food.ordering.system.order.service.dataaccess.idempotency.entity;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.ZonedDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@IdClass(OrderIdempotencyEntityId.class)
+@Table(name = "order_idempotency_keys")
+@Entity
+public class OrderIdempotencyEntity {
+    @Id
+    private UUID customerId;
+    @Id
+    private String idempotencyKey;
+    private UUID trackingId;
+    @Enumerated(EnumType.STRING)
+    private OrderStatus orderStatus;
+    private String message;
+    private ZonedDateTime createdAt;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        OrderIdempotencyEntity that = (OrderIdempotencyEntity) o;
+        return Objects.equals(customerId, that.customerId) && Objects.equals(idempotencyKey, that.idempotencyKey);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(customerId, idempotencyKey);
+    }
+}
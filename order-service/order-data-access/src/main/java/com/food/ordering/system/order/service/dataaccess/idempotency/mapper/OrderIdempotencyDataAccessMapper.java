@@ -0,0 +1,18 @@
+package com.food.ordering.system.order.service.dataaccess.idempotency.mapper;
+
+import com.food.ordering.system.order.service.dataaccess.idempotency.entity.OrderIdempotencyEntity;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
+import org.springframework.stereotype.Component;
+
+@Component
+public class OrderIdempotencyDataAccessMapper {
+
+    public CreateOrderResponse orderIdempotencyEntityToCreateOrderResponse(
+            OrderIdempotencyEntity orderIdempotencyEntity) {
+        return CreateOrderResponse.builder()
+                .orderTracingId(orderIdempotencyEntity.getTrackingId())
+                .orderStatus(orderIdempotencyEntity.getOrderStatus())
+                .message(orderIdempotencyEntity.getMessage())
+                .build();
+    }
+}
@@ -0,0 +1,45 @@
+package com.food.ordering.system.order.service.dataaccess.idempotency.repository;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.dataaccess.idempotency.entity.OrderIdempotencyEntity;
+import com.food.ordering.system.order.service.dataaccess.idempotency.entity.OrderIdempotencyEntityId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.ZonedDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface OrderIdempotencyJpaRepository
+        extends JpaRepository<OrderIdempotencyEntity, OrderIdempotencyEntityId> {
+
+    Optional<OrderIdempotencyEntity> findByCustomerIdAndIdempotencyKeyAndTrackingIdIsNotNull(
+            UUID customerId, String idempotencyKey);
+
+    /**
+     * Blocks while another transaction holds the same key and inserts nothing once that one has committed.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO \"order\".order_idempotency_keys (customer_id, idempotency_key, created_at) " +
+            "VALUES (:customerId, :idempotencyKey, :createdAt) ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("customerId") UUID customerId,
+                       @Param("idempotencyKey") String idempotencyKey,
+                       @Param("createdAt") ZonedDateTime createdAt);
+
+    @Modifying
+    @Query("UPDATE OrderIdempotencyEntity o SET o.trackingId = :trackingId, o.orderStatus = :orderStatus, " +
+            "o.message = :message WHERE o.customerId = :customerId AND o.idempotencyKey = :idempotencyKey")
+    int updateResponse(@Param("customerId") UUID customerId,
+                       @Param("idempotencyKey") String idempotencyKey,
+                       @Param("trackingId") UUID trackingId,
+                       @Param("orderStatus") OrderStatus orderStatus,
+                       @Param("message") String message);
+
+    @Modifying
+    @Query("DELETE FROM OrderIdempotencyEntity o WHERE o.createdAt < :createdAt")
+    int deleteByCreatedAtBefore(@Param("createdAt") ZonedDateTime createdAt);
+}
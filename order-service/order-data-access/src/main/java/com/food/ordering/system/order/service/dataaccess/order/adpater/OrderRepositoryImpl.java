@@ -1,5 +1,6 @@
 package com.food.ordering.system.order.service.dataaccess.order.adpater;
 
+import com.food.ordering.system.domain.valueobject.OrderId;
 import com.food.ordering.system.order.service.dataaccess.order.mapper.OrderDataAccessMapper;
 import com.food.ordering.system.order.service.dataaccess.order.repository.OrderJpaRepository;
 import com.food.ordering.system.order.service.domain.entity.Order;
@@ -7,23 +8,47 @@ import com.food.ordering.system.order.service.domain.ports.output.repository.Ord
 import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
 import org.springframework.stereotype.Component;
 
+import javax.persistence.EntityManager;
+
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Component
 public class OrderRepositoryImpl implements OrderRepository {
 
     private final OrderJpaRepository orderJpaRepository;
     private final OrderDataAccessMapper orderDataAccessMapper;
+    private final EntityManager entityManager;
 
-    public OrderRepositoryImpl(OrderJpaRepository orderJpaRepository, OrderDataAccessMapper orderDataAccessMapper) {
+    public OrderRepositoryImpl(OrderJpaRepository orderJpaRepository,
+                               OrderDataAccessMapper orderDataAccessMapper,
+                               EntityManager entityManager) {
         this.orderJpaRepository = orderJpaRepository;
         this.orderDataAccessMapper = orderDataAccessMapper;
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * New orders have assigned ids, so save would merge and select every row first. Persist inserts directly and
+     * cascades to the address and items; the caller keeps its aggregate, nothing is mapped back.
+     */
+    @Override
+    public void insert(Order order) {
+        entityManager.persist(orderDataAccessMapper.orderToOrderEntity(order));
+    }
+
+    @Override
+    public void insertAll(List<Order> orders) {
+        orders.forEach(this::insert);
     }
 
     @Override
-    public Order save(Order order) {
-        return orderDataAccessMapper.orderEntityToOrder(
-                orderJpaRepository.save(orderDataAccessMapper.orderToOrderEntity(order)));
+    public void saveAll(List<Order> orders) {
+        orderJpaRepository.saveAll(orders.stream()
+                .map(orderDataAccessMapper::orderToOrderEntity)
+                .collect(Collectors.toList()));
     }
 
     @Override
@@ -31,4 +56,13 @@ public class OrderRepositoryImpl implements OrderRepository {
         return orderJpaRepository.findByTrackingId(trackingId.getValue())
                 .map(orderDataAccessMapper::orderEntityToOrder);
     }
+
+    @Override
+    public List<Order> findByIdIn(Collection<OrderId> orderIds) {
+        return orderJpaRepository.findByIdInWithItemsAndAddress(orderIds.stream()
+                        .map(OrderId::getValue)
+                        .collect(Collectors.toList())).stream()
+                .map(orderDataAccessMapper::orderEntityToOrder)
+                .collect(Collectors.toList());
+    }
 }
@@ -17,7 +17,7 @@ public class OrderAddressEntity {
     @Id
     private UUID id;
 
-    @OneToOne(cascade = CascadeType.ALL)
+    @OneToOne
     @JoinColumn(name = "ORDER_ID")
     private OrderEntity order;
 
@@ -21,7 +21,7 @@ public class OrderItemEntity {
     private Long id;
 
     @Id
-    @ManyToOne(cascade = CascadeType.ALL)
+    @ManyToOne
     @JoinColumn(name = "ORDER_ID")
     private OrderEntity order;
 
@@ -35,11 +35,15 @@ public class OrderItemEntity {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         OrderItemEntity that = (OrderItemEntity) o;
-        return Objects.equals(id, that.id) && Objects.equals(order, that.order);
+        return Objects.equals(id, that.id) && Objects.equals(orderId(), that.orderId());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, order);
+        return Objects.hash(id, orderId());
+    }
+
+    private UUID orderId() {
+        return order != null ? order.getId() : null;
     }
 }
@@ -4,7 +4,11 @@ import lombok.*;
 
 import java.io.Serializable;
 import java.util.Objects;
+import java.util.UUID;
 
+/**
+ * Flat key of an order item: the item number and the id of its order, not the order entity itself.
+ */
 @Getter
 @Setter
 @Builder
@@ -12,7 +16,7 @@ import java.util.Objects;
 @AllArgsConstructor
 public class OrderItemEntityId implements Serializable {
     private Long id;
-    private OrderEntity order;
+    private UUID order;
 
     @Override
     public boolean equals(Object o) {
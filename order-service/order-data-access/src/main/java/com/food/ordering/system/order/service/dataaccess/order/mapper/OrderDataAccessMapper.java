@@ -31,7 +31,8 @@ public class OrderDataAccessMapper {
                  .price(order.getPrice().getAmount())
                  .orderStatus(order.getOrderStatus())
                  .items(orderItemsToItemEntities(order.getItems()))
-                 .failureMessages(order.getFailureMessages() != null ? String.join(FAILURE_MESSAGE_DELIMITER) : "")
+                 .failureMessages(order.getFailureMessages() != null ? String.join(FAILURE_MESSAGE_DELIMITER,
+                         order.getFailureMessages()) : "")
                  .build();
          orderEntity.getAddress().setOrder(orderEntity);
          orderEntity.getItems().forEach(orderItemEntity -> orderItemEntity.setOrder(orderEntity));
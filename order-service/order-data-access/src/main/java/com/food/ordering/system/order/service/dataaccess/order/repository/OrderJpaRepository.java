@@ -2,8 +2,12 @@ package com.food.ordering.system.order.service.dataaccess.order.repository;
 
 import com.food.ordering.system.order.service.dataaccess.order.entity.OrderEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -11,4 +15,8 @@ import java.util.UUID;
 public interface OrderJpaRepository extends JpaRepository<OrderEntity, UUID> {
 
     Optional<OrderEntity> findByTrackingId(UUID trackingId);
+
+    @Query("SELECT DISTINCT o FROM OrderEntity o LEFT JOIN FETCH o.items LEFT JOIN FETCH o.address " +
+            "WHERE o.id IN :ids")
+    List<OrderEntity> findByIdInWithItemsAndAddress(@Param("ids") Collection<UUID> ids);
 }
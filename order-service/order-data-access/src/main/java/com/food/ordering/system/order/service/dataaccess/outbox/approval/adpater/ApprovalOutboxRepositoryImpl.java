@@ -0,0 +1,66 @@
+package com.food.ordering.system.order.service.dataaccess.outbox.approval.adpater;
+
+import com.food.ordering.system.domain.valueobject.OutboxStatus;
+import com.food.ordering.system.order.service.dataaccess.outbox.approval.entity.ApprovalOutboxEntity;
+import com.food.ordering.system.order.service.dataaccess.outbox.approval.mapper.ApprovalOutboxDataAccessMapper;
+import com.food.ordering.system.order.service.dataaccess.outbox.approval.repository.ApprovalOutboxJpaRepository;
+import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalOutboxMessage;
+import com.food.ordering.system.order.service.domain.ports.output.repository.ApprovalOutboxRepository;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManager;
+
+import java.time.ZonedDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Component
+public class ApprovalOutboxRepositoryImpl implements ApprovalOutboxRepository {
+
+    private final ApprovalOutboxJpaRepository approvalOutboxJpaRepository;
+    private final ApprovalOutboxDataAccessMapper approvalOutboxDataAccessMapper;
+    private final EntityManager entityManager;
+
+    public ApprovalOutboxRepositoryImpl(ApprovalOutboxJpaRepository approvalOutboxJpaRepository,
+                                        ApprovalOutboxDataAccessMapper approvalOutboxDataAccessMapper,
+                                        EntityManager entityManager) {
+        this.approvalOutboxJpaRepository = approvalOutboxJpaRepository;
+        this.approvalOutboxDataAccessMapper = approvalOutboxDataAccessMapper;
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public void insertAll(List<OrderApprovalOutboxMessage> orderApprovalOutboxMessages) {
+        orderApprovalOutboxMessages.forEach(orderApprovalOutboxMessage -> entityManager.persist(
+                approvalOutboxDataAccessMapper.orderApprovalOutboxMessageToOutboxEntity(orderApprovalOutboxMessage)));
+    }
+
+    @Override
+    public List<OrderApprovalOutboxMessage> claimByOutboxStatus(OutboxStatus outboxStatus, int limit, ZonedDateTime now,
+                                                                ZonedDateTime claimedUntil) {
+        List<ApprovalOutboxEntity> approvalOutboxEntities =
+                approvalOutboxJpaRepository.findUnclaimedForUpdateSkipLocked(outboxStatus.name(), now, limit);
+        if (approvalOutboxEntities.isEmpty()) {
+            return Collections.emptyList();
+        }
+        approvalOutboxJpaRepository.updateClaimedUntilByIdIn(approvalOutboxEntities.stream()
+                .map(ApprovalOutboxEntity::getId)
+                .collect(Collectors.toList()), claimedUntil);
+        return approvalOutboxEntities.stream()
+                .map(approvalOutboxDataAccessMapper::approvalOutboxEntityToOrderApprovalOutboxMessage)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public int updateOutboxStatus(List<UUID> ids, OutboxStatus outboxStatus, ZonedDateTime processedAt) {
+        return approvalOutboxJpaRepository.updateOutboxStatusByIdIn(ids, outboxStatus, processedAt);
+    }
+
+    @Override
+    public int deleteByOutboxStatusAndProcessedAtBefore(OutboxStatus outboxStatus, ZonedDateTime processedAt) {
+        return approvalOutboxJpaRepository.deleteByOutboxStatusAndProcessedAtBefore(outboxStatus.name(),
+                processedAt);
+    }
+}
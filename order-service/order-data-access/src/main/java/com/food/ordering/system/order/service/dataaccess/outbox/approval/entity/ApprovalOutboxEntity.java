@@ -0,0 +1,51 @@
+package com.food.ordering.system.order.service.dataaccess.outbox.approval.entity;
+
+import com.food.ordering.system.domain.valueobject.OutboxStatus;
+import lombok.*;
+import org.hibernate.annotations.BatchSize;
+
+import javax.persistence.*;
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "restaurant_approval_outbox")
+@Entity
+public class ApprovalOutboxEntity {
+    @Id
+    private UUID id;
+    private UUID sagaId;
+    private UUID orderId;
+    private UUID restaurantId;
+    private BigDecimal price;
+    // loaded for a whole claimed batch with one query instead of one per row
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "restaurant_approval_outbox_products", joinColumns = @JoinColumn(name = "outbox_id"))
+    @BatchSize(size = 500)
+    private List<ApprovalOutboxProductEntity> products;
+    private ZonedDateTime createdAt;
+    private ZonedDateTime processedAt;
+    private ZonedDateTime claimedUntil;
+    @Enumerated(EnumType.STRING)
+    private OutboxStatus outboxStatus;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ApprovalOutboxEntity that = (ApprovalOutboxEntity) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
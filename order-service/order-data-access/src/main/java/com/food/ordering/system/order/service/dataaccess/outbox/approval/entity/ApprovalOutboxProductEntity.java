@@ -0,0 +1,17 @@
+package com.food.ordering.system.order.service.dataaccess.outbox.approval.entity;
+
+import lombok.*;
+
+import javax.persistence.Embeddable;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Embeddable
+public class ApprovalOutboxProductEntity {
+    private UUID productId;
+    private Integer quantity;
+}
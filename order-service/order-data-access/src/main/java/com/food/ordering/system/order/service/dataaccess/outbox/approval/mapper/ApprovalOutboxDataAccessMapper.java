@@ -0,0 +1,53 @@
+package com.food.ordering.system.order.service.dataaccess.outbox.approval.mapper;
+
+import com.food.ordering.system.order.service.dataaccess.outbox.approval.entity.ApprovalOutboxEntity;
+import com.food.ordering.system.order.service.dataaccess.outbox.approval.entity.ApprovalOutboxProductEntity;
+import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalOutboxMessage;
+import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalOutboxProduct;
+import org.springframework.stereotype.Component;
+
+import java.util.stream.Collectors;
+
+@Component
+public class ApprovalOutboxDataAccessMapper {
+
+    public ApprovalOutboxEntity orderApprovalOutboxMessageToOutboxEntity(OrderApprovalOutboxMessage
+                                                                                 orderApprovalOutboxMessage) {
+        return ApprovalOutboxEntity.builder()
+                .id(orderApprovalOutboxMessage.getId())
+                .sagaId(orderApprovalOutboxMessage.getSagaId())
+                .orderId(orderApprovalOutboxMessage.getOrderId())
+                .restaurantId(orderApprovalOutboxMessage.getRestaurantId())
+                .price(orderApprovalOutboxMessage.getPrice())
+                .products(orderApprovalOutboxMessage.getProducts().stream()
+                        .map(product -> ApprovalOutboxProductEntity.builder()
+                                .productId(product.getProductId())
+                                .quantity(product.getQuantity())
+                                .build())
+                        .collect(Collectors.toList()))
+                .createdAt(orderApprovalOutboxMessage.getCreatedAt())
+                .processedAt(orderApprovalOutboxMessage.getProcessedAt())
+                .outboxStatus(orderApprovalOutboxMessage.getOutboxStatus())
+                .build();
+    }
+
+    public OrderApprovalOutboxMessage approvalOutboxEntityToOrderApprovalOutboxMessage(ApprovalOutboxEntity
+                                                                                               approvalOutboxEntity) {
+        return OrderApprovalOutboxMessage.builder()
+                .id(approvalOutboxEntity.getId())
+                .sagaId(approvalOutboxEntity.getSagaId())
+                .orderId(approvalOutboxEntity.getOrderId())
+                .restaurantId(approvalOutboxEntity.getRestaurantId())
+                .price(approvalOutboxEntity.getPrice())
+                .products(approvalOutboxEntity.getProducts().stream()
+                        .map(product -> OrderApprovalOutboxProduct.builder()
+                                .productId(product.getProductId())
+                                .quantity(product.getQuantity())
+                                .build())
+                        .collect(Collectors.toList()))
+                .createdAt(approvalOutboxEntity.getCreatedAt())
+                .processedAt(approvalOutboxEntity.getProcessedAt())
+                .outboxStatus(approvalOutboxEntity.getOutboxStatus())
+                .build();
+    }
+}
@@ -0,0 +1,42 @@
+package com.food.ordering.system.order.service.dataaccess.outbox.approval.repository;
+
+import com.food.ordering.system.domain.valueobject.OutboxStatus;
+import com.food.ordering.system.order.service.dataaccess.outbox.approval.entity.ApprovalOutboxEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ApprovalOutboxJpaRepository extends JpaRepository<ApprovalOutboxEntity, UUID> {
+
+    @Query(value = "SELECT * FROM \"order\".restaurant_approval_outbox WHERE outbox_status = :outboxStatus " +
+            "AND (claimed_until IS NULL OR claimed_until < :now) " +
+            "ORDER BY created_at LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<ApprovalOutboxEntity> findUnclaimedForUpdateSkipLocked(@Param("outboxStatus") String outboxStatus,
+                                                                @Param("now") ZonedDateTime now,
+                                                                @Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE ApprovalOutboxEntity a SET a.claimedUntil = :claimedUntil WHERE a.id IN :ids")
+    int updateClaimedUntilByIdIn(@Param("ids") List<UUID> ids, @Param("claimedUntil") ZonedDateTime claimedUntil);
+
+    @Modifying
+    @Query("UPDATE ApprovalOutboxEntity a SET a.outboxStatus = :outboxStatus, a.processedAt = :processedAt " +
+            "WHERE a.id IN :ids")
+    int updateOutboxStatusByIdIn(@Param("ids") List<UUID> ids,
+                                 @Param("outboxStatus") OutboxStatus outboxStatus,
+                                 @Param("processedAt") ZonedDateTime processedAt);
+
+    // products rows go with the outbox rows through ON DELETE CASCADE, which a JPQL bulk delete would not use
+    @Modifying
+    @Query(value = "DELETE FROM \"order\".restaurant_approval_outbox WHERE outbox_status = :outboxStatus " +
+            "AND processed_at < :processedAt", nativeQuery = true)
+    int deleteByOutboxStatusAndProcessedAtBefore(@Param("outboxStatus") String outboxStatus,
+                                                 @Param("processedAt") ZonedDateTime processedAt);
+}
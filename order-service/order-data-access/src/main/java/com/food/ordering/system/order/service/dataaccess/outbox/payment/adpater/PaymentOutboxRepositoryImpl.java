@@ -0,0 +1,72 @@
+package com.food.ordering.system.order.service.dataaccess.outbox.payment.adpater;
+
+import com.food.ordering.system.domain.valueobject.OutboxStatus;
+import com.food.ordering.system.order.service.dataaccess.outbox.payment.entity.PaymentOutboxEntity;
+import com.food.ordering.system.order.service.dataaccess.outbox.payment.mapper.PaymentOutboxDataAccessMapper;
+import com.food.ordering.system.order.service.dataaccess.outbox.payment.repository.PaymentOutboxJpaRepository;
+import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentOutboxMessage;
+import com.food.ordering.system.order.service.domain.ports.output.repository.PaymentOutboxRepository;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManager;
+
+import java.time.ZonedDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Component
+public class PaymentOutboxRepositoryImpl implements PaymentOutboxRepository {
+
+    private final PaymentOutboxJpaRepository paymentOutboxJpaRepository;
+    private final PaymentOutboxDataAccessMapper paymentOutboxDataAccessMapper;
+    private final EntityManager entityManager;
+
+    public PaymentOutboxRepositoryImpl(PaymentOutboxJpaRepository paymentOutboxJpaRepository,
+                                       PaymentOutboxDataAccessMapper paymentOutboxDataAccessMapper,
+                                       EntityManager entityManager) {
+        this.paymentOutboxJpaRepository = paymentOutboxJpaRepository;
+        this.paymentOutboxDataAccessMapper = paymentOutboxDataAccessMapper;
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public OrderPaymentOutboxMessage save(OrderPaymentOutboxMessage orderPaymentOutboxMessage) {
+        return paymentOutboxDataAccessMapper.paymentOutboxEntityToOrderPaymentOutboxMessage(
+                paymentOutboxJpaRepository.save(paymentOutboxDataAccessMapper
+                        .orderPaymentOutboxMessageToOutboxEntity(orderPaymentOutboxMessage)));
+    }
+
+    @Override
+    public void insertAll(List<OrderPaymentOutboxMessage> orderPaymentOutboxMessages) {
+        orderPaymentOutboxMessages.forEach(orderPaymentOutboxMessage -> entityManager.persist(
+                paymentOutboxDataAccessMapper.orderPaymentOutboxMessageToOutboxEntity(orderPaymentOutboxMessage)));
+    }
+
+    @Override
+    public List<OrderPaymentOutboxMessage> claimByOutboxStatus(OutboxStatus outboxStatus, int limit, ZonedDateTime now,
+                                                               ZonedDateTime claimedUntil) {
+        List<PaymentOutboxEntity> paymentOutboxEntities =
+                paymentOutboxJpaRepository.findUnclaimedForUpdateSkipLocked(outboxStatus.name(), now, limit);
+        if (paymentOutboxEntities.isEmpty()) {
+            return Collections.emptyList();
+        }
+        paymentOutboxJpaRepository.updateClaimedUntilByIdIn(paymentOutboxEntities.stream()
+                .map(PaymentOutboxEntity::getId)
+                .collect(Collectors.toList()), claimedUntil);
+        return paymentOutboxEntities.stream()
+                .map(paymentOutboxDataAccessMapper::paymentOutboxEntityToOrderPaymentOutboxMessage)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public int updateOutboxStatus(List<UUID> ids, OutboxStatus outboxStatus, ZonedDateTime processedAt) {
+        return paymentOutboxJpaRepository.updateOutboxStatusByIdIn(ids, outboxStatus, processedAt);
+    }
+
+    @Override
+    public int deleteByOutboxStatusAndProcessedAtBefore(OutboxStatus outboxStatus, ZonedDateTime processedAt) {
+        return paymentOutboxJpaRepository.deleteByOutboxStatusAndProcessedAtBefore(outboxStatus, processedAt);
+    }
+}
@@ -0,0 +1,47 @@
+package com.food.ordering.system.order.service.dataaccess.outbox.payment.entity;
+
+import com.food.ordering.system.domain.valueobject.OutboxStatus;
+import com.food.ordering.system.domain.valueobject.PaymentOrderStatus;
+import lombok.*;
+
+import javax.persistence.*;
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "payment_outbox")
+@Entity
+public class PaymentOutboxEntity {
+    @Id
+    private UUID id;
+    private UUID sagaId;
+    private UUID orderId;
+    private UUID customerId;
+    private BigDecimal price;
+    @Enumerated(EnumType.STRING)
+    private PaymentOrderStatus paymentOrderStatus;
+    private ZonedDateTime createdAt;
+    private ZonedDateTime processedAt;
+    private ZonedDateTime claimedUntil;
+    @Enumerated(EnumType.STRING)
+    private OutboxStatus outboxStatus;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        PaymentOutboxEntity that = (PaymentOutboxEntity) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
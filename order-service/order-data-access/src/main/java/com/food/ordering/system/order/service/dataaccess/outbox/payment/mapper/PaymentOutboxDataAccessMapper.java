@@ -0,0 +1,39 @@
+package com.food.ordering.system.order.service.dataaccess.outbox.payment.mapper;
+
+import com.food.ordering.system.order.service.dataaccess.outbox.payment.entity.PaymentOutboxEntity;
+import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentOutboxMessage;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PaymentOutboxDataAccessMapper {
+
+    public PaymentOutboxEntity orderPaymentOutboxMessageToOutboxEntity(OrderPaymentOutboxMessage
+                                                                               orderPaymentOutboxMessage) {
+        return PaymentOutboxEntity.builder()
+                .id(orderPaymentOutboxMessage.getId())
+                .sagaId(orderPaymentOutboxMessage.getSagaId())
+                .orderId(orderPaymentOutboxMessage.getOrderId())
+                .customerId(orderPaymentOutboxMessage.getCustomerId())
+                .price(orderPaymentOutboxMessage.getPrice())
+                .paymentOrderStatus(orderPaymentOutboxMessage.getPaymentOrderStatus())
+                .createdAt(orderPaymentOutboxMessage.getCreatedAt())
+                .processedAt(orderPaymentOutboxMessage.getProcessedAt())
+                .outboxStatus(orderPaymentOutboxMessage.getOutboxStatus())
+                .build();
+    }
+
+    public OrderPaymentOutboxMessage paymentOutboxEntityToOrderPaymentOutboxMessage(PaymentOutboxEntity
+                                                                                            paymentOutboxEntity) {
+        return OrderPaymentOutboxMessage.builder()
+                .id(paymentOutboxEntity.getId())
+                .sagaId(paymentOutboxEntity.getSagaId())
+                .orderId(paymentOutboxEntity.getOrderId())
+                .customerId(paymentOutboxEntity.getCustomerId())
+                .price(paymentOutboxEntity.getPrice())
+                .paymentOrderStatus(paymentOutboxEntity.getPaymentOrderStatus())
+                .createdAt(paymentOutboxEntity.getCreatedAt())
+                .processedAt(paymentOutboxEntity.getProcessedAt())
+                .outboxStatus(paymentOutboxEntity.getOutboxStatus())
+                .build();
+    }
+}
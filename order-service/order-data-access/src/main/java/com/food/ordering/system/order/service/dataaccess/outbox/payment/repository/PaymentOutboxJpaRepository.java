@@ -0,0 +1,40 @@
+package com.food.ordering.system.order.service.dataaccess.outbox.payment.repository;
+
+import com.food.ordering.system.domain.valueobject.OutboxStatus;
+import com.food.ordering.system.order.service.dataaccess.outbox.payment.entity.PaymentOutboxEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface PaymentOutboxJpaRepository extends JpaRepository<PaymentOutboxEntity, UUID> {
+
+    @Query(value = "SELECT * FROM \"order\".payment_outbox WHERE outbox_status = :outboxStatus " +
+            "AND (claimed_until IS NULL OR claimed_until < :now) " +
+            "ORDER BY created_at LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<PaymentOutboxEntity> findUnclaimedForUpdateSkipLocked(@Param("outboxStatus") String outboxStatus,
+                                                               @Param("now") ZonedDateTime now,
+                                                               @Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE PaymentOutboxEntity p SET p.claimedUntil = :claimedUntil WHERE p.id IN :ids")
+    int updateClaimedUntilByIdIn(@Param("ids") List<UUID> ids, @Param("claimedUntil") ZonedDateTime claimedUntil);
+
+    @Modifying
+    @Query("UPDATE PaymentOutboxEntity p SET p.outboxStatus = :outboxStatus, p.processedAt = :processedAt " +
+            "WHERE p.id IN :ids")
+    int updateOutboxStatusByIdIn(@Param("ids") List<UUID> ids,
+                                 @Param("outboxStatus") OutboxStatus outboxStatus,
+                                 @Param("processedAt") ZonedDateTime processedAt);
+
+    @Modifying
+    @Query("DELETE FROM PaymentOutboxEntity p WHERE p.outboxStatus = :outboxStatus AND p.processedAt < :processedAt")
+    int deleteByOutboxStatusAndProcessedAtBefore(@Param("outboxStatus") OutboxStatus outboxStatus,
+                                                 @Param("processedAt") ZonedDateTime processedAt);
+}
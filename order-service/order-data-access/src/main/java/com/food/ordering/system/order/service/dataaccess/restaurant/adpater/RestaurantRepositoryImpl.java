@@ -1,30 +1,45 @@
 package com.food.ordering.system.order.service.dataaccess.restaurant.adpater;
 
-import com.food.ordering.system.dataaccess.restaurant.repository.RestaurantJpaRepository;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.order.service.dataaccess.restaurant.cache.RestaurantProductsCache;
 import com.food.ordering.system.order.service.dataaccess.restaurant.mapper.RestaurantDataAccessMapper;
 
 import com.food.ordering.system.order.service.domain.entity.Restaurant;
 import com.food.ordering.system.order.service.domain.ports.output.repository.RestaurantRepository;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Component
 public class RestaurantRepositoryImpl implements RestaurantRepository {
 
-    private final RestaurantJpaRepository restaurantJpaRepository;
+    private final RestaurantProductsCache restaurantProductsCache;
     private final RestaurantDataAccessMapper restaurantDataAccessMapper;
 
-    public RestaurantRepositoryImpl(RestaurantJpaRepository restaurantJpaRepository,
+    public RestaurantRepositoryImpl(RestaurantProductsCache restaurantProductsCache,
                                     RestaurantDataAccessMapper restaurantDataAccessMapper) {
-        this.restaurantJpaRepository = restaurantJpaRepository;
+        this.restaurantProductsCache = restaurantProductsCache;
         this.restaurantDataAccessMapper = restaurantDataAccessMapper;
     }
 
     @Override
     public Optional<Restaurant> findRestaurantInformation(Restaurant restaurant) {
-        return restaurantJpaRepository.findByRestaurantIdAndProductIdIn(restaurant.getId().getValue(),
-                restaurantDataAccessMapper.restaurantToRestaurantProducts(restaurant))
+        return Optional.of(restaurantProductsCache.get(restaurant.getId().getValue())
+                .getProducts(restaurantDataAccessMapper.restaurantToRestaurantProducts(restaurant)))
                 .map(restaurantDataAccessMapper::restaurantEntityToRestaurant);
     }
+
+    @Override
+    public List<Restaurant> findRestaurantsInformation(Collection<RestaurantId> restaurantIds) {
+        return restaurantProductsCache.getAll(restaurantIds.stream()
+                        .map(RestaurantId::getValue)
+                        .collect(Collectors.toSet())).values().stream()
+                .filter(restaurantProductsSnapshot -> restaurantProductsSnapshot.size() > 0)
+                .map(restaurantProductsSnapshot -> restaurantDataAccessMapper
+                        .restaurantEntityToRestaurant(restaurantProductsSnapshot.getAllProducts()))
+                .collect(Collectors.toList());
+    }
 }
@@ -0,0 +1,94 @@
+package com.food.ordering.system.order.service.dataaccess.restaurant.cache;
+
+import com.food.ordering.system.dataaccess.restaurant.entity.RestaurantEntity;
+import com.food.ordering.system.dataaccess.restaurant.repository.RestaurantJpaRepository;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Bounded cache of restaurant product snapshots, loaded one restaurant at a time so any product subset of a
+ * cached restaurant is answered from memory. Entries are evicted by size and by time since load.
+ */
+@Slf4j
+@Component
+public class RestaurantProductsCache {
+
+    private final RestaurantJpaRepository restaurantJpaRepository;
+    private final Cache<UUID, RestaurantProductsSnapshot> cache;
+
+    public RestaurantProductsCache(RestaurantJpaRepository restaurantJpaRepository,
+                                   OrderServiceConfigData orderServiceConfigData) {
+        this.restaurantJpaRepository = restaurantJpaRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(orderServiceConfigData.getRestaurantCacheMaximumSize())
+                .expireAfterWrite(Duration.ofSeconds(orderServiceConfigData.getRestaurantCacheExpireAfterWriteSeconds()))
+                .recordStats()
+                .build();
+    }
+
+    public RestaurantProductsSnapshot get(UUID restaurantId) {
+        return cache.get(restaurantId, this::load);
+    }
+
+    /**
+     * Restaurants missing from the cache are loaded together with one query.
+     */
+    public Map<UUID, RestaurantProductsSnapshot> getAll(Collection<UUID> restaurantIds) {
+        return cache.getAll(restaurantIds, this::loadAll);
+    }
+
+    public void evict(UUID restaurantId) {
+        log.info("Evicting restaurant with id: {} from restaurant products cache", restaurantId);
+        cache.invalidate(restaurantId);
+    }
+
+    public void evictAll() {
+        log.info("Evicting all restaurants from restaurant products cache");
+        cache.invalidateAll();
+    }
+
+    public long getHitCount() {
+        return cache.stats().hitCount();
+    }
+
+    public long getMissCount() {
+        return cache.stats().missCount();
+    }
+
+    public long getEvictionCount() {
+        return cache.stats().evictionCount();
+    }
+
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+
+    private Map<UUID, RestaurantProductsSnapshot> loadAll(Iterable<? extends UUID> keys) {
+        List<UUID> restaurantIds = new ArrayList<>();
+        keys.forEach(restaurantIds::add);
+        Map<UUID, List<RestaurantEntity>> restaurantEntities = restaurantJpaRepository
+                .findByRestaurantIdIn(restaurantIds).stream()
+                .collect(Collectors.groupingBy(RestaurantEntity::getRestaurantId));
+        Map<UUID, RestaurantProductsSnapshot> snapshots = new HashMap<>(restaurantIds.size() * 2);
+        restaurantIds.forEach(restaurantId -> snapshots.put(restaurantId, RestaurantProductsSnapshot.of(
+                restaurantEntities.getOrDefault(restaurantId, Collections.emptyList()))));
+        log.debug("Loaded {} restaurants into restaurant products cache", snapshots.size());
+        return snapshots;
+    }
+
+    private RestaurantProductsSnapshot load(UUID restaurantId) {
+        RestaurantProductsSnapshot snapshot =
+                RestaurantProductsSnapshot.of(restaurantJpaRepository.findByRestaurantId(restaurantId));
+        log.debug("Loaded {} products of restaurant with id: {} into restaurant products cache",
+                snapshot.size(), restaurantId);
+        return snapshot;
+    }
+}
@@ -0,0 +1,60 @@
+package com.food.ordering.system.order.service.dataaccess.restaurant.cache;
+
+import com.food.ordering.system.dataaccess.restaurant.entity.RestaurantEntity;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable copy of every product row of one restaurant, keyed by product id.
+ */
+public class RestaurantProductsSnapshot {
+
+    private final Map<UUID, RestaurantEntity> productsById;
+
+    private RestaurantProductsSnapshot(Map<UUID, RestaurantEntity> productsById) {
+        this.productsById = productsById;
+    }
+
+    public static RestaurantProductsSnapshot of(List<RestaurantEntity> restaurantEntities) {
+        Map<UUID, RestaurantEntity> productsById = new LinkedHashMap<>(restaurantEntities.size() * 2);
+        restaurantEntities.forEach(entity -> productsById.put(entity.getProductId(), copyOf(entity)));
+        return new RestaurantProductsSnapshot(Collections.unmodifiableMap(productsById));
+    }
+
+    public List<RestaurantEntity> getProducts(List<UUID> productIds) {
+        return productIds.stream()
+                .distinct()
+                .map(productsById::get)
+                .filter(Objects::nonNull)
+                .map(RestaurantProductsSnapshot::copyOf)
+                .collect(Collectors.toList());
+    }
+
+    public List<RestaurantEntity> getAllProducts() {
+        return productsById.values().stream()
+                .map(RestaurantProductsSnapshot::copyOf)
+                .collect(Collectors.toList());
+    }
+
+    public int size() {
+        return productsById.size();
+    }
+
+    private static RestaurantEntity copyOf(RestaurantEntity entity) {
+        return RestaurantEntity.builder()
+                .restaurantId(entity.getRestaurantId())
+                .productId(entity.getProductId())
+                .restaurantName(entity.getRestaurantName())
+                .restaurantActive(entity.getRestaurantActive())
+                .productName(entity.getProductName())
+                .productPrice(entity.getProductPrice())
+                .productAvailable(entity.isProductAvailable())
+                .build();
+    }
+}
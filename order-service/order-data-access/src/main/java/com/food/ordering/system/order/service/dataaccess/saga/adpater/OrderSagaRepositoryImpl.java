@@ -0,0 +1,46 @@
+package com.food.ordering.system.order.service.dataaccess.saga.adpater;
+
+import com.food.ordering.system.order.service.dataaccess.saga.mapper.OrderSagaDataAccessMapper;
+import com.food.ordering.system.order.service.dataaccess.saga.repository.OrderSagaJpaRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderSagaRepository;
+import com.food.ordering.system.order.service.domain.saga.model.OrderSaga;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Component
+public class OrderSagaRepositoryImpl implements OrderSagaRepository {
+
+    private final OrderSagaJpaRepository orderSagaJpaRepository;
+    private final OrderSagaDataAccessMapper orderSagaDataAccessMapper;
+
+    public OrderSagaRepositoryImpl(OrderSagaJpaRepository orderSagaJpaRepository,
+                                   OrderSagaDataAccessMapper orderSagaDataAccessMapper) {
+        this.orderSagaJpaRepository = orderSagaJpaRepository;
+        this.orderSagaDataAccessMapper = orderSagaDataAccessMapper;
+    }
+
+    @Override
+    public OrderSaga save(OrderSaga orderSaga) {
+        return orderSagaDataAccessMapper.orderSagaEntityToOrderSaga(
+                orderSagaJpaRepository.save(orderSagaDataAccessMapper.orderSagaToOrderSagaEntity(orderSaga)));
+    }
+
+    @Override
+    public void saveAll(List<OrderSaga> orderSagas) {
+        // merging with the version read in the batch fails the transaction if another writer got there first
+        orderSagaJpaRepository.saveAll(orderSagas.stream()
+                .map(orderSagaDataAccessMapper::orderSagaToOrderSagaEntity)
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    public List<OrderSaga> findByOrderIdIn(Collection<UUID> orderIds) {
+        return orderSagaJpaRepository.findByOrderIdIn(orderIds).stream()
+                .map(orderSagaDataAccessMapper::orderSagaEntityToOrderSaga)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,44 @@
+package com.food.ordering.system.order.service.dataaccess.saga.entity;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.domain.valueobject.SagaStatus;
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.ZonedDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "order_saga")
+@Entity
+public class OrderSagaEntity {
+    @Id
+    private UUID id;
+    private UUID orderId;
+    @Enumerated(EnumType.STRING)
+    private SagaStatus sagaStatus;
+    @Enumerated(EnumType.STRING)
+    private OrderStatus orderStatus;
+    private ZonedDateTime createdAt;
+    private ZonedDateTime processedAt;
+    @Version
+    private Long version;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        OrderSagaEntity that = (OrderSagaEntity) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
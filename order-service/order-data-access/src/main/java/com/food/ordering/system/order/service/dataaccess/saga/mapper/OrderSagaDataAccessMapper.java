@@ -0,0 +1,33 @@
+package com.food.ordering.system.order.service.dataaccess.saga.mapper;
+
+import com.food.ordering.system.order.service.dataaccess.saga.entity.OrderSagaEntity;
+import com.food.ordering.system.order.service.domain.saga.model.OrderSaga;
+import org.springframework.stereotype.Component;
+
+@Component
+public class OrderSagaDataAccessMapper {
+
+    public OrderSagaEntity orderSagaToOrderSagaEntity(OrderSaga orderSaga) {
+        return OrderSagaEntity.builder()
+                .id(orderSaga.getSagaId())
+                .orderId(orderSaga.getOrderId())
+                .sagaStatus(orderSaga.getSagaStatus())
+                .orderStatus(orderSaga.getOrderStatus())
+                .createdAt(orderSaga.getCreatedAt())
+                .processedAt(orderSaga.getProcessedAt())
+                .version(orderSaga.getVersion())
+                .build();
+    }
+
+    public OrderSaga orderSagaEntityToOrderSaga(OrderSagaEntity orderSagaEntity) {
+        return OrderSaga.builder()
+                .sagaId(orderSagaEntity.getId())
+                .orderId(orderSagaEntity.getOrderId())
+                .sagaStatus(orderSagaEntity.getSagaStatus())
+                .orderStatus(orderSagaEntity.getOrderStatus())
+                .createdAt(orderSagaEntity.getCreatedAt())
+                .processedAt(orderSagaEntity.getProcessedAt())
+                .version(orderSagaEntity.getVersion())
+                .build();
+    }
+}
@@ -0,0 +1,15 @@
+package com.food.ordering.system.order.service.dataaccess.saga.repository;
+
+import com.food.ordering.system.order.service.dataaccess.saga.entity.OrderSagaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface OrderSagaJpaRepository extends JpaRepository<OrderSagaEntity, UUID> {
+
+    List<OrderSagaEntity> findByOrderIdIn(Collection<UUID> orderIds);
+}
@@ -0,0 +1,92 @@
+package com.food.ordering.system.order.service.dataaccess.tracking.adpater;
+
+import com.food.ordering.system.order.service.dataaccess.tracking.cache.OrderTrackingCache;
+import com.food.ordering.system.order.service.dataaccess.tracking.entity.OrderTrackingEntity;
+import com.food.ordering.system.order.service.dataaccess.tracking.mapper.OrderTrackingDataAccessMapper;
+import com.food.ordering.system.order.service.dataaccess.tracking.repository.OrderTrackingJpaRepository;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderTrackingRepository;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManager;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+public class OrderTrackingRepositoryImpl implements OrderTrackingRepository {
+
+    private final OrderTrackingJpaRepository orderTrackingJpaRepository;
+    private final OrderTrackingDataAccessMapper orderTrackingDataAccessMapper;
+    private final OrderTrackingCache orderTrackingCache;
+    private final EntityManager entityManager;
+
+    public OrderTrackingRepositoryImpl(OrderTrackingJpaRepository orderTrackingJpaRepository,
+                                       OrderTrackingDataAccessMapper orderTrackingDataAccessMapper,
+                                       OrderTrackingCache orderTrackingCache,
+                                       EntityManager entityManager) {
+        this.orderTrackingJpaRepository = orderTrackingJpaRepository;
+        this.orderTrackingDataAccessMapper = orderTrackingDataAccessMapper;
+        this.orderTrackingCache = orderTrackingCache;
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public void insert(Order order) {
+        OrderTrackingEntity orderTrackingEntity = orderTrackingDataAccessMapper.orderToOrderTrackingEntity(order);
+        entityManager.persist(orderTrackingEntity);
+        orderTrackingCache.putAfterCommit(Collections.singletonList(
+                orderTrackingDataAccessMapper.orderTrackingEntityToTrackOrderResponse(orderTrackingEntity)));
+    }
+
+    @Override
+    public void insertAll(List<Order> orders) {
+        List<TrackOrderResponse> trackOrderResponses = new ArrayList<>(orders.size());
+        orders.forEach(order -> {
+            OrderTrackingEntity orderTrackingEntity = orderTrackingDataAccessMapper.orderToOrderTrackingEntity(order);
+            entityManager.persist(orderTrackingEntity);
+            trackOrderResponses.add(
+                    orderTrackingDataAccessMapper.orderTrackingEntityToTrackOrderResponse(orderTrackingEntity));
+        });
+        orderTrackingCache.putAfterCommit(trackOrderResponses);
+    }
+
+    @Override
+    public void updateAll(List<Order> orders) {
+        // rows are changed in place and flushed by dirty checking, no merge round trip per order
+        Map<UUID, OrderTrackingEntity> orderTrackingEntities = orderTrackingJpaRepository.findAllById(orders.stream()
+                        .map(order -> order.getTrackingId().getValue())
+                        .collect(Collectors.toList())).stream()
+                .collect(Collectors.toMap(OrderTrackingEntity::getTrackingId, Function.identity()));
+        List<TrackOrderResponse> trackOrderResponses = new ArrayList<>(orders.size());
+        for (Order order : orders) {
+            OrderTrackingEntity orderTrackingEntity = orderTrackingEntities.get(order.getTrackingId().getValue());
+            if (orderTrackingEntity == null) {
+                orderTrackingEntity = orderTrackingDataAccessMapper.orderToOrderTrackingEntity(order);
+                entityManager.persist(orderTrackingEntity);
+            } else {
+                orderTrackingDataAccessMapper.updateOrderTrackingEntity(orderTrackingEntity, order);
+            }
+            trackOrderResponses.add(
+                    orderTrackingDataAccessMapper.orderTrackingEntityToTrackOrderResponse(orderTrackingEntity));
+        }
+        orderTrackingCache.putAfterCommit(trackOrderResponses);
+    }
+
+    @Override
+    public Optional<TrackOrderResponse> findByTrackingId(TrackingId trackingId) {
+        return orderTrackingCache.get(trackingId.getValue(), key -> orderTrackingJpaRepository.findById(key)
+                .map(orderTrackingDataAccessMapper::orderTrackingEntityToTrackOrderResponse));
+    }
+
+    @Override
+    public List<TrackOrderResponse> findByTrackingIdIn(Collection<TrackingId> trackingIds) {
+        return orderTrackingJpaRepository.findAllById(trackingIds.stream()
+                        .map(TrackingId::getValue)
+                        .collect(Collectors.toList())).stream()
+                .map(orderTrackingDataAccessMapper::orderTrackingEntityToTrackOrderResponse)
+                .collect(Collectors.toList());
+    }
+}
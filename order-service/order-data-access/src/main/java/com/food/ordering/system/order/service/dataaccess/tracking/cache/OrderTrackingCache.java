@@ -0,0 +1,61 @@
+package com.food.ordering.system.order.service.dataaccess.tracking.cache;
+
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of tracking responses. Writes of this instance are put once their transaction has committed; the
+ * expiry bounds how long a status written by another instance can be served stale.
+ */
+@Component
+public class OrderTrackingCache {
+
+    private final Cache<UUID, TrackOrderResponse> cache;
+
+    public OrderTrackingCache(OrderServiceConfigData orderServiceConfigData) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(orderServiceConfigData.getOrderTrackingCacheMaximumSize())
+                .expireAfterWrite(Duration.ofSeconds(
+                        orderServiceConfigData.getOrderTrackingCacheExpireAfterWriteSeconds()))
+                .recordStats()
+                .build();
+    }
+
+    public Optional<TrackOrderResponse> get(UUID trackingId,
+                                            Function<UUID, Optional<TrackOrderResponse>> loader) {
+        return Optional.ofNullable(cache.get(trackingId, key -> loader.apply(key).orElse(null)));
+    }
+
+    public void putAfterCommit(Collection<TrackOrderResponse> trackOrderResponses) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            trackOrderResponses.forEach(this::put);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                trackOrderResponses.forEach(OrderTrackingCache.this::put);
+            }
+        });
+    }
+
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+
+    private void put(TrackOrderResponse trackOrderResponse) {
+        cache.put(trackOrderResponse.getOrderTracingID(), trackOrderResponse);
+    }
+}
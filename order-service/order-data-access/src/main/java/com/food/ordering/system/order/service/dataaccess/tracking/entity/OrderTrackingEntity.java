@@ -0,0 +1,37 @@
+package com.food.ordering.system.order.service.dataaccess.tracking.entity;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import lombok.*;
+
+import javax.persistence.*;
+import java.util.Objects;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "order_tracking")
+@Entity
+public class OrderTrackingEntity {
+    @Id
+    private UUID trackingId;
+    private UUID orderId;
+    @Enumerated(EnumType.STRING)
+    private OrderStatus orderStatus;
+    private String failureMessages;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        OrderTrackingEntity that = (OrderTrackingEntity) o;
+        return Objects.equals(trackingId, that.trackingId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(trackingId);
+    }
+}
@@ -0,0 +1,44 @@
+package com.food.ordering.system.order.service.dataaccess.tracking.mapper;
+
+import com.food.ordering.system.order.service.dataaccess.tracking.entity.OrderTrackingEntity;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.food.ordering.system.order.service.domain.entity.Order.FAILURE_MESSAGE_DELIMITER;
+
+@Component
+public class OrderTrackingDataAccessMapper {
+
+    public OrderTrackingEntity orderToOrderTrackingEntity(Order order) {
+        return OrderTrackingEntity.builder()
+                .trackingId(order.getTrackingId().getValue())
+                .orderId(order.getId().getValue())
+                .orderStatus(order.getOrderStatus())
+                .failureMessages(failureMessagesToString(order.getFailureMessages()))
+                .build();
+    }
+
+    public void updateOrderTrackingEntity(OrderTrackingEntity orderTrackingEntity, Order order) {
+        orderTrackingEntity.setOrderStatus(order.getOrderStatus());
+        orderTrackingEntity.setFailureMessages(failureMessagesToString(order.getFailureMessages()));
+    }
+
+    public TrackOrderResponse orderTrackingEntityToTrackOrderResponse(OrderTrackingEntity orderTrackingEntity) {
+        return TrackOrderResponse.builder()
+                .orderTracingID(orderTrackingEntity.getTrackingId())
+                .orderStatus(orderTrackingEntity.getOrderStatus())
+                .failureMessages(orderTrackingEntity.getFailureMessages().isEmpty() ? new ArrayList<>() :
+                        new ArrayList<>(Arrays.asList(orderTrackingEntity.getFailureMessages()
+                                .split(FAILURE_MESSAGE_DELIMITER))))
+                .build();
+    }
+
+    private String failureMessagesToString(List<String> failureMessages) {
+        return failureMessages != null ? String.join(FAILURE_MESSAGE_DELIMITER, failureMessages) : "";
+    }
+}
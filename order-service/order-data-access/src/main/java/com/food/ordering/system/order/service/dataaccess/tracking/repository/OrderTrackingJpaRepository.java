@@ -0,0 +1,11 @@
+package com.food.ordering.system.order.service.dataaccess.tracking.repository;
+
+import com.food.ordering.system.order.service.dataaccess.tracking.entity.OrderTrackingEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface OrderTrackingJpaRepository extends JpaRepository<OrderTrackingEntity, UUID> {
+}
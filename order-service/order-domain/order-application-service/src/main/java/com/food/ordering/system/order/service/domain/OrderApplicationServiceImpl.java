@@ -1,7 +1,9 @@
 package com.food.ordering.system.order.service.domain;
 
+import com.food.ordering.system.order.service.domain.admission.RestaurantAdmissionControl;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResult;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderQuery;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
 import com.food.ordering.system.order.service.domain.ports.input.service.OrderApplicationService;
@@ -9,6 +11,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import javax.validation.Valid;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
 
 @Slf4j
 @Valid
@@ -16,21 +21,51 @@ import javax.validation.Valid;
 class OrderApplicationServiceImpl implements OrderApplicationService {
 
     private final OrderCreateCommandHandler orderCreateCommandHandler;
+    private final OrderBulkCreateCommandHandler orderBulkCreateCommandHandler;
     private final OrderTrackCommandHandler orderTrackCommandHandler;
+    private final RestaurantAdmissionControl restaurantAdmissionControl;
 
     public OrderApplicationServiceImpl(OrderCreateCommandHandler orderCreateCommandHandler,
-                                       OrderTrackCommandHandler orderTrackCommandHandler) {
+                                       OrderBulkCreateCommandHandler orderBulkCreateCommandHandler,
+                                       OrderTrackCommandHandler orderTrackCommandHandler,
+                                       RestaurantAdmissionControl restaurantAdmissionControl) {
         this.orderCreateCommandHandler = orderCreateCommandHandler;
+        this.orderBulkCreateCommandHandler = orderBulkCreateCommandHandler;
         this.orderTrackCommandHandler = orderTrackCommandHandler;
+        this.restaurantAdmissionControl = restaurantAdmissionControl;
     }
 
     @Override
     public CreateOrderResponse createOrder(CreateOrderCommand createOrderCommand) {
+        restaurantAdmissionControl.admit(createOrderCommand.getRestaurantId());
         return orderCreateCommandHandler.createOrder(createOrderCommand);
     }
 
+    @Override
+    public CreateOrderResponse createOrder(CreateOrderCommand createOrderCommand, String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return createOrder(createOrderCommand);
+        }
+        // a repeat is answered from the stored response without taking an admission
+        return orderCreateCommandHandler.findCreateOrderResponse(createOrderCommand, idempotencyKey)
+                .orElseGet(() -> {
+                    restaurantAdmissionControl.admit(createOrderCommand.getRestaurantId());
+                    return orderCreateCommandHandler.createOrder(createOrderCommand, idempotencyKey);
+                });
+    }
+
+    @Override
+    public List<CreateOrderResult> createOrders(List<CreateOrderCommand> createOrderCommands) {
+        return orderBulkCreateCommandHandler.createOrders(createOrderCommands);
+    }
+
     @Override
     public TrackOrderResponse trackOrder(TrackOrderQuery trackOrderQuery) {
         return orderTrackCommandHandler.trackOrder(trackOrderQuery);
     }
+
+    @Override
+    public List<TrackOrderResponse> trackOrders(Collection<UUID> trackingIds) {
+        return orderTrackCommandHandler.trackOrders(trackingIds);
+    }
 }
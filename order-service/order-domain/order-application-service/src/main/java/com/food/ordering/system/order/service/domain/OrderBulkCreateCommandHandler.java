@@ -0,0 +1,149 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.order.service.domain.admission.RestaurantAdmissionControl;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResult;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.exception.RestaurantOverloadedException;
+import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentOutboxMessage;
+import com.food.ordering.system.order.service.domain.outbox.scheduler.payment.PaymentOutboxHelper;
+import com.food.ordering.system.order.service.domain.ports.output.repository.CustomerRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderTrackingRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.RestaurantRepository;
+import com.food.ordering.system.order.service.domain.saga.OrderSagaEngine;
+import com.food.ordering.system.order.service.domain.saga.model.OrderSaga;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Creates a batch of orders in one transaction. Customers and restaurants are checked with one lookup each for the
+ * whole batch, and the orders, tracking rows, outbox messages and sagas are written with batched inserts. An order
+ * that fails validation is reported in its result and does not stop the others.
+ */
+@Slf4j
+@Component
+public class OrderBulkCreateCommandHandler {
+
+    private final OrderDomainService orderDomainService;
+    private final OrderRepository orderRepository;
+    private final OrderTrackingRepository orderTrackingRepository;
+    private final CustomerRepository customerRepository;
+    private final RestaurantRepository restaurantRepository;
+    private final OrderDataMapper orderDataMapper;
+    private final PaymentOutboxHelper paymentOutboxHelper;
+    private final OrderSagaEngine orderSagaEngine;
+    private final OrderServiceConfigData orderServiceConfigData;
+    private final RestaurantAdmissionControl restaurantAdmissionControl;
+
+    public OrderBulkCreateCommandHandler(OrderDomainService orderDomainService,
+                                         OrderRepository orderRepository,
+                                         OrderTrackingRepository orderTrackingRepository,
+                                         CustomerRepository customerRepository,
+                                         RestaurantRepository restaurantRepository,
+                                         OrderDataMapper orderDataMapper,
+                                         PaymentOutboxHelper paymentOutboxHelper,
+                                         OrderSagaEngine orderSagaEngine,
+                                         OrderServiceConfigData orderServiceConfigData,
+                                         RestaurantAdmissionControl restaurantAdmissionControl) {
+        this.orderDomainService = orderDomainService;
+        this.orderRepository = orderRepository;
+        this.orderTrackingRepository = orderTrackingRepository;
+        this.customerRepository = customerRepository;
+        this.restaurantRepository = restaurantRepository;
+        this.orderDataMapper = orderDataMapper;
+        this.paymentOutboxHelper = paymentOutboxHelper;
+        this.orderSagaEngine = orderSagaEngine;
+        this.orderServiceConfigData = orderServiceConfigData;
+        this.restaurantAdmissionControl = restaurantAdmissionControl;
+    }
+
+    /**
+     * Results are returned in the order of the commands.
+     */
+    @Transactional
+    public List<CreateOrderResult> createOrders(List<CreateOrderCommand> createOrderCommands) {
+        if (createOrderCommands.isEmpty() || createOrderCommands.size() > orderServiceConfigData.getBulkOrderMaxSize()) {
+            throw new OrderDomainException("Bulk order request must contain between 1 and " +
+                    orderServiceConfigData.getBulkOrderMaxSize() + " orders!");
+        }
+        Set<UUID> existingCustomerIds = customerRepository.findExistingCustomerIds(createOrderCommands.stream()
+                .map(CreateOrderCommand::getCustomerId)
+                .collect(Collectors.toSet()));
+        Map<UUID, Restaurant> restaurants = restaurantRepository.findRestaurantsInformation(createOrderCommands
+                        .stream()
+                        .map(createOrderCommand -> new RestaurantId(createOrderCommand.getRestaurantId()))
+                        .collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(restaurant -> restaurant.getId().getValue(), Function.identity()));
+
+        List<CreateOrderResult> createOrderResults = new ArrayList<>(createOrderCommands.size());
+        List<OrderCreatedEvent> orderCreatedEvents = new ArrayList<>(createOrderCommands.size());
+        for (CreateOrderCommand createOrderCommand : createOrderCommands) {
+            try {
+                OrderCreatedEvent orderCreatedEvent = initiateOrder(createOrderCommand, existingCustomerIds,
+                        restaurants);
+                orderCreatedEvents.add(orderCreatedEvent);
+                createOrderResults.add(CreateOrderResult.builder()
+                        .createOrderResponse(orderDataMapper.orderToCreateOrderResponse(orderCreatedEvent.getOrder(),
+                                "Order Created Successfully"))
+                        .build());
+            } catch (OrderDomainException | RestaurantOverloadedException e) {
+                log.warn("Order of customer: {} for restaurant: {} is rejected: {}",
+                        createOrderCommand.getCustomerId(), createOrderCommand.getRestaurantId(), e.getMessage());
+                createOrderResults.add(CreateOrderResult.builder().errorMessage(e.getMessage()).build());
+            }
+        }
+        if (!orderCreatedEvents.isEmpty()) {
+            saveOrders(orderCreatedEvents);
+        }
+        log.info("{} of {} orders are created", orderCreatedEvents.size(), createOrderCommands.size());
+        return createOrderResults;
+    }
+
+    private OrderCreatedEvent initiateOrder(CreateOrderCommand createOrderCommand,
+                                            Set<UUID> existingCustomerIds,
+                                            Map<UUID, Restaurant> restaurants) {
+        if (!existingCustomerIds.contains(createOrderCommand.getCustomerId())) {
+            throw new OrderDomainException("Could not find customer with customer id: " +
+                    createOrderCommand.getCustomerId());
+        }
+        Restaurant restaurant = restaurants.get(createOrderCommand.getRestaurantId());
+        if (restaurant == null) {
+            throw new OrderDomainException("Could not find restaurant with restaurant id: " +
+                    createOrderCommand.getRestaurantId());
+        }
+        // an order rejected by the checks above does not use up a token of the restaurant
+        restaurantAdmissionControl.admit(createOrderCommand.getRestaurantId());
+        Order order = orderDataMapper.createOrderCommandToOrder(createOrderCommand);
+        return orderDomainService.validateAndInitiateOrder(order, restaurant);
+    }
+
+    private void saveOrders(List<OrderCreatedEvent> orderCreatedEvents) {
+        List<Order> orders = new ArrayList<>(orderCreatedEvents.size());
+        List<OrderPaymentOutboxMessage> orderPaymentOutboxMessages = new ArrayList<>(orderCreatedEvents.size());
+        List<OrderSaga> orderSagas = new ArrayList<>(orderCreatedEvents.size());
+        orderCreatedEvents.forEach(orderCreatedEvent -> {
+            OrderPaymentOutboxMessage orderPaymentOutboxMessage =
+                    orderDataMapper.orderCreatedEventToOrderPaymentOutboxMessage(orderCreatedEvent);
+            orders.add(orderCreatedEvent.getOrder());
+            orderPaymentOutboxMessages.add(orderPaymentOutboxMessage);
+            orderSagas.add(orderDataMapper.orderCreatedEventToOrderSaga(orderCreatedEvent,
+                    orderPaymentOutboxMessage.getSagaId()));
+        });
+        orderRepository.insertAll(orders);
+        orderTrackingRepository.insertAll(orders);
+        paymentOutboxHelper.savePaymentOutboxMessages(orderPaymentOutboxMessages);
+        orderSagaEngine.startSagas(orderSagas);
+    }
+}
@@ -8,40 +8,98 @@ import com.food.ordering.system.order.service.domain.entity.Restaurant;
 import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
 import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
 import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
-import com.food.ordering.system.order.service.domain.ports.output.message.publisher.payment.OrderCreatedPaymentRequestMessagePublisher;
+import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentOutboxMessage;
+import com.food.ordering.system.order.service.domain.outbox.scheduler.payment.PaymentOutboxHelper;
 import com.food.ordering.system.order.service.domain.ports.output.repository.CustomerRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderIdempotencyRepository;
 import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
 import com.food.ordering.system.order.service.domain.ports.output.repository.RestaurantRepository;
+import com.food.ordering.system.order.service.domain.saga.OrderSagaEngine;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
 import java.util.Optional;
 import java.util.UUID;
 
+import static com.food.ordering.system.domain.DomainConstants.UTC;
+
 @Slf4j
 @Component
 public class OrderCreateCommandHandler {
 
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 255;
+
     private final OrderCreateHelper orderCreateHelper;
     private final OrderDataMapper orderDataMapper;
-    private final OrderCreatedPaymentRequestMessagePublisher orderCreatedPaymentRequestMessagePublisher;
+    private final PaymentOutboxHelper paymentOutboxHelper;
+    private final OrderSagaEngine orderSagaEngine;
+    private final OrderIdempotencyRepository orderIdempotencyRepository;
 
     public OrderCreateCommandHandler(OrderCreateHelper orderCreateHelper,
                                      OrderDataMapper orderDataMapper,
-                                     OrderCreatedPaymentRequestMessagePublisher orderCreatedPaymentRequestMessagePublisher) {
+                                     PaymentOutboxHelper paymentOutboxHelper,
+                                     OrderSagaEngine orderSagaEngine,
+                                     OrderIdempotencyRepository orderIdempotencyRepository) {
         this.orderCreateHelper = orderCreateHelper;
         this.orderDataMapper = orderDataMapper;
-        this.orderCreatedPaymentRequestMessagePublisher = orderCreatedPaymentRequestMessagePublisher;
+        this.paymentOutboxHelper = paymentOutboxHelper;
+        this.orderSagaEngine = orderSagaEngine;
+        this.orderIdempotencyRepository = orderIdempotencyRepository;
     }
 
     @Transactional
     public CreateOrderResponse createOrder(CreateOrderCommand createOrderCommand) {
         OrderCreatedEvent orderCreatedEvent = orderCreateHelper.persistOrder(createOrderCommand);
         log.info("Order is created with id: {}", orderCreatedEvent.getOrder().getId().getValue());
-        orderCreatedPaymentRequestMessagePublisher.publish(orderCreatedEvent);
+        OrderPaymentOutboxMessage orderPaymentOutboxMessage =
+                orderDataMapper.orderCreatedEventToOrderPaymentOutboxMessage(orderCreatedEvent);
+        paymentOutboxHelper.savePaymentOutboxMessage(orderPaymentOutboxMessage);
+        orderSagaEngine.startSaga(orderDataMapper.orderCreatedEventToOrderSaga(orderCreatedEvent,
+                orderPaymentOutboxMessage.getSagaId()));
         return orderDataMapper.orderToCreateOrderResponse(orderCreatedEvent.getOrder(),"Order Created Successfully");
     }
 
+    /**
+     * Repeats of a request are answered from the idempotency store without opening a transaction.
+     */
+    public Optional<CreateOrderResponse> findCreateOrderResponse(CreateOrderCommand createOrderCommand,
+                                                                 String idempotencyKey) {
+        validateIdempotencyKey(idempotencyKey);
+        Optional<CreateOrderResponse> createOrderResponse = orderIdempotencyRepository
+                .findByCustomerIdAndIdempotencyKey(createOrderCommand.getCustomerId(), idempotencyKey);
+        createOrderResponse.ifPresent(response -> log.info("Returning stored response for idempotency key: {} " +
+                "of customer: {}", idempotencyKey, createOrderCommand.getCustomerId()));
+        return createOrderResponse;
+    }
 
+    /**
+     * The key is claimed before any work is done, so a concurrent repeat waits on the claim and then reads the
+     * response stored by the first request instead of creating a second order.
+     */
+    @Transactional
+    public CreateOrderResponse createOrder(CreateOrderCommand createOrderCommand, String idempotencyKey) {
+        validateIdempotencyKey(idempotencyKey);
+        UUID customerId = createOrderCommand.getCustomerId();
+        if (!orderIdempotencyRepository.insertIfAbsent(customerId, idempotencyKey,
+                ZonedDateTime.now(ZoneId.of(UTC)))) {
+            log.info("Order request with idempotency key: {} of customer: {} is already processed", idempotencyKey,
+                    customerId);
+            return orderIdempotencyRepository.findByCustomerIdAndIdempotencyKey(customerId, idempotencyKey)
+                    .orElseThrow(() -> new OrderDomainException("Could not find response for idempotency key: " +
+                            idempotencyKey));
+        }
+        CreateOrderResponse createOrderResponse = createOrder(createOrderCommand);
+        orderIdempotencyRepository.saveResponse(customerId, idempotencyKey, createOrderResponse);
+        return createOrderResponse;
+    }
+
+    private void validateIdempotencyKey(String idempotencyKey) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            throw new OrderDomainException("Idempotency key must be between 1 and " + MAX_IDEMPOTENCY_KEY_LENGTH +
+                    " characters!");
+        }
+    }
 }
@@ -2,38 +2,47 @@ package com.food.ordering.system.order.service.domain;
 
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderQuery;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
-import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.exception.OrderNotFoundException;
-import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
-import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderTrackingRepository;
 import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Component
 public class OrderTrackCommandHandler {
 
-    private final OrderDataMapper orderDataMapper;
-    private final OrderRepository orderRepository;
+    private final OrderTrackingRepository orderTrackingRepository;
 
-    public OrderTrackCommandHandler(OrderDataMapper orderDataMapper, OrderRepository orderRepository) {
-        this.orderDataMapper = orderDataMapper;
-        this.orderRepository = orderRepository;
+    public OrderTrackCommandHandler(OrderTrackingRepository orderTrackingRepository) {
+        this.orderTrackingRepository = orderTrackingRepository;
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * Served from the order tracking projection, no transaction is opened so a cached status costs no connection.
+     */
     public TrackOrderResponse trackOrder(TrackOrderQuery trackOrderQuery) {
-        Optional<Order> optionalOrder =
-                orderRepository.findByTrackingId(new TrackingId(trackOrderQuery.getOrderTracingId()));
-        if (optionalOrder.isEmpty()) {
+        Optional<TrackOrderResponse> optionalTrackOrderResponse =
+                orderTrackingRepository.findByTrackingId(new TrackingId(trackOrderQuery.getOrderTracingId()));
+        if (optionalTrackOrderResponse.isEmpty()) {
             log.warn("Could not find order with tracking id: {}", trackOrderQuery.getOrderTracingId());
             throw new OrderNotFoundException("Could not find order with tracking id: {}" + trackOrderQuery.getOrderTracingId());
         }
-        Order order = optionalOrder.get();
-        return orderDataMapper.orderToTrackOrderResponse(order);
+        return optionalTrackOrderResponse.get();
+    }
+
+    /**
+     * Reads the projection directly, bypassing the cache; unknown tracking ids are left out.
+     */
+    public List<TrackOrderResponse> trackOrders(Collection<UUID> trackingIds) {
+        return orderTrackingRepository.findByTrackingIdIn(trackingIds.stream()
+                .map(TrackingId::new)
+                .collect(Collectors.toList()));
     }
 }
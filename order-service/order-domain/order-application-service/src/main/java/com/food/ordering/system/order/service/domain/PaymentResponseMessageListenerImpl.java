@@ -2,21 +2,37 @@ package com.food.ordering.system.order.service.domain;
 
 import com.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
 import com.food.ordering.system.order.service.domain.ports.input.message.listener.payment.PaymentResponseMessageListener;
+import com.food.ordering.system.order.service.domain.saga.OrderSagaEngine;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
 
+import java.util.Collections;
+import java.util.List;
+
 @Slf4j
 @Validated
 @Service
 public class PaymentResponseMessageListenerImpl implements PaymentResponseMessageListener {
+
+    private final OrderSagaEngine orderSagaEngine;
+
+    public PaymentResponseMessageListenerImpl(OrderSagaEngine orderSagaEngine) {
+        this.orderSagaEngine = orderSagaEngine;
+    }
+
     @Override
     public void paymentCompleted(PaymentResponse paymentResponse) {
-
+        processPaymentResponses(Collections.singletonList(paymentResponse));
     }
 
     @Override
     public void paymentCancelled(PaymentResponse paymentResponse) {
+        processPaymentResponses(Collections.singletonList(paymentResponse));
+    }
 
+    @Override
+    public void processPaymentResponses(List<PaymentResponse> paymentResponses) {
+        orderSagaEngine.applyPaymentResponses(paymentResponses);
     }
 }
@@ -2,21 +2,37 @@ package com.food.ordering.system.order.service.domain;
 
 import com.food.ordering.system.order.service.domain.dto.message.RestaurantApprovalResponse;
 import com.food.ordering.system.order.service.domain.ports.input.message.listener.payment.RestaurantApprovalResponseMessageListener;
+import com.food.ordering.system.order.service.domain.saga.OrderSagaEngine;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
 
+import java.util.Collections;
+import java.util.List;
+
 @Slf4j
 @Validated
 @Service
 public class RestaurantApprovalResponseMessageListenerImpl implements RestaurantApprovalResponseMessageListener {
+
+    private final OrderSagaEngine orderSagaEngine;
+
+    public RestaurantApprovalResponseMessageListenerImpl(OrderSagaEngine orderSagaEngine) {
+        this.orderSagaEngine = orderSagaEngine;
+    }
+
     @Override
     public void orderApproval(RestaurantApprovalResponse restaurantApprovalResponse) {
-
+        processRestaurantApprovalResponses(Collections.singletonList(restaurantApprovalResponse));
     }
 
     @Override
     public void orderRejected(RestaurantApprovalResponse restaurantApprovalResponse) {
+        processRestaurantApprovalResponses(Collections.singletonList(restaurantApprovalResponse));
+    }
 
+    @Override
+    public void processRestaurantApprovalResponses(List<RestaurantApprovalResponse> restaurantApprovalResponses) {
+        orderSagaEngine.applyRestaurantApprovalResponses(restaurantApprovalResponses);
     }
 }
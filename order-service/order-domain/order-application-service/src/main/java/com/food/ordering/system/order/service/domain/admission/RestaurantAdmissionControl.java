@@ -0,0 +1,82 @@
+package com.food.ordering.system.order.service.domain.admission;
+
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.exception.RestaurantOverloadedException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Admission control for order creation, one token bucket per restaurant. An order over the restaurant's rate is
+ * rejected before any work is done, with the time until it would be admitted. Each restaurant's rate follows how
+ * long its sagas take to complete: it is cut when completions are slower than the target, as happens when the
+ * restaurant's approval queue backs up, and grows back slowly while they are faster.
+ */
+@Slf4j
+@Component
+public class RestaurantAdmissionControl {
+
+    private static final double DECREASE_FACTOR = 0.7;
+
+    private final OrderServiceConfigData orderServiceConfigData;
+    private final ConcurrentHashMap<UUID, RestaurantRateLimiter> rateLimiters = new ConcurrentHashMap<>();
+
+    public RestaurantAdmissionControl(OrderServiceConfigData orderServiceConfigData) {
+        this.orderServiceConfigData = orderServiceConfigData;
+    }
+
+    public void admit(UUID restaurantId) {
+        if (!Boolean.TRUE.equals(orderServiceConfigData.getRestaurantAdmissionEnabled())) {
+            return;
+        }
+        long now = System.nanoTime();
+        long waitNanos = rateLimiter(restaurantId, now).tryAcquire(now);
+        if (waitNanos > 0) {
+            long retryAfterSeconds = Math.max(1L, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+            log.warn("Rejecting order for restaurant: {}, admission rate exceeded", restaurantId);
+            throw new RestaurantOverloadedException("Restaurant with id: " + restaurantId +
+                    " is receiving too many orders, please retry later!", retryAfterSeconds);
+        }
+    }
+
+    public void sagaCompleted(UUID restaurantId, Duration latency) {
+        RestaurantRateLimiter rateLimiter = rateLimiters.get(restaurantId);
+        if (rateLimiter == null) {
+            return;
+        }
+        if (latency.toMillis() > orderServiceConfigData.getRestaurantAdmissionTargetLatencyMs()) {
+            rateLimiter.decrease(DECREASE_FACTOR, orderServiceConfigData.getRestaurantAdmissionMinRate(),
+                    TimeUnit.MILLISECONDS.toNanos(orderServiceConfigData.getRestaurantAdmissionDecreaseCooldownMs()),
+                    System.nanoTime());
+            log.debug("Saga latency {} ms for restaurant: {} is over target, admission rate is now {}/s",
+                    latency.toMillis(), restaurantId, rateLimiter.getRatePerSecond());
+        } else {
+            rateLimiter.increase(orderServiceConfigData.getRestaurantAdmissionRateIncrease(),
+                    orderServiceConfigData.getRestaurantAdmissionMaxRate(),
+                    TimeUnit.MILLISECONDS.toNanos(orderServiceConfigData.getRestaurantAdmissionIncreaseIntervalMs()),
+                    System.nanoTime());
+        }
+    }
+
+    @Scheduled(fixedRateString = "${order-service.restaurant-admission-idle-eviction-ms}")
+    public void evictIdleRateLimiters() {
+        long now = System.nanoTime();
+        long idleNanos = TimeUnit.MILLISECONDS.toNanos(orderServiceConfigData.getRestaurantAdmissionIdleEvictionMs());
+        rateLimiters.values().removeIf(rateLimiter -> rateLimiter.isIdleSince(now, idleNanos));
+    }
+
+    private RestaurantRateLimiter rateLimiter(UUID restaurantId, long now) {
+        RestaurantRateLimiter rateLimiter = rateLimiters.get(restaurantId);
+        if (rateLimiter != null) {
+            return rateLimiter;
+        }
+        return rateLimiters.computeIfAbsent(restaurantId, key -> new RestaurantRateLimiter(
+                orderServiceConfigData.getRestaurantAdmissionInitialRate(),
+                orderServiceConfigData.getRestaurantAdmissionBurst(), now));
+    }
+}
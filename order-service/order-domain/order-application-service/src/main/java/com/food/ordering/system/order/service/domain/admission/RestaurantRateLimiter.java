@@ -0,0 +1,84 @@
+package com.food.ordering.system.order.service.domain.admission;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket of one restaurant, kept as the time the next order would be admitted without burst (the generic
+ * cell rate algorithm), so admitting an order is a single CAS. The rate is the interval between orders and is
+ * adjusted with additive increase and multiplicative decrease from saga completion latencies, each applied at most
+ * once per its interval.
+ */
+class RestaurantRateLimiter {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicLong theoreticalArrivalNanos;
+    private final AtomicLong intervalNanos;
+    private final AtomicLong lastIncreaseNanos;
+    private final AtomicLong lastDecreaseNanos;
+    private final int burst;
+
+    RestaurantRateLimiter(double ratePerSecond, int burst, long nowNanos) {
+        this.theoreticalArrivalNanos = new AtomicLong(nowNanos);
+        this.intervalNanos = new AtomicLong(toIntervalNanos(ratePerSecond));
+        this.lastIncreaseNanos = new AtomicLong(nowNanos);
+        this.lastDecreaseNanos = new AtomicLong(nowNanos);
+        this.burst = burst;
+    }
+
+    /**
+     * Returns 0 if the order is admitted, otherwise the nanos to wait before the next order would be.
+     */
+    long tryAcquire(long nowNanos) {
+        while (true) {
+            long interval = intervalNanos.get();
+            long theoreticalArrival = theoreticalArrivalNanos.get();
+            long nextTheoreticalArrival = Math.max(theoreticalArrival, nowNanos) + interval;
+            long waitNanos = nextTheoreticalArrival - nowNanos - interval * burst;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (theoreticalArrivalNanos.compareAndSet(theoreticalArrival, nextTheoreticalArrival)) {
+                return 0;
+            }
+        }
+    }
+
+    void increase(double increasePerSecond, double maxRatePerSecond, long increaseIntervalNanos, long nowNanos) {
+        long lastIncrease = lastIncreaseNanos.get();
+        // the rate grows by increasePerSecond once per interval, however many sagas complete in it
+        if (nowNanos - lastIncrease < increaseIntervalNanos ||
+                !lastIncreaseNanos.compareAndSet(lastIncrease, nowNanos)) {
+            return;
+        }
+        intervalNanos.updateAndGet(interval -> toIntervalNanos(
+                Math.min(maxRatePerSecond, toRatePerSecond(interval) + increasePerSecond)));
+    }
+
+    void decrease(double decreaseFactor, double minRatePerSecond, long cooldownNanos, long nowNanos) {
+        long lastDecrease = lastDecreaseNanos.get();
+        // one slow period should cut the rate once, not once per late saga
+        if (nowNanos - lastDecrease < cooldownNanos || !lastDecreaseNanos.compareAndSet(lastDecrease, nowNanos)) {
+            return;
+        }
+        intervalNanos.updateAndGet(interval -> toIntervalNanos(
+                Math.max(minRatePerSecond, toRatePerSecond(interval) * decreaseFactor)));
+    }
+
+    boolean isIdleSince(long nowNanos, long idleNanos) {
+        return nowNanos - theoreticalArrivalNanos.get() > idleNanos;
+    }
+
+    double getRatePerSecond() {
+        return toRatePerSecond(intervalNanos.get());
+    }
+
+    private static long toIntervalNanos(double ratePerSecond) {
+        return Math.max(1L, (long) (NANOS_PER_SECOND / ratePerSecond));
+    }
+
+    private static double toRatePerSecond(long intervalNanos) {
+        return (double) NANOS_PER_SECOND / intervalNanos;
+    }
+}
@@ -12,4 +12,46 @@ public class OrderServiceConfigData {
     private String paymentResponseTopicName;
     private String restaurantApprovalRequestTopicName;
     private String restaurantApprovalResponseTopicName;
+    private Long outboxSchedulerFixedRate;
+    private Long outboxSchedulerInitialDelay;
+    private Integer outboxBatchSize;
+    private Long outboxClaimLeaseSeconds;
+    private Long outboxCleanerFixedRate;
+    private Long outboxRetentionMinutes;
+    private Long restaurantCacheMaximumSize;
+    private Long restaurantCacheExpireAfterWriteSeconds;
+    private Integer customerCacheInitialCapacity;
+    private Integer customerCacheMaximumSize;
+    private Long customerCachePositiveTtlSeconds;
+    private Long customerCacheNegativeMaximumSize;
+    private Long customerCacheNegativeTtlSeconds;
+    private Boolean customerCacheWarmUpEnabled;
+    private Integer customerCacheWarmUpBatchSize;
+    private Long orderTrackingCacheMaximumSize;
+    private Long orderTrackingCacheExpireAfterWriteSeconds;
+    private Long orderStatusStreamTimeoutMs;
+    private Long orderStatusStreamHeartbeatMs;
+    private Integer orderStatusStreamBufferSize;
+    private Integer orderStatusStreamMaxSubscribers;
+    private Integer orderStatusStreamDispatcherThreads;
+    private Integer orderStatusStreamRefreshBatchSize;
+    private Long idempotencyKeyRetentionMinutes;
+    private Long idempotencyKeyCleanerFixedRate;
+    private Long idempotencyCacheMaximumSize;
+    private Long idempotencyCacheExpireAfterWriteSeconds;
+    private Integer bulkOrderMaxSize;
+    private Integer orderApiCreateThreads;
+    private Integer orderApiCreateQueueSize;
+    private Integer orderApiTrackThreads;
+    private Integer orderApiTrackQueueSize;
+    private Boolean restaurantAdmissionEnabled;
+    private Double restaurantAdmissionInitialRate;
+    private Double restaurantAdmissionMinRate;
+    private Double restaurantAdmissionMaxRate;
+    private Double restaurantAdmissionRateIncrease;
+    private Long restaurantAdmissionIncreaseIntervalMs;
+    private Integer restaurantAdmissionBurst;
+    private Long restaurantAdmissionTargetLatencyMs;
+    private Long restaurantAdmissionDecreaseCooldownMs;
+    private Long restaurantAdmissionIdleEvictionMs;
 }
@@ -0,0 +1,17 @@
+package com.food.ordering.system.order.service.domain.dto.create;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class CreateOrderResult {
+    private final CreateOrderResponse createOrderResponse;
+    private final String errorMessage;
+
+    public boolean isCreated() {
+        return createOrderResponse != null;
+    }
+}
@@ -0,0 +1,39 @@
+package com.food.ordering.system.order.service.domain.idempotency;
+
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderIdempotencyRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import static com.food.ordering.system.domain.DomainConstants.UTC;
+
+@Slf4j
+@Component
+public class OrderIdempotencyCleanerScheduler {
+
+    private final OrderIdempotencyRepository orderIdempotencyRepository;
+    private final OrderServiceConfigData orderServiceConfigData;
+
+    public OrderIdempotencyCleanerScheduler(OrderIdempotencyRepository orderIdempotencyRepository,
+                                            OrderServiceConfigData orderServiceConfigData) {
+        this.orderIdempotencyRepository = orderIdempotencyRepository;
+        this.orderServiceConfigData = orderServiceConfigData;
+    }
+
+    @Transactional
+    @Scheduled(fixedDelayString = "${order-service.idempotency-key-cleaner-fixed-rate}",
+            initialDelayString = "${order-service.idempotency-key-cleaner-fixed-rate}")
+    public void deleteExpiredIdempotencyKeys() {
+        ZonedDateTime createdBefore = ZonedDateTime.now(ZoneId.of(UTC))
+                .minusMinutes(orderServiceConfigData.getIdempotencyKeyRetentionMinutes());
+        int deleted = orderIdempotencyRepository.deleteByCreatedAtBefore(createdBefore);
+        if (deleted > 0) {
+            log.info("{} expired order idempotency keys deleted", deleted);
+        }
+    }
+}
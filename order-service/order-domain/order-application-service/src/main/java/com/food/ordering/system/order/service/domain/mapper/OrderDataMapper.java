@@ -1,9 +1,13 @@
 package com.food.ordering.system.order.service.domain.mapper;
 
+import com.food.ordering.system.domain.id.Ids;
 import com.food.ordering.system.domain.valueobject.CustomerId;
 import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.OutboxStatus;
+import com.food.ordering.system.domain.valueobject.PaymentOrderStatus;
 import com.food.ordering.system.domain.valueobject.ProductId;
 import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.domain.valueobject.SagaStatus;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
 import com.food.ordering.system.order.service.domain.dto.create.OrderAddress;
@@ -12,6 +16,13 @@ import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.entity.OrderItem;
 import com.food.ordering.system.order.service.domain.entity.Product;
 import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.event.OrderCancelledEvent;
+import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
+import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
+import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalOutboxMessage;
+import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalOutboxProduct;
+import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentOutboxMessage;
+import com.food.ordering.system.order.service.domain.saga.model.OrderSaga;
 import com.food.ordering.system.order.service.domain.valueobject.StreetAddress;
 import org.springframework.stereotype.Component;
 
@@ -49,6 +60,64 @@ public class OrderDataMapper {
                 .build();
     }
 
+    public OrderPaymentOutboxMessage orderCreatedEventToOrderPaymentOutboxMessage(OrderCreatedEvent orderCreatedEvent) {
+        Order order = orderCreatedEvent.getOrder();
+        return OrderPaymentOutboxMessage.builder()
+                .id(Ids.newId())
+                .sagaId(Ids.newId())
+                .orderId(order.getId().getValue())
+                .customerId(order.getCustomerId().getValue())
+                .price(order.getPrice().getAmount())
+                .paymentOrderStatus(PaymentOrderStatus.PENDING)
+                .createdAt(orderCreatedEvent.getCreatedAt())
+                .outboxStatus(OutboxStatus.STARTED)
+                .build();
+    }
+
+    public OrderPaymentOutboxMessage orderCancelledEventToOrderPaymentOutboxMessage(
+            OrderCancelledEvent orderCancelledEvent, UUID sagaId) {
+        Order order = orderCancelledEvent.getOrder();
+        return OrderPaymentOutboxMessage.builder()
+                .id(Ids.newId())
+                .sagaId(sagaId)
+                .orderId(order.getId().getValue())
+                .customerId(order.getCustomerId().getValue())
+                .price(order.getPrice().getAmount())
+                .paymentOrderStatus(PaymentOrderStatus.CANCELLED)
+                .createdAt(orderCancelledEvent.getCreatedAt())
+                .outboxStatus(OutboxStatus.STARTED)
+                .build();
+    }
+
+    public OrderApprovalOutboxMessage orderPaidEventToOrderApprovalOutboxMessage(OrderPaidEvent orderPaidEvent,
+                                                                                 UUID sagaId) {
+        Order order = orderPaidEvent.getOrder();
+        return OrderApprovalOutboxMessage.builder()
+                .id(Ids.newId())
+                .sagaId(sagaId)
+                .orderId(order.getId().getValue())
+                .restaurantId(order.getRestaurantId().getValue())
+                .price(order.getPrice().getAmount())
+                .products(order.getItems().stream().map(orderItem -> OrderApprovalOutboxProduct.builder()
+                                .productId(orderItem.getProduct().getId().getValue())
+                                .quantity(orderItem.getQuantity())
+                                .build())
+                        .collect(Collectors.toList()))
+                .createdAt(orderPaidEvent.getCreatedAt())
+                .outboxStatus(OutboxStatus.STARTED)
+                .build();
+    }
+
+    public OrderSaga orderCreatedEventToOrderSaga(OrderCreatedEvent orderCreatedEvent, UUID sagaId) {
+        return OrderSaga.builder()
+                .sagaId(sagaId)
+                .orderId(orderCreatedEvent.getOrder().getId().getValue())
+                .sagaStatus(SagaStatus.STARTED)
+                .orderStatus(orderCreatedEvent.getOrder().getOrderStatus())
+                .createdAt(orderCreatedEvent.getCreatedAt())
+                .build();
+    }
+
     private List<OrderItem> orderItemsToOrderItemsEntities(
             List<com.food.ordering.system.order.service.domain.dto.create.OrderItem> items) {
         return items.stream()
@@ -66,7 +135,7 @@ public class OrderDataMapper {
 
     private StreetAddress orderAddressToStreeAddress(OrderAddress address) {
         return new StreetAddress(
-                UUID.randomUUID(),
+                Ids.newId(),
                 address.getStreet(),
                 address.getCity(),
                 address.getZipCode()
@@ -0,0 +1,29 @@
+package com.food.ordering.system.order.service.domain.outbox.model.approval;
+
+import com.food.ordering.system.domain.valueobject.OutboxStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class OrderApprovalOutboxMessage {
+    private UUID id;
+    private UUID sagaId;
+    private UUID orderId;
+    private UUID restaurantId;
+    private BigDecimal price;
+    private List<OrderApprovalOutboxProduct> products;
+    private ZonedDateTime createdAt;
+    @Setter
+    private ZonedDateTime processedAt;
+    @Setter
+    private OutboxStatus outboxStatus;
+}
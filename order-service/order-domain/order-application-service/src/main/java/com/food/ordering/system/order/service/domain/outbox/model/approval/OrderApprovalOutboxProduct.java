@@ -0,0 +1,15 @@
+package com.food.ordering.system.order.service.domain.outbox.model.approval;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.UUID;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class OrderApprovalOutboxProduct {
+    private UUID productId;
+    private Integer quantity;
+}
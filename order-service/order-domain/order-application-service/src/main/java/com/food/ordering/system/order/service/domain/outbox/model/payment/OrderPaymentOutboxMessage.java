@@ -0,0 +1,29 @@
+package com.food.ordering.system.order.service.domain.outbox.model.payment;
+
+import com.food.ordering.system.domain.valueobject.OutboxStatus;
+import com.food.ordering.system.domain.valueobject.PaymentOrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class OrderPaymentOutboxMessage {
+    private UUID id;
+    private UUID sagaId;
+    private UUID orderId;
+    private UUID customerId;
+    private BigDecimal price;
+    private PaymentOrderStatus paymentOrderStatus;
+    private ZonedDateTime createdAt;
+    @Setter
+    private ZonedDateTime processedAt;
+    @Setter
+    private OutboxStatus outboxStatus;
+}
@@ -0,0 +1,48 @@
+package com.food.ordering.system.order.service.domain.outbox.scheduler.approval;
+
+import com.food.ordering.system.domain.valueobject.OutboxStatus;
+import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalOutboxMessage;
+import com.food.ordering.system.order.service.domain.ports.output.repository.ApprovalOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Component
+public class ApprovalOutboxHelper {
+
+    private final ApprovalOutboxRepository approvalOutboxRepository;
+
+    public ApprovalOutboxHelper(ApprovalOutboxRepository approvalOutboxRepository) {
+        this.approvalOutboxRepository = approvalOutboxRepository;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void saveApprovalOutboxMessages(List<OrderApprovalOutboxMessage> orderApprovalOutboxMessages) {
+        approvalOutboxRepository.insertAll(orderApprovalOutboxMessages);
+        log.info("{} OrderApprovalOutboxMessage saved", orderApprovalOutboxMessages.size());
+    }
+
+    @Transactional
+    public List<OrderApprovalOutboxMessage> claimStartedApprovalOutboxMessages(int limit, ZonedDateTime now,
+                                                                               ZonedDateTime claimedUntil) {
+        return approvalOutboxRepository.claimByOutboxStatus(OutboxStatus.STARTED, limit, now, claimedUntil);
+    }
+
+    @Transactional
+    public void markApprovalOutboxMessagesCompleted(List<UUID> ids, ZonedDateTime processedAt) {
+        int updated = approvalOutboxRepository.updateOutboxStatus(ids, OutboxStatus.COMPLETED, processedAt);
+        log.info("{} OrderApprovalOutboxMessage marked as {}", updated, OutboxStatus.COMPLETED);
+    }
+
+    @Transactional
+    public int deleteCompletedApprovalOutboxMessages(ZonedDateTime processedBefore) {
+        return approvalOutboxRepository.deleteByOutboxStatusAndProcessedAtBefore(OutboxStatus.COMPLETED,
+                processedBefore);
+    }
+}
@@ -0,0 +1,36 @@
+package com.food.ordering.system.order.service.domain.outbox.scheduler.approval;
+
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import static com.food.ordering.system.domain.DomainConstants.UTC;
+
+@Slf4j
+@Component
+public class RestaurantApprovalOutboxCleanerScheduler {
+
+    private final ApprovalOutboxHelper approvalOutboxHelper;
+    private final OrderServiceConfigData orderServiceConfigData;
+
+    public RestaurantApprovalOutboxCleanerScheduler(ApprovalOutboxHelper approvalOutboxHelper,
+                                                    OrderServiceConfigData orderServiceConfigData) {
+        this.approvalOutboxHelper = approvalOutboxHelper;
+        this.orderServiceConfigData = orderServiceConfigData;
+    }
+
+    @Scheduled(fixedDelayString = "${order-service.outbox-cleaner-fixed-rate}",
+            initialDelayString = "${order-service.outbox-cleaner-fixed-rate}")
+    public void processOutboxMessage() {
+        ZonedDateTime processedBefore = ZonedDateTime.now(ZoneId.of(UTC))
+                .minusMinutes(orderServiceConfigData.getOutboxRetentionMinutes());
+        int deleted = approvalOutboxHelper.deleteCompletedApprovalOutboxMessages(processedBefore);
+        if (deleted > 0) {
+            log.info("{} completed OrderApprovalOutboxMessage deleted", deleted);
+        }
+    }
+}
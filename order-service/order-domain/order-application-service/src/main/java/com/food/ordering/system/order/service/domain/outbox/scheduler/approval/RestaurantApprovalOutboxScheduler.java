@@ -0,0 +1,67 @@
+package com.food.ordering.system.order.service.domain.outbox.scheduler.approval;
+
+import com.food.ordering.system.domain.valueobject.OutboxStatus;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalOutboxMessage;
+import com.food.ordering.system.order.service.domain.ports.output.message.publisher.retaurantapproval.RestaurantApprovalRequestMessagePublisher;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static com.food.ordering.system.domain.DomainConstants.UTC;
+
+/**
+ * Relays restaurant approval outbox rows to Kafka the same way as {@code PaymentOutboxScheduler}: a leased claim
+ * in a short transaction, the send outside of it and the acknowledged rows marked in a second transaction.
+ */
+@Slf4j
+@Component
+public class RestaurantApprovalOutboxScheduler {
+
+    private final ApprovalOutboxHelper approvalOutboxHelper;
+    private final RestaurantApprovalRequestMessagePublisher restaurantApprovalRequestMessagePublisher;
+    private final OrderServiceConfigData orderServiceConfigData;
+
+    public RestaurantApprovalOutboxScheduler(ApprovalOutboxHelper approvalOutboxHelper,
+                                             RestaurantApprovalRequestMessagePublisher
+                                                     restaurantApprovalRequestMessagePublisher,
+                                             OrderServiceConfigData orderServiceConfigData) {
+        this.approvalOutboxHelper = approvalOutboxHelper;
+        this.restaurantApprovalRequestMessagePublisher = restaurantApprovalRequestMessagePublisher;
+        this.orderServiceConfigData = orderServiceConfigData;
+    }
+
+    @Scheduled(fixedDelayString = "${order-service.outbox-scheduler-fixed-rate}",
+            initialDelayString = "${order-service.outbox-scheduler-initial-delay}")
+    public void processOutboxMessage() {
+        ZonedDateTime now = ZonedDateTime.now(ZoneId.of(UTC));
+        List<OrderApprovalOutboxMessage> outboxMessages = approvalOutboxHelper.claimStartedApprovalOutboxMessages(
+                orderServiceConfigData.getOutboxBatchSize(), now,
+                now.plusSeconds(orderServiceConfigData.getOutboxClaimLeaseSeconds()));
+        if (outboxMessages.isEmpty()) {
+            return;
+        }
+        log.info("Claimed {} OrderApprovalOutboxMessage, sending to message bus", outboxMessages.size());
+
+        List<UUID> completedIds = new ArrayList<>(outboxMessages.size());
+        restaurantApprovalRequestMessagePublisher.publish(outboxMessages, (outboxMessage, outboxStatus) -> {
+            if (outboxStatus == OutboxStatus.COMPLETED) {
+                completedIds.add(outboxMessage.getId());
+            }
+        });
+
+        if (!completedIds.isEmpty()) {
+            approvalOutboxHelper.markApprovalOutboxMessagesCompleted(completedIds, ZonedDateTime.now(ZoneId.of(UTC)));
+        }
+        if (completedIds.size() < outboxMessages.size()) {
+            log.warn("{} OrderApprovalOutboxMessage were not acknowledged and will be retried",
+                    outboxMessages.size() - completedIds.size());
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.food.ordering.system.order.service.domain.outbox.scheduler.payment;
+
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import static com.food.ordering.system.domain.DomainConstants.UTC;
+
+@Slf4j
+@Component
+public class PaymentOutboxCleanerScheduler {
+
+    private final PaymentOutboxHelper paymentOutboxHelper;
+    private final OrderServiceConfigData orderServiceConfigData;
+
+    public PaymentOutboxCleanerScheduler(PaymentOutboxHelper paymentOutboxHelper,
+                                         OrderServiceConfigData orderServiceConfigData) {
+        this.paymentOutboxHelper = paymentOutboxHelper;
+        this.orderServiceConfigData = orderServiceConfigData;
+    }
+
+    @Scheduled(fixedDelayString = "${order-service.outbox-cleaner-fixed-rate}",
+            initialDelayString = "${order-service.outbox-cleaner-fixed-rate}")
+    public void processOutboxMessage() {
+        ZonedDateTime processedBefore = ZonedDateTime.now(ZoneId.of(UTC))
+                .minusMinutes(orderServiceConfigData.getOutboxRetentionMinutes());
+        int deleted = paymentOutboxHelper.deleteCompletedPaymentOutboxMessages(processedBefore);
+        if (deleted > 0) {
+            log.info("{} completed OrderPaymentOutboxMessage deleted", deleted);
+        }
+    }
+}
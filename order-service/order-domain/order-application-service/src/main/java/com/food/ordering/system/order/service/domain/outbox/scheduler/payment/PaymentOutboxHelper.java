@@ -0,0 +1,60 @@
+package com.food.ordering.system.order.service.domain.outbox.scheduler.payment;
+
+import com.food.ordering.system.domain.valueobject.OutboxStatus;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentOutboxMessage;
+import com.food.ordering.system.order.service.domain.ports.output.repository.PaymentOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Component
+public class PaymentOutboxHelper {
+
+    private final PaymentOutboxRepository paymentOutboxRepository;
+
+    public PaymentOutboxHelper(PaymentOutboxRepository paymentOutboxRepository) {
+        this.paymentOutboxRepository = paymentOutboxRepository;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void savePaymentOutboxMessage(OrderPaymentOutboxMessage orderPaymentOutboxMessage) {
+        OrderPaymentOutboxMessage response = paymentOutboxRepository.save(orderPaymentOutboxMessage);
+        if (response == null) {
+            log.error("Could not save OrderPaymentOutboxMessage with outbox id: {}", orderPaymentOutboxMessage.getId());
+            throw new OrderDomainException("Could not save OrderPaymentOutboxMessage with outbox id: " +
+                    orderPaymentOutboxMessage.getId());
+        }
+        log.debug("OrderPaymentOutboxMessage saved with outbox id: {}", orderPaymentOutboxMessage.getId());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void savePaymentOutboxMessages(List<OrderPaymentOutboxMessage> orderPaymentOutboxMessages) {
+        paymentOutboxRepository.insertAll(orderPaymentOutboxMessages);
+        log.info("{} OrderPaymentOutboxMessage saved", orderPaymentOutboxMessages.size());
+    }
+
+    @Transactional
+    public List<OrderPaymentOutboxMessage> claimStartedPaymentOutboxMessages(int limit, ZonedDateTime now,
+                                                                             ZonedDateTime claimedUntil) {
+        return paymentOutboxRepository.claimByOutboxStatus(OutboxStatus.STARTED, limit, now, claimedUntil);
+    }
+
+    @Transactional
+    public void markPaymentOutboxMessagesCompleted(List<UUID> ids, ZonedDateTime processedAt) {
+        int updated = paymentOutboxRepository.updateOutboxStatus(ids, OutboxStatus.COMPLETED, processedAt);
+        log.info("{} OrderPaymentOutboxMessage marked as {}", updated, OutboxStatus.COMPLETED);
+    }
+
+    @Transactional
+    public int deleteCompletedPaymentOutboxMessages(ZonedDateTime processedBefore) {
+        return paymentOutboxRepository.deleteByOutboxStatusAndProcessedAtBefore(OutboxStatus.COMPLETED,
+                processedBefore);
+    }
+}
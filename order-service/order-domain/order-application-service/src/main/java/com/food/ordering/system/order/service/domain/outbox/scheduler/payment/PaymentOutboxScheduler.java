@@ -0,0 +1,69 @@
+package com.food.ordering.system.order.service.domain.outbox.scheduler.payment;
+
+import com.food.ordering.system.domain.valueobject.OutboxStatus;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentOutboxMessage;
+import com.food.ordering.system.order.service.domain.ports.output.message.publisher.payment.PaymentRequestMessagePublisher;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static com.food.ordering.system.domain.DomainConstants.UTC;
+
+/**
+ * Relays payment outbox rows to Kafka. Each run claims one batch in a short transaction: the rows are selected
+ * with FOR UPDATE SKIP LOCKED and leased until claimedUntil, so several instances can relay concurrently without
+ * sending the same row twice. The batch is then sent outside of any transaction, so no connection or row lock is
+ * held while waiting for the broker, and the acknowledged rows are marked in a transaction of their own. Rows
+ * that were not acknowledged stay STARTED and are sent again once their lease has expired.
+ */
+@Slf4j
+@Component
+public class PaymentOutboxScheduler {
+
+    private final PaymentOutboxHelper paymentOutboxHelper;
+    private final PaymentRequestMessagePublisher paymentRequestMessagePublisher;
+    private final OrderServiceConfigData orderServiceConfigData;
+
+    public PaymentOutboxScheduler(PaymentOutboxHelper paymentOutboxHelper,
+                                  PaymentRequestMessagePublisher paymentRequestMessagePublisher,
+                                  OrderServiceConfigData orderServiceConfigData) {
+        this.paymentOutboxHelper = paymentOutboxHelper;
+        this.paymentRequestMessagePublisher = paymentRequestMessagePublisher;
+        this.orderServiceConfigData = orderServiceConfigData;
+    }
+
+    @Scheduled(fixedDelayString = "${order-service.outbox-scheduler-fixed-rate}",
+            initialDelayString = "${order-service.outbox-scheduler-initial-delay}")
+    public void processOutboxMessage() {
+        ZonedDateTime now = ZonedDateTime.now(ZoneId.of(UTC));
+        List<OrderPaymentOutboxMessage> outboxMessages = paymentOutboxHelper.claimStartedPaymentOutboxMessages(
+                orderServiceConfigData.getOutboxBatchSize(), now,
+                now.plusSeconds(orderServiceConfigData.getOutboxClaimLeaseSeconds()));
+        if (outboxMessages.isEmpty()) {
+            return;
+        }
+        log.info("Claimed {} OrderPaymentOutboxMessage, sending to message bus", outboxMessages.size());
+
+        List<UUID> completedIds = new ArrayList<>(outboxMessages.size());
+        paymentRequestMessagePublisher.publish(outboxMessages, (outboxMessage, outboxStatus) -> {
+            if (outboxStatus == OutboxStatus.COMPLETED) {
+                completedIds.add(outboxMessage.getId());
+            }
+        });
+
+        if (!completedIds.isEmpty()) {
+            paymentOutboxHelper.markPaymentOutboxMessagesCompleted(completedIds, ZonedDateTime.now(ZoneId.of(UTC)));
+        }
+        if (completedIds.size() < outboxMessages.size()) {
+            log.warn("{} OrderPaymentOutboxMessage were not acknowledged and will be retried",
+                    outboxMessages.size() - completedIds.size());
+        }
+    }
+}
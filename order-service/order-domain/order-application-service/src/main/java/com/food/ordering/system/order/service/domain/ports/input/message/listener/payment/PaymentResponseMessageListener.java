@@ -2,7 +2,10 @@ package com.food.ordering.system.order.service.domain.ports.input.message.listen
 
 import com.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
 
+import java.util.List;
+
 public interface PaymentResponseMessageListener {
     void paymentCompleted(PaymentResponse paymentResponse);
     void paymentCancelled(PaymentResponse paymentResponse);
+    void processPaymentResponses(List<PaymentResponse> paymentResponses);
 }
@@ -3,9 +3,11 @@ package com.food.ordering.system.order.service.domain.ports.input.message.listen
 import com.food.ordering.system.order.service.domain.dto.message.RestaurantApprovalResponse;
 
 import javax.validation.Valid;
+import java.util.List;
 
 public interface RestaurantApprovalResponseMessageListener {
     void orderApproval(@Valid RestaurantApprovalResponse restaurantApprovalResponse);
     void orderRejected(@Valid RestaurantApprovalResponse restaurantApprovalResponse);
+    void processRestaurantApprovalResponses(@Valid List<RestaurantApprovalResponse> restaurantApprovalResponses);
 
 }
@@ -2,12 +2,19 @@ package com.food.ordering.system.order.service.domain.ports.input.service;
 
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResult;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderQuery;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
 
 import javax.validation.Valid;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
 
 public interface OrderApplicationService {
     CreateOrderResponse createOrder(@Valid CreateOrderCommand createOrderCommand);
+    CreateOrderResponse createOrder(@Valid CreateOrderCommand createOrderCommand, String idempotencyKey);
+    List<CreateOrderResult> createOrders(@Valid List<CreateOrderCommand> createOrderCommands);
     TrackOrderResponse trackOrder(@Valid TrackOrderQuery trackOrderQuery);
+    List<TrackOrderResponse> trackOrders(Collection<UUID> trackingIds);
 }
@@ -0,0 +1,16 @@
+package com.food.ordering.system.order.service.domain.ports.output.message.publisher.payment;
+
+import com.food.ordering.system.domain.valueobject.OutboxStatus;
+import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentOutboxMessage;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+
+public interface PaymentRequestMessagePublisher {
+    /**
+     * Sends the whole batch and returns only after every message was acknowledged or failed,
+     * reporting the outcome of each message through the callback.
+     */
+    void publish(List<OrderPaymentOutboxMessage> orderPaymentOutboxMessages,
+                 BiConsumer<OrderPaymentOutboxMessage, OutboxStatus> outboxCallback);
+}
@@ -0,0 +1,16 @@
+package com.food.ordering.system.order.service.domain.ports.output.message.publisher.retaurantapproval;
+
+import com.food.ordering.system.domain.valueobject.OutboxStatus;
+import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalOutboxMessage;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+
+public interface RestaurantApprovalRequestMessagePublisher {
+    /**
+     * Sends the whole batch and returns only after every message was acknowledged or failed,
+     * reporting the outcome of each message through the callback.
+     */
+    void publish(List<OrderApprovalOutboxMessage> orderApprovalOutboxMessages,
+                 BiConsumer<OrderApprovalOutboxMessage, OutboxStatus> outboxCallback);
+}
@@ -0,0 +1,9 @@
+package com.food.ordering.system.order.service.domain.ports.output.notification;
+
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+
+import java.util.List;
+
+public interface OrderStatusChangeNotifier {
+    void orderStatusChanged(List<TrackOrderResponse> trackOrderResponses);
+}
@@ -0,0 +1,19 @@
+package com.food.ordering.system.order.service.domain.ports.output.repository;
+
+import com.food.ordering.system.domain.valueobject.OutboxStatus;
+import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalOutboxMessage;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface ApprovalOutboxRepository {
+    void insertAll(List<OrderApprovalOutboxMessage> orderApprovalOutboxMessages);
+
+    List<OrderApprovalOutboxMessage> claimByOutboxStatus(OutboxStatus outboxStatus, int limit, ZonedDateTime now,
+                                                         ZonedDateTime claimedUntil);
+
+    int updateOutboxStatus(List<UUID> ids, OutboxStatus outboxStatus, ZonedDateTime processedAt);
+
+    int deleteByOutboxStatusAndProcessedAtBefore(OutboxStatus outboxStatus, ZonedDateTime processedAt);
+}
@@ -0,0 +1,17 @@
+package com.food.ordering.system.order.service.domain.ports.output.repository;
+
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
+
+import java.time.ZonedDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface OrderIdempotencyRepository {
+    Optional<CreateOrderResponse> findByCustomerIdAndIdempotencyKey(UUID customerId, String idempotencyKey);
+
+    boolean insertIfAbsent(UUID customerId, String idempotencyKey, ZonedDateTime createdAt);
+
+    void saveResponse(UUID customerId, String idempotencyKey, CreateOrderResponse createOrderResponse);
+
+    int deleteByCreatedAtBefore(ZonedDateTime createdAt);
+}
@@ -1,11 +1,17 @@
 package com.food.ordering.system.order.service.domain.ports.output.repository;
 
+import com.food.ordering.system.domain.valueobject.OrderId;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface OrderRepository {
-    Order save(Order order);
+    void insert(Order order);
+    void insertAll(List<Order> orders);
+    void saveAll(List<Order> orders);
     Optional<Order> findByTrackingId(TrackingId trackingId);
+    List<Order> findByIdIn(Collection<OrderId> orderIds);
 }
@@ -0,0 +1,15 @@
+package com.food.ordering.system.order.service.domain.ports.output.repository;
+
+import com.food.ordering.system.order.service.domain.saga.model.OrderSaga;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface OrderSagaRepository {
+    OrderSaga save(OrderSaga orderSaga);
+
+    void saveAll(List<OrderSaga> orderSagas);
+
+    List<OrderSaga> findByOrderIdIn(Collection<UUID> orderIds);
+}
@@ -0,0 +1,21 @@
+package com.food.ordering.system.order.service.domain.ports.output.repository;
+
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface OrderTrackingRepository {
+    void insert(Order order);
+
+    void insertAll(List<Order> orders);
+
+    void updateAll(List<Order> orders);
+
+    Optional<TrackOrderResponse> findByTrackingId(TrackingId trackingId);
+
+    List<TrackOrderResponse> findByTrackingIdIn(Collection<TrackingId> trackingIds);
+}
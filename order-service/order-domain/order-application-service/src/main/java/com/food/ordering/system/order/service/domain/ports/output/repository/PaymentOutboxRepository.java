@@ -0,0 +1,21 @@
+package com.food.ordering.system.order.service.domain.ports.output.repository;
+
+import com.food.ordering.system.domain.valueobject.OutboxStatus;
+import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentOutboxMessage;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface PaymentOutboxRepository {
+    OrderPaymentOutboxMessage save(OrderPaymentOutboxMessage orderPaymentOutboxMessage);
+
+    void insertAll(List<OrderPaymentOutboxMessage> orderPaymentOutboxMessages);
+
+    List<OrderPaymentOutboxMessage> claimByOutboxStatus(OutboxStatus outboxStatus, int limit, ZonedDateTime now,
+                                                        ZonedDateTime claimedUntil);
+
+    int updateOutboxStatus(List<UUID> ids, OutboxStatus outboxStatus, ZonedDateTime processedAt);
+
+    int deleteByOutboxStatusAndProcessedAtBefore(OutboxStatus outboxStatus, ZonedDateTime processedAt);
+}
@@ -1,9 +1,14 @@
 package com.food.ordering.system.order.service.domain.ports.output.repository;
 
+import com.food.ordering.system.domain.valueobject.RestaurantId;
 import com.food.ordering.system.order.service.domain.entity.Restaurant;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface RestaurantRepository {
     Optional<Restaurant> findRestaurantInformation(Restaurant restaurant);
+
+    List<Restaurant> findRestaurantsInformation(Collection<RestaurantId> restaurantIds);
 }
@@ -0,0 +1,246 @@
+package com.food.ordering.system.order.service.domain.saga;
+
+import com.food.ordering.system.domain.valueobject.OrderApprovalStatus;
+import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.domain.valueobject.PaymentStatus;
+import com.food.ordering.system.domain.valueobject.SagaStatus;
+import com.food.ordering.system.order.service.domain.OrderDomainService;
+import com.food.ordering.system.order.service.domain.admission.RestaurantAdmissionControl;
+import com.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
+import com.food.ordering.system.order.service.domain.dto.message.RestaurantApprovalResponse;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.event.OrderCancelledEvent;
+import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalOutboxMessage;
+import com.food.ordering.system.order.service.domain.outbox.scheduler.approval.ApprovalOutboxHelper;
+import com.food.ordering.system.order.service.domain.outbox.scheduler.payment.PaymentOutboxHelper;
+import com.food.ordering.system.order.service.domain.ports.output.notification.OrderStatusChangeNotifier;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderSagaRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderTrackingRepository;
+import com.food.ordering.system.order.service.domain.saga.model.OrderSaga;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.food.ordering.system.domain.DomainConstants.UTC;
+
+/**
+ * Drives orders through payment and restaurant approval. Each consumed batch of responses is applied in one
+ * transaction: orders and sagas are loaded once, responses are applied in poll order, and the changed orders and
+ * versioned sagas are written together at commit, so a concurrent update to the same saga rolls the batch back
+ * for redelivery. Responses that do not match the current saga state are duplicates or late redeliveries and are
+ * skipped.
+ */
+@Slf4j
+@Component
+public class OrderSagaEngine {
+
+    private final OrderDomainService orderDomainService;
+    private final OrderRepository orderRepository;
+    private final OrderSagaRepository orderSagaRepository;
+    private final OrderTrackingRepository orderTrackingRepository;
+    private final OrderDataMapper orderDataMapper;
+    private final PaymentOutboxHelper paymentOutboxHelper;
+    private final ApprovalOutboxHelper approvalOutboxHelper;
+    private final OrderStatusChangeNotifier orderStatusChangeNotifier;
+    private final RestaurantAdmissionControl restaurantAdmissionControl;
+
+    public OrderSagaEngine(OrderDomainService orderDomainService,
+                           OrderRepository orderRepository,
+                           OrderSagaRepository orderSagaRepository,
+                           OrderTrackingRepository orderTrackingRepository,
+                           OrderDataMapper orderDataMapper,
+                           PaymentOutboxHelper paymentOutboxHelper,
+                           ApprovalOutboxHelper approvalOutboxHelper,
+                           OrderStatusChangeNotifier orderStatusChangeNotifier,
+                           RestaurantAdmissionControl restaurantAdmissionControl) {
+        this.orderDomainService = orderDomainService;
+        this.orderRepository = orderRepository;
+        this.orderSagaRepository = orderSagaRepository;
+        this.orderTrackingRepository = orderTrackingRepository;
+        this.orderDataMapper = orderDataMapper;
+        this.paymentOutboxHelper = paymentOutboxHelper;
+        this.approvalOutboxHelper = approvalOutboxHelper;
+        this.orderStatusChangeNotifier = orderStatusChangeNotifier;
+        this.restaurantAdmissionControl = restaurantAdmissionControl;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void startSaga(OrderSaga orderSaga) {
+        OrderSaga response = orderSagaRepository.save(orderSaga);
+        if (response == null) {
+            log.error("Could not save saga with id: {} for order id: {}", orderSaga.getSagaId(),
+                    orderSaga.getOrderId());
+            throw new OrderDomainException("Could not save saga with id: " + orderSaga.getSagaId() +
+                    " for order id: " + orderSaga.getOrderId());
+        }
+        log.debug("Saga with id: {} started for order id: {}", orderSaga.getSagaId(), orderSaga.getOrderId());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void startSagas(List<OrderSaga> orderSagas) {
+        // sagas without a version are new, so saveAll persists them without reading first
+        orderSagaRepository.saveAll(orderSagas);
+        log.info("{} sagas started", orderSagas.size());
+    }
+
+    @Transactional
+    public void applyPaymentResponses(List<PaymentResponse> paymentResponses) {
+        SagaBatch sagaBatch = loadSagaBatch(paymentResponses.stream()
+                .map(PaymentResponse::getOrderId)
+                .collect(Collectors.toList()));
+        List<OrderApprovalOutboxMessage> approvalOutboxMessages = new ArrayList<>();
+
+        for (PaymentResponse paymentResponse : paymentResponses) {
+            String orderId = paymentResponse.getOrderId();
+            Order order = sagaBatch.orders.get(orderId);
+            OrderSaga orderSaga = sagaBatch.orderSagas.get(orderId);
+            if (order == null || orderSaga == null) {
+                logMissing(orderId, order);
+                continue;
+            }
+            OrderStatus orderStatus = order.getOrderStatus();
+            if (PaymentStatus.COMPLETED == paymentResponse.getPaymentStatus() && OrderStatus.PENDING == orderStatus) {
+                OrderPaidEvent orderPaidEvent = orderDomainService.payOrder(order);
+                // the restaurant approval request goes out through the outbox so it commits together with the order
+                approvalOutboxMessages.add(orderDataMapper.orderPaidEventToOrderApprovalOutboxMessage(orderPaidEvent,
+                        orderSaga.getSagaId()));
+                sagaBatch.update(order, orderSaga, SagaStatus.PROCESSING);
+            } else if (PaymentStatus.COMPLETED != paymentResponse.getPaymentStatus() &&
+                    (OrderStatus.PENDING == orderStatus || OrderStatus.CANCELLING == orderStatus)) {
+                orderDomainService.cancelOrder(order, paymentResponse.getFailureMessages());
+                sagaBatch.update(order, orderSaga,
+                        OrderStatus.PENDING == orderStatus ? SagaStatus.FAILED : SagaStatus.COMPENSATED);
+            } else {
+                logSkipped("Payment", paymentResponse.getPaymentStatus(), orderId, orderStatus);
+            }
+        }
+        if (!approvalOutboxMessages.isEmpty()) {
+            approvalOutboxHelper.saveApprovalOutboxMessages(approvalOutboxMessages);
+        }
+        sagaBatch.save();
+    }
+
+    @Transactional
+    public void applyRestaurantApprovalResponses(List<RestaurantApprovalResponse> restaurantApprovalResponses) {
+        SagaBatch sagaBatch = loadSagaBatch(restaurantApprovalResponses.stream()
+                .map(RestaurantApprovalResponse::getOrderId)
+                .collect(Collectors.toList()));
+
+        for (RestaurantApprovalResponse restaurantApprovalResponse : restaurantApprovalResponses) {
+            String orderId = restaurantApprovalResponse.getOrderId();
+            Order order = sagaBatch.orders.get(orderId);
+            OrderSaga orderSaga = sagaBatch.orderSagas.get(orderId);
+            if (order == null || orderSaga == null) {
+                logMissing(orderId, order);
+                continue;
+            }
+            if (OrderStatus.PAID != order.getOrderStatus()) {
+                logSkipped("Restaurant approval", restaurantApprovalResponse.getOrderApprovalStatus(), orderId,
+                        order.getOrderStatus());
+                continue;
+            }
+            if (OrderApprovalStatus.APPROVED == restaurantApprovalResponse.getOrderApprovalStatus()) {
+                orderDomainService.approveOrder(order);
+                sagaBatch.update(order, orderSaga, SagaStatus.SUCCEEDED);
+            } else {
+                OrderCancelledEvent orderCancelledEvent = orderDomainService.cancelOrderPayment(order,
+                        restaurantApprovalResponse.getFailureMessages());
+                // the payment refund goes out through the outbox so it commits together with the order
+                paymentOutboxHelper.savePaymentOutboxMessage(orderDataMapper
+                        .orderCancelledEventToOrderPaymentOutboxMessage(orderCancelledEvent, orderSaga.getSagaId()));
+                sagaBatch.update(order, orderSaga, SagaStatus.COMPENSATING);
+            }
+            sagaBatch.completed(order, orderSaga);
+        }
+        sagaBatch.save();
+    }
+
+    private SagaBatch loadSagaBatch(List<String> orderIds) {
+        Set<UUID> orderIdValues = orderIds.stream().map(UUID::fromString).collect(Collectors.toSet());
+        Map<String, Order> orders = orderRepository.findByIdIn(orderIdValues.stream()
+                        .map(OrderId::new)
+                        .collect(Collectors.toList())).stream()
+                .collect(Collectors.toMap(order -> order.getId().getValue().toString(), Function.identity()));
+        Map<String, OrderSaga> orderSagas = orderSagaRepository.findByOrderIdIn(orderIdValues).stream()
+                .collect(Collectors.toMap(orderSaga -> orderSaga.getOrderId().toString(), Function.identity()));
+        return new SagaBatch(orders, orderSagas);
+    }
+
+    private void logMissing(String orderId, Order order) {
+        if (order == null) {
+            log.error("Order with id: {} could not be found!", orderId);
+        } else {
+            log.error("Saga for order id: {} could not be found!", orderId);
+        }
+    }
+
+    private void logSkipped(String response, Enum<?> status, String orderId, OrderStatus orderStatus) {
+        log.info("{} response with status: {} for order id: {} in status: {} is already processed, skipping",
+                response, status, orderId, orderStatus);
+    }
+
+    private class SagaBatch {
+        private final Map<String, Order> orders;
+        private final Map<String, OrderSaga> orderSagas;
+        private final Set<Order> updatedOrders = new LinkedHashSet<>();
+        private final Set<OrderSaga> updatedOrderSagas = new LinkedHashSet<>();
+        private final Map<Order, OrderSaga> completedOrderSagas = new LinkedHashMap<>();
+
+        private SagaBatch(Map<String, Order> orders, Map<String, OrderSaga> orderSagas) {
+            this.orders = orders;
+            this.orderSagas = orderSagas;
+        }
+
+        private void update(Order order, OrderSaga orderSaga, SagaStatus sagaStatus) {
+            orderSaga.setSagaStatus(sagaStatus);
+            orderSaga.setOrderStatus(order.getOrderStatus());
+            orderSaga.setProcessedAt(ZonedDateTime.now(ZoneId.of(UTC)));
+            updatedOrders.add(order);
+            updatedOrderSagas.add(orderSaga);
+        }
+
+        private void completed(Order order, OrderSaga orderSaga) {
+            completedOrderSagas.put(order, orderSaga);
+        }
+
+        private void save() {
+            if (updatedOrders.isEmpty()) {
+                return;
+            }
+            orderRepository.saveAll(new ArrayList<>(updatedOrders));
+            orderSagaRepository.saveAll(new ArrayList<>(updatedOrderSagas));
+            orderTrackingRepository.updateAll(new ArrayList<>(updatedOrders));
+            log.info("{} orders moved forward in their saga", updatedOrders.size());
+
+            List<TrackOrderResponse> trackOrderResponses = updatedOrders.stream()
+                    .map(orderDataMapper::orderToTrackOrderResponse)
+                    .collect(Collectors.toList());
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    orderStatusChangeNotifier.orderStatusChanged(trackOrderResponses);
+                    // a rolled back batch is redelivered, so its latencies are fed to admission control only once
+                    completedOrderSagas.forEach((order, orderSaga) -> restaurantAdmissionControl.sagaCompleted(
+                            order.getRestaurantId().getValue(),
+                            Duration.between(orderSaga.getCreatedAt(), orderSaga.getProcessedAt())));
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.food.ordering.system.order.service.domain.saga.model;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.domain.valueobject.SagaStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class OrderSaga {
+    private UUID sagaId;
+    private UUID orderId;
+    @Setter
+    private SagaStatus sagaStatus;
+    @Setter
+    private OrderStatus orderStatus;
+    private ZonedDateTime createdAt;
+    @Setter
+    private ZonedDateTime processedAt;
+    private Long version;
+}
@@ -1,19 +1,25 @@
 package com.food.ordering.system.order.service.domain;
 
 import com.food.ordering.system.domain.valueobject.*;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResult;
 import com.food.ordering.system.order.service.domain.dto.create.OrderAddress;
 import com.food.ordering.system.order.service.domain.dto.create.OrderItem;
 import com.food.ordering.system.order.service.domain.entity.Customer;
-import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.entity.Product;
 import com.food.ordering.system.order.service.domain.entity.Restaurant;
 import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
 import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentOutboxMessage;
+import com.food.ordering.system.order.service.domain.saga.model.OrderSaga;
 import com.food.ordering.system.order.service.domain.ports.input.service.OrderApplicationService;
 import com.food.ordering.system.order.service.domain.ports.output.repository.CustomerRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderIdempotencyRepository;
 import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderSagaRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.PaymentOutboxRepository;
 import com.food.ordering.system.order.service.domain.ports.output.repository.RestaurantRepository;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -22,12 +28,16 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
 import java.math.BigDecimal;
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
@@ -49,13 +59,24 @@ public class OrderApplicationServiceTest {
     @Autowired
     private RestaurantRepository restaurantRepository;
 
+    @Autowired
+    private PaymentOutboxRepository paymentOutboxRepository;
+
+    @Autowired
+    private OrderSagaRepository orderSagaRepository;
+
+    @Autowired
+    private OrderIdempotencyRepository orderIdempotencyRepository;
+
+    @Autowired
+    private OrderServiceConfigData orderServiceConfigData;
+
     private CreateOrderCommand createOrderCommand;
     private CreateOrderCommand createOrderCommandWrongPrice;
     private CreateOrderCommand createOrderCommandWrongProductPrice;
     private final UUID CUSTOMER_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb41");
     private final UUID RESTAURANT_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb45");
     private final UUID PRODUCT_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb48");
-    private final UUID ORDER_ID = UUID.fromString("15a497c1-0f4b-4eff-b9f4-c402c8c07afb");
     private final UUID SAGA_ID = UUID.fromString("15a497c1-0f4b-4eff-b9f4-c402c8c07afa");
     private final BigDecimal PRICE = new BigDecimal("200.00");
 
@@ -140,13 +161,15 @@ public class OrderApplicationServiceTest {
                 .active(true)
                 .build();
 
-        Order order = orderDataMapper.createOrderCommandToOrder(createOrderCommand);
-        order.setId(new OrderId(ORDER_ID));
-
         when(customerRepository.findCustomer(CUSTOMER_ID)).thenReturn(Optional.of(customer));
+        when(customerRepository.findExistingCustomerIds(anyCollection())).thenReturn(Set.of(CUSTOMER_ID));
+        when(restaurantRepository.findRestaurantsInformation(anyCollection())).thenReturn(List.of(restaurantResponse));
         when(restaurantRepository.findRestaurantInformation(orderDataMapper.createOrderCommandToRestaurant(createOrderCommand)))
                 .thenReturn(Optional.of(restaurantResponse));
-        when(orderRepository.save(any(Order.class))).thenReturn(order);
+        when(paymentOutboxRepository.save(any(OrderPaymentOutboxMessage.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        when(orderSagaRepository.save(any(OrderSaga.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        orderServiceConfigData.setBulkOrderMaxSize(10);
     }
 
     @Test
@@ -157,6 +180,44 @@ public class OrderApplicationServiceTest {
         assertNotNull(createOrderResponse.getOrderTracingId());
     }
 
+    @Test
+    public void testCreateOrderWithRepeatedIdempotencyKey() {
+        CreateOrderResponse storedResponse = CreateOrderResponse.builder()
+                .orderTracingId(UUID.randomUUID())
+                .orderStatus(OrderStatus.PENDING)
+                .message("Order Created Successfully")
+                .build();
+        when(orderIdempotencyRepository.findByCustomerIdAndIdempotencyKey(CUSTOMER_ID, "repeated-key"))
+                .thenReturn(Optional.empty(), Optional.of(storedResponse));
+        when(orderIdempotencyRepository.insertIfAbsent(eq(CUSTOMER_ID), eq("repeated-key"), any(ZonedDateTime.class)))
+                .thenReturn(false);
+
+        CreateOrderResponse createOrderResponse =
+                orderApplicationService.createOrder(createOrderCommand, "repeated-key");
+        assertSame(storedResponse, createOrderResponse);
+    }
+
+    @Test
+    public void testCreateOrders() {
+        CreateOrderCommand createOrderCommandUnknownCustomer = CreateOrderCommand.builder()
+                .customerId(UUID.randomUUID())
+                .restaurantId(RESTAURANT_ID)
+                .address(createOrderCommand.getAddress())
+                .price(PRICE)
+                .items(createOrderCommand.getItems())
+                .build();
+
+        List<CreateOrderResult> createOrderResults = orderApplicationService.createOrders(
+                List.of(createOrderCommand, createOrderCommandWrongPrice, createOrderCommandUnknownCustomer));
+        assertEquals(3, createOrderResults.size());
+        assertTrue(createOrderResults.get(0).isCreated());
+        assertEquals(OrderStatus.PENDING, createOrderResults.get(0).getCreateOrderResponse().getOrderStatus());
+        assertEquals("Total price: 250.00 is not equal to Order Items total: 200.00!",
+                createOrderResults.get(1).getErrorMessage());
+        assertEquals("Could not find customer with customer id: " + createOrderCommandUnknownCustomer.getCustomerId(),
+                createOrderResults.get(2).getErrorMessage());
+    }
+
     @Test
     public void testCreateOrderWithWrongTotalPrice() {
         OrderDomainException orderDomainException = assertThrows(OrderDomainException.class, () -> {
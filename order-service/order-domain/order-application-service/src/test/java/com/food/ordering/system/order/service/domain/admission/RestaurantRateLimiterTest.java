@@ -0,0 +1,78 @@
+package com.food.ordering.system.order.service.domain.admission;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class RestaurantRateLimiterTest {
+
+    private static final long START_NANOS = TimeUnit.SECONDS.toNanos(100);
+    private static final long INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long COOLDOWN_NANOS = TimeUnit.SECONDS.toNanos(5);
+    private static final long INCREASE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final double DELTA = 0.000001;
+
+    @Test
+    public void testBurstIsAdmittedAtOnceThenOneOrderPerInterval() {
+        RestaurantRateLimiter rateLimiter = new RestaurantRateLimiter(10, 3, START_NANOS);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, rateLimiter.tryAcquire(START_NANOS));
+        }
+        assertEquals(INTERVAL_NANOS, rateLimiter.tryAcquire(START_NANOS));
+        assertEquals(0, rateLimiter.tryAcquire(START_NANOS + INTERVAL_NANOS));
+        assertEquals(INTERVAL_NANOS, rateLimiter.tryAcquire(START_NANOS + INTERVAL_NANOS));
+    }
+
+    @Test
+    public void testRejectedOrderReturnsRemainingWaitAndTakesNoToken() {
+        RestaurantRateLimiter rateLimiter = new RestaurantRateLimiter(10, 1, START_NANOS);
+        assertEquals(0, rateLimiter.tryAcquire(START_NANOS));
+        long quarterInterval = INTERVAL_NANOS / 4;
+        assertEquals(INTERVAL_NANOS - quarterInterval, rateLimiter.tryAcquire(START_NANOS + quarterInterval));
+        assertEquals(INTERVAL_NANOS - quarterInterval, rateLimiter.tryAcquire(START_NANOS + quarterInterval));
+        assertEquals(0, rateLimiter.tryAcquire(START_NANOS + INTERVAL_NANOS));
+    }
+
+    @Test
+    public void testDecreaseIsAppliedOncePerCooldown() {
+        RestaurantRateLimiter rateLimiter = new RestaurantRateLimiter(10, 1, START_NANOS);
+        rateLimiter.decrease(0.5, 1, COOLDOWN_NANOS, START_NANOS + COOLDOWN_NANOS - 1);
+        assertEquals(10, rateLimiter.getRatePerSecond(), DELTA);
+
+        rateLimiter.decrease(0.5, 1, COOLDOWN_NANOS, START_NANOS + COOLDOWN_NANOS);
+        rateLimiter.decrease(0.5, 1, COOLDOWN_NANOS, START_NANOS + COOLDOWN_NANOS + 1);
+        assertEquals(5, rateLimiter.getRatePerSecond(), DELTA);
+
+        rateLimiter.decrease(0.5, 1, COOLDOWN_NANOS, START_NANOS + 2 * COOLDOWN_NANOS);
+        assertEquals(2.5, rateLimiter.getRatePerSecond(), DELTA);
+    }
+
+    @Test
+    public void testIncreaseIsAppliedOncePerInterval() {
+        RestaurantRateLimiter rateLimiter = new RestaurantRateLimiter(10, 1, START_NANOS);
+        long now = START_NANOS + INCREASE_INTERVAL_NANOS;
+        for (int i = 0; i < 100; i++) {
+            rateLimiter.increase(1, 500, INCREASE_INTERVAL_NANOS, now + i);
+        }
+        assertEquals(11, rateLimiter.getRatePerSecond(), DELTA);
+
+        rateLimiter.increase(1, 500, INCREASE_INTERVAL_NANOS, now + INCREASE_INTERVAL_NANOS);
+        assertEquals(12, rateLimiter.getRatePerSecond(), DELTA);
+    }
+
+    @Test
+    public void testRateIsClampedToMinAndMax() {
+        RestaurantRateLimiter rateLimiter = new RestaurantRateLimiter(10, 1, START_NANOS);
+        for (int i = 1; i <= 10; i++) {
+            rateLimiter.decrease(0.5, 4, COOLDOWN_NANOS, START_NANOS + i * COOLDOWN_NANOS);
+        }
+        assertEquals(4, rateLimiter.getRatePerSecond(), DELTA);
+
+        for (int i = 1; i <= 10; i++) {
+            rateLimiter.increase(5, 12, INCREASE_INTERVAL_NANOS, START_NANOS + i * INCREASE_INTERVAL_NANOS);
+        }
+        assertEquals(12, rateLimiter.getRatePerSecond(), DELTA);
+    }
+}
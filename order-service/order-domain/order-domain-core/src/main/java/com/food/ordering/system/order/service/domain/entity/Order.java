@@ -1,6 +1,7 @@
 package com.food.ordering.system.order.service.domain.entity;
 
 import com.food.ordering.system.domain.entity.AggregateRoot;
+import com.food.ordering.system.domain.id.Ids;
 import com.food.ordering.system.domain.valueobject.*;
 import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
 import com.food.ordering.system.order.service.domain.valueobject.OrderItemId;
@@ -8,7 +9,6 @@ import com.food.ordering.system.order.service.domain.valueobject.StreetAddress;
 import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
 
 import java.util.List;
-import java.util.UUID;
 import java.util.stream.Collectors;
 
 public class Order extends AggregateRoot<OrderId> {
@@ -25,8 +25,8 @@ public class Order extends AggregateRoot<OrderId> {
     public static final String FAILURE_MESSAGE_DELIMITER = ",";
 
     public  void initializeOrder() {
-        setId(new OrderId(UUID.randomUUID()));
-        trackingId = new TrackingId((UUID.randomUUID()));
+        setId(new OrderId(Ids.newId()));
+        trackingId = new TrackingId(Ids.newId());
         orderStatus = OrderStatus.PENDING;
         initializeOrderItems();
     }
@@ -1,20 +1,39 @@
 package com.food.ordering.system.order.service.domain.entity;
 
 import com.food.ordering.system.domain.entity.AggregateRoot;
+import com.food.ordering.system.domain.valueobject.ProductId;
 import com.food.ordering.system.domain.valueobject.RestaurantId;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 public class Restaurant extends AggregateRoot<RestaurantId> {
     private final List<Product> products;
+    private final Map<ProductId, Product> productIndex;
     private boolean active;
 
     private Restaurant(Builder builder) {
         super.setId(builder.restaurantId);
         products = builder.products;
+        productIndex = indexProducts(builder.products);
         active = builder.active;
     }
 
+    public Optional<Product> findProduct(ProductId productId) {
+        return Optional.ofNullable(productIndex.get(productId));
+    }
+
+    private static Map<ProductId, Product> indexProducts(List<Product> products) {
+        if (products == null) {
+            return Collections.emptyMap();
+        }
+        Map<ProductId, Product> index = new HashMap<>(products.size() * 2);
+        products.forEach(product -> index.put(product.getId(), product));
+        return index;
+    }
 
     public List<Product> getProducts() {
         return products;
@@ -1,17 +1,12 @@
 package com.food.ordering.system.order.service.domain.event;
 
- import com.food.ordering.system.domain.event.publisher.DomainEventPublisher;
- import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.Order;
 
 import java.time.ZonedDateTime;
 
 public class OrderCancelledEvent extends OrderEvent {
-    private final DomainEventPublisher<OrderCancelledEvent> orderCreatedEventDomainEventPublisher;
-    public OrderCancelledEvent(Order order,
-                               ZonedDateTime createdAt,
-                               DomainEventPublisher<OrderCancelledEvent> orderCreatedEventDomainEventPublisher) {
+    public OrderCancelledEvent(Order order, ZonedDateTime createdAt) {
         super(order, createdAt);
-        this.orderCreatedEventDomainEventPublisher = orderCreatedEventDomainEventPublisher;
     }
 
     @Override
@@ -1,21 +1,16 @@
 package com.food.ordering.system.order.service.domain.event;
 
-import com.food.ordering.system.domain.event.publisher.DomainEventPublisher;
 import com.food.ordering.system.order.service.domain.entity.Order;
 
 import java.time.ZonedDateTime;
 
 public class OrderCreatedEvent extends OrderEvent {
-    private final DomainEventPublisher<OrderCreatedEvent> orderCreatedEventDomainEventPublisher;
-    public OrderCreatedEvent(Order order,
-                             ZonedDateTime createdAt,
-                             DomainEventPublisher<OrderCreatedEvent> orderCreatedEventDomainEventPublisher) {
+    public OrderCreatedEvent(Order order, ZonedDateTime createdAt) {
         super(order, createdAt);
-        this.orderCreatedEventDomainEventPublisher = orderCreatedEventDomainEventPublisher;
     }
 
     @Override
     public void fire() {
-        orderCreatedEventDomainEventPublisher.publish(this);
+
     }
 }
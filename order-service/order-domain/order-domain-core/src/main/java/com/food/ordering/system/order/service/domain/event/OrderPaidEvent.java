@@ -1,21 +1,16 @@
 package com.food.ordering.system.order.service.domain.event;
 
-import com.food.ordering.system.domain.event.publisher.DomainEventPublisher;
 import com.food.ordering.system.order.service.domain.entity.Order;
 
 import java.time.ZonedDateTime;
 
 public class OrderPaidEvent extends OrderEvent {
-    private final DomainEventPublisher<OrderPaidEvent> orderPaidEventDomainEventPublisher;
-    public OrderPaidEvent(Order order,
-                          ZonedDateTime createdAt,
-                          DomainEventPublisher<OrderPaidEvent> orderPaidEventDomainEventPublisher) {
+    public OrderPaidEvent(Order order, ZonedDateTime createdAt) {
         super(order, createdAt);
-        this.orderPaidEventDomainEventPublisher = orderPaidEventDomainEventPublisher;
     }
 
     @Override
     public void fire() {
-        orderPaidEventDomainEventPublisher.publish(this);
+
     }
 }
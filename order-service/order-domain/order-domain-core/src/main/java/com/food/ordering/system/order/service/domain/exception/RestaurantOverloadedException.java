@@ -0,0 +1,17 @@
+package com.food.ordering.system.order.service.domain.exception;
+
+import com.food.ordering.system.domain.exception.DomainException;
+
+public class RestaurantOverloadedException extends DomainException {
+
+    private final long retryAfterSeconds;
+
+    public RestaurantOverloadedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
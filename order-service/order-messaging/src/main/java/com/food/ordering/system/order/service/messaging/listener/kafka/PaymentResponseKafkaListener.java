@@ -1,6 +1,8 @@
 package com.food.ordering.system.order.service.messaging.listener.kafka;
 
+import com.food.ordering.system.domain.logging.SampledLogger;
 import com.food.ordering.system.kafka.consumer.KafkaConsumer;
+import com.food.ordering.system.kafka.consumer.dispatch.KeyOrderedDispatcher;
 import com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel;
 import com.food.ordering.system.kafka.order.avro.model.PaymentStatus;
 import com.food.ordering.system.order.service.domain.ports.input.message.listener.payment.PaymentResponseMessageListener;
@@ -12,42 +14,75 @@ import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Component
 public class PaymentResponseKafkaListener implements KafkaConsumer<PaymentResponseAvroModel> {
+    private static final SampledLogger receivedLog =
+            SampledLogger.of(PaymentResponseKafkaListener.class, 1, Duration.ofSeconds(1));
+
     private final PaymentResponseMessageListener paymentResponseMessageListener;
     private final OrderMessagingDataMapper orderMessagingDataMapper;
+    private final KeyOrderedDispatcher keyOrderedDispatcher;
 
     public PaymentResponseKafkaListener(PaymentResponseMessageListener paymentResponseMessageListener,
-                                        OrderMessagingDataMapper orderMessagingDataMapper) {
+                                        OrderMessagingDataMapper orderMessagingDataMapper,
+                                        KeyOrderedDispatcher keyOrderedDispatcher) {
         this.paymentResponseMessageListener = paymentResponseMessageListener;
         this.orderMessagingDataMapper = orderMessagingDataMapper;
+        this.keyOrderedDispatcher = keyOrderedDispatcher;
     }
 
     @Override
     @KafkaListener(id = "${kafka-consumer-config.payment-consumer-group-id}",
             topics = "${order-service.payment-response-topic-name}")
+    @KafkaListener(id = "${kafka-consumer-config.payment-consumer-group-id}-retry-0",
+            topics = "${order-service.payment-response-topic-name}-retry-0",
+            containerFactory = "retryKafkaListenerContainerFactory")
+    @KafkaListener(id = "${kafka-consumer-config.payment-consumer-group-id}-retry-1",
+            topics = "${order-service.payment-response-topic-name}-retry-1",
+            containerFactory = "retryKafkaListenerContainerFactory")
+    @KafkaListener(id = "${kafka-consumer-config.payment-consumer-group-id}-retry-2",
+            topics = "${order-service.payment-response-topic-name}-retry-2",
+            containerFactory = "retryKafkaListenerContainerFactory")
     public void recieve(@Payload List<PaymentResponseAvroModel> messages,
                         @Header(KafkaHeaders.RECEIVED_MESSAGE_KEY) List<String> keys,
                         @Header(KafkaHeaders.RECEIVED_PARTITION_ID) List<Integer> partitions,
                         @Header(KafkaHeaders.OFFSET) List<Long> offsets) {
-        log.info("{} number of payment responses received with keys: {}, partitions: {}, and offsets: {}",
-                messages.size(), keys.toString(), partitions.toString(), offsets.toString());
+        receivedLog.info("payment-responses-received", "count", messages.size(),
+                "partitions", partitions, "offsets", offsets);
 
+        List<PaymentResponseAvroModel> paymentResponses = new ArrayList<>(messages.size());
         messages.forEach(paymentResponseAvroModel -> {
             if (PaymentStatus.COMPLETED == paymentResponseAvroModel.getPaymentStatus()) {
-                log.info("Processing successful payment for order id: {}", paymentResponseAvroModel.getOrderId());
-                paymentResponseMessageListener.paymentCompleted(
-                        orderMessagingDataMapper.paymentResponseAvroModelToPaymentResponse(paymentResponseAvroModel));
+                log.debug("Processing successful payment for order id: {}", paymentResponseAvroModel.getOrderId());
+                paymentResponses.add(paymentResponseAvroModel);
             } else if (PaymentStatus.CANCELLED == paymentResponseAvroModel.getPaymentStatus()
                     || PaymentStatus.FAILED == paymentResponseAvroModel.getPaymentStatus()) {
-                log.info("Processing unsuccessful payment for order id: {}", paymentResponseAvroModel.getOrderId());
-                paymentResponseMessageListener.paymentCancelled(orderMessagingDataMapper
-                        .paymentResponseAvroModelToPaymentResponse(paymentResponseAvroModel));
+                log.debug("Processing unsuccessful payment for order id: {}", paymentResponseAvroModel.getOrderId());
+                paymentResponses.add(paymentResponseAvroModel);
             }
         });
-
+        if (paymentResponses.isEmpty()) {
+            return;
+        }
+        try {
+            paymentResponseMessageListener.processPaymentResponses(paymentResponses.stream()
+                    .map(orderMessagingDataMapper::paymentResponseAvroModelToPaymentResponse)
+                    .collect(Collectors.toList()));
+        } catch (RuntimeException e) {
+            // the batch transaction rolled back, applying the responses one by one finds the record that fails
+            log.warn("Processing {} payment responses together failed, processing them one by one",
+                    paymentResponses.size(), e);
+            keyOrderedDispatcher.dispatch(messages, paymentResponses, PaymentResponseAvroModel::getOrderId,
+                    paymentResponseAvroModel -> paymentResponseMessageListener.processPaymentResponses(
+                            Collections.singletonList(orderMessagingDataMapper
+                                    .paymentResponseAvroModelToPaymentResponse(paymentResponseAvroModel))));
+        }
     }
 }
@@ -1,6 +1,8 @@
 package com.food.ordering.system.order.service.messaging.listener.kafka;
 
+import com.food.ordering.system.domain.logging.SampledLogger;
 import com.food.ordering.system.kafka.consumer.KafkaConsumer;
+import com.food.ordering.system.kafka.consumer.dispatch.KeyOrderedDispatcher;
 import com.food.ordering.system.kafka.order.avro.model.OrderApprovalStatus;
 import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel;
 import com.food.ordering.system.order.service.domain.ports.input.message.listener.payment.RestaurantApprovalResponseMessageListener;
@@ -12,48 +14,85 @@ import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static com.food.ordering.system.order.service.domain.entity.Order.FAILURE_MESSAGE_DELIMITER;
 
 @Slf4j
 @Component
 public class RestaurantApprovalResponseKafkaListener implements KafkaConsumer<RestaurantApprovalResponseAvroModel> {
+    private static final SampledLogger receivedLog =
+            SampledLogger.of(RestaurantApprovalResponseKafkaListener.class, 1, Duration.ofSeconds(1));
+
     private final RestaurantApprovalResponseMessageListener restaurantApprovalResponseMessageListener;
     private final OrderMessagingDataMapper orderMessagingDataMapper;
+    private final KeyOrderedDispatcher keyOrderedDispatcher;
 
     public RestaurantApprovalResponseKafkaListener(
             RestaurantApprovalResponseMessageListener restaurantApprovalResponseMessageListener,
-            OrderMessagingDataMapper orderMessagingDataMapper) {
+            OrderMessagingDataMapper orderMessagingDataMapper,
+            KeyOrderedDispatcher keyOrderedDispatcher) {
         this.restaurantApprovalResponseMessageListener = restaurantApprovalResponseMessageListener;
         this.orderMessagingDataMapper = orderMessagingDataMapper;
+        this.keyOrderedDispatcher = keyOrderedDispatcher;
     }
 
     @Override
     @KafkaListener(id = "${kafka-consumer-config.restaurant-approval-consumer-group-id}",
             topics = "${order-service.restaurant-approval-response-topic-name}")
+    @KafkaListener(id = "${kafka-consumer-config.restaurant-approval-consumer-group-id}-retry-0",
+            topics = "${order-service.restaurant-approval-response-topic-name}-retry-0",
+            containerFactory = "retryKafkaListenerContainerFactory")
+    @KafkaListener(id = "${kafka-consumer-config.restaurant-approval-consumer-group-id}-retry-1",
+            topics = "${order-service.restaurant-approval-response-topic-name}-retry-1",
+            containerFactory = "retryKafkaListenerContainerFactory")
+    @KafkaListener(id = "${kafka-consumer-config.restaurant-approval-consumer-group-id}-retry-2",
+            topics = "${order-service.restaurant-approval-response-topic-name}-retry-2",
+            containerFactory = "retryKafkaListenerContainerFactory")
     public void recieve(@Payload List<RestaurantApprovalResponseAvroModel> messages,
                         @Header(KafkaHeaders.RECEIVED_MESSAGE_KEY) List<String> keys,
                         @Header(KafkaHeaders.RECEIVED_PARTITION_ID) List<Integer> partitions,
                         @Header(KafkaHeaders.OFFSET) List<Long> offsets) {
 
-        log.info("{} number of restaurant approval responses received with keys: {}, partitions: {}, and offsets: {}",
-                messages.size(), keys.toString(), partitions.toString(), offsets.toString());
+        receivedLog.info("restaurant-approval-responses-received", "count", messages.size(),
+                "partitions", partitions, "offsets", offsets);
 
+        List<RestaurantApprovalResponseAvroModel> restaurantApprovalResponses = new ArrayList<>(messages.size());
         messages.forEach(restaurantApprovalResponseAvroModel -> {
             if (OrderApprovalStatus.APPROVED == restaurantApprovalResponseAvroModel.getOrderApprovalStatus()) {
-                log.info("Processing approved order for order id: {}",
+                log.debug("Processing approved order for order id: {}",
                         restaurantApprovalResponseAvroModel.getOrderId());
-                restaurantApprovalResponseMessageListener.orderApproval(orderMessagingDataMapper
-                        .restaurantApprovalResponseAvroModelToApprovalResponse(restaurantApprovalResponseAvroModel));
+                restaurantApprovalResponses.add(restaurantApprovalResponseAvroModel);
             } else if (OrderApprovalStatus.REJECTED == restaurantApprovalResponseAvroModel.getOrderApprovalStatus()) {
-                log.info("Processing rejected order for order id: {}, with failure messages: {}",
+                log.debug("Processing rejected order for order id: {}, with failure messages: {}",
                         restaurantApprovalResponseAvroModel.getOrderId(),
                         String.join(FAILURE_MESSAGE_DELIMITER,
                                 restaurantApprovalResponseAvroModel.getFailureMessages()));
-                restaurantApprovalResponseMessageListener.orderRejected(orderMessagingDataMapper
-                        .restaurantApprovalResponseAvroModelToApprovalResponse(restaurantApprovalResponseAvroModel));
+                restaurantApprovalResponses.add(restaurantApprovalResponseAvroModel);
             }
         });
+        if (restaurantApprovalResponses.isEmpty()) {
+            return;
+        }
+        try {
+            restaurantApprovalResponseMessageListener.processRestaurantApprovalResponses(restaurantApprovalResponses
+                    .stream()
+                    .map(orderMessagingDataMapper::restaurantApprovalResponseAvroModelToApprovalResponse)
+                    .collect(Collectors.toList()));
+        } catch (RuntimeException e) {
+            // the batch transaction rolled back, applying the responses one by one finds the record that fails
+            log.warn("Processing {} restaurant approval responses together failed, processing them one by one",
+                    restaurantApprovalResponses.size(), e);
+            keyOrderedDispatcher.dispatch(messages, restaurantApprovalResponses,
+                    RestaurantApprovalResponseAvroModel::getOrderId,
+                    restaurantApprovalResponseAvroModel -> restaurantApprovalResponseMessageListener
+                            .processRestaurantApprovalResponses(Collections.singletonList(orderMessagingDataMapper
+                                    .restaurantApprovalResponseAvroModelToApprovalResponse(
+                                            restaurantApprovalResponseAvroModel))));
+        }
     }
 }
@@ -4,59 +4,42 @@ import com.food.ordering.system.domain.valueobject.PaymentStatus;
 import com.food.ordering.system.kafka.order.avro.model.*;
 import com.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
 import com.food.ordering.system.order.service.domain.dto.message.RestaurantApprovalResponse;
-import com.food.ordering.system.order.service.domain.entity.Order;
-import com.food.ordering.system.order.service.domain.event.OrderCancelledEvent;
-import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
-import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
+import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalOutboxMessage;
+import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentOutboxMessage;
 import org.springframework.stereotype.Component;
 
-import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Component
 public class OrderMessagingDataMapper {
-    public PaymentRequestAvroModel orderCreatedEventToPaymentRequestAvroModel(OrderCreatedEvent orderCreatedEvent) {
-        Order order = orderCreatedEvent.getOrder();
+    public PaymentRequestAvroModel orderPaymentOutboxMessageToPaymentRequestAvroModel(
+            OrderPaymentOutboxMessage orderPaymentOutboxMessage) {
         return PaymentRequestAvroModel.newBuilder()
-                .setOrderId(UUID.randomUUID().toString())
-                .setSagaId("")
-                .setCustomerId(order.getCustomerId().getValue().toString())
-                .setOrderId(order.getId().getValue().toString())
-                .setPrice(order.getPrice().getAmount())
-                .setCreatedAt(orderCreatedEvent.getCreatedAt().toInstant())
-                .setPaymentOrderStatus(PaymentOrderStatus.PENDING)
+                .setId(orderPaymentOutboxMessage.getId().toString())
+                .setSagaId(orderPaymentOutboxMessage.getSagaId().toString())
+                .setCustomerId(orderPaymentOutboxMessage.getCustomerId().toString())
+                .setOrderId(orderPaymentOutboxMessage.getOrderId().toString())
+                .setPrice(orderPaymentOutboxMessage.getPrice())
+                .setCreatedAt(orderPaymentOutboxMessage.getCreatedAt().toInstant())
+                .setPaymentOrderStatus(PaymentOrderStatus.valueOf(
+                        orderPaymentOutboxMessage.getPaymentOrderStatus().name()))
                 .build();
     }
 
-    public PaymentRequestAvroModel orderCancelledEventToPaymentRequestAvroModel(OrderCancelledEvent orderCancelledEvent) {
-        Order order = orderCancelledEvent.getOrder();
-        return PaymentRequestAvroModel.newBuilder()
-                .setOrderId(UUID.randomUUID().toString())
-                .setSagaId("")
-                .setCustomerId(order.getCustomerId().getValue().toString())
-                .setOrderId(order.getId().getValue().toString())
-                .setPrice(order.getPrice().getAmount())
-                .setCreatedAt(orderCancelledEvent.getCreatedAt().toInstant())
-                .setPaymentOrderStatus(PaymentOrderStatus.CANCELLED)
-                .build();
-    }
-
-    public RestaurantApprovalRequestAvroModel orderPaidEventToRestaurantApprovalRequestAvroModel(
-            OrderPaidEvent orderPaidEvent) {
-        Order order = orderPaidEvent.getOrder();
+    public RestaurantApprovalRequestAvroModel orderApprovalOutboxMessageToRestaurantApprovalRequestAvroModel(
+            OrderApprovalOutboxMessage orderApprovalOutboxMessage) {
         return RestaurantApprovalRequestAvroModel.newBuilder()
-                .setId(UUID.randomUUID().toString())
-                .setSagaId("")
-                .setOrderId(order.getId().getValue().toString())
-                .setRestaurantId(order.getRestaurantId().getValue().toString())
-                .setRestaurantOrderStatus(RestaurantOrderStatus.valueOf(order.getOrderStatus().name()))
-                .setProducts(order.getItems().stream().map(orderItem ->
+                .setId(orderApprovalOutboxMessage.getId().toString())
+                .setSagaId(orderApprovalOutboxMessage.getSagaId().toString())
+                .setOrderId(orderApprovalOutboxMessage.getOrderId().toString())
+                .setRestaurantId(orderApprovalOutboxMessage.getRestaurantId().toString())
+                .setProducts(orderApprovalOutboxMessage.getProducts().stream().map(product ->
                         Product.newBuilder()
-                                .setId(orderItem.getProduct().getId().getValue().toString())
-                                .setQuantity(orderItem.getQuantity())
+                                .setId(product.getProductId().toString())
+                                .setQuantity(product.getQuantity())
                                 .build()).collect(Collectors.toList()))
-                .setPrice(order.getPrice().getAmount())
-                .setCreatedAt(orderPaidEvent.getCreatedAt().toInstant())
+                .setPrice(orderApprovalOutboxMessage.getPrice())
+                .setCreatedAt(orderApprovalOutboxMessage.getCreatedAt().toInstant())
                 .setRestaurantOrderStatus(RestaurantOrderStatus.PAID)
                 .build();
     }
@@ -0,0 +1,104 @@
+package com.food.ordering.system.order.service.messaging.publisher.kafka;
+
+import com.food.ordering.system.domain.valueobject.OutboxStatus;
+import com.food.ordering.system.kafka.config.data.KafkaProducerConfigData;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel;
+import com.food.ordering.system.kafka.producer.service.KafkaProducer;
+import com.food.ordering.system.kafka.producer.service.KafkaSendPolicy;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalOutboxMessage;
+import com.food.ordering.system.order.service.domain.ports.output.message.publisher.retaurantapproval.RestaurantApprovalRequestMessagePublisher;
+import com.food.ordering.system.order.service.messaging.mapper.OrderMessagingDataMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+@Slf4j
+@Component
+public class OrderApprovalOutboxKafkaMessagePublisher implements RestaurantApprovalRequestMessagePublisher {
+
+    private final OrderMessagingDataMapper orderMessagingDataMapper;
+    private final OrderServiceConfigData orderServiceConfigData;
+    private final KafkaProducerConfigData kafkaProducerConfigData;
+    private final KafkaProducer<String, RestaurantApprovalRequestAvroModel> kafkaProducer;
+
+    public OrderApprovalOutboxKafkaMessagePublisher(OrderMessagingDataMapper orderMessagingDataMapper,
+                                                   OrderServiceConfigData orderServiceConfigData,
+                                                   KafkaProducerConfigData kafkaProducerConfigData,
+                                                   KafkaProducer<String, RestaurantApprovalRequestAvroModel> kafkaProducer) {
+        this.orderMessagingDataMapper = orderMessagingDataMapper;
+        this.orderServiceConfigData = orderServiceConfigData;
+        this.kafkaProducerConfigData = kafkaProducerConfigData;
+        this.kafkaProducer = kafkaProducer;
+    }
+
+    @Override
+    public void publish(List<OrderApprovalOutboxMessage> orderApprovalOutboxMessages,
+                        BiConsumer<OrderApprovalOutboxMessage, OutboxStatus> outboxCallback) {
+        String topicName = orderServiceConfigData.getRestaurantApprovalRequestTopicName();
+        Map<OrderApprovalOutboxMessage, OutboxStatus> results = new ConcurrentHashMap<>();
+        CountDownLatch pending = new CountDownLatch(orderApprovalOutboxMessages.size());
+
+        // sent like the payment requests: one batch keyed by order id, waiting for the in-flight limit
+        List<OrderApprovalOutboxMessage> sentOutboxMessages = new ArrayList<>(orderApprovalOutboxMessages.size());
+        List<ProducerRecord<String, RestaurantApprovalRequestAvroModel>> records =
+                new ArrayList<>(orderApprovalOutboxMessages.size());
+        for (OrderApprovalOutboxMessage outboxMessage : orderApprovalOutboxMessages) {
+            String orderId = outboxMessage.getOrderId().toString();
+            try {
+                records.add(new ProducerRecord<>(topicName, orderId, orderMessagingDataMapper
+                        .orderApprovalOutboxMessageToRestaurantApprovalRequestAvroModel(outboxMessage)));
+                sentOutboxMessages.add(outboxMessage);
+            } catch (Exception e) {
+                log.error("Error while sending RestaurantApprovalRequestAvroModel message to Kafka with order id: " +
+                        "{}, outbox id: {}, error: {}", orderId, outboxMessage.getId(), e.getMessage());
+                results.put(outboxMessage, OutboxStatus.FAILED);
+                pending.countDown();
+            }
+        }
+        List<CompletableFuture<SendResult<String, RestaurantApprovalRequestAvroModel>>> futures =
+                kafkaProducer.sendBatch(records, KafkaSendPolicy.WAIT);
+        for (int i = 0; i < futures.size(); i++) {
+            OrderApprovalOutboxMessage outboxMessage = sentOutboxMessages.get(i);
+            futures.get(i).whenComplete((result, ex) -> {
+                if (ex == null) {
+                    log.debug("RestaurantApprovalRequestAvroModel with outbox id: {} acknowledged, " +
+                                    "partition: {} offset: {}",
+                            outboxMessage.getId(),
+                            result.getRecordMetadata().partition(),
+                            result.getRecordMetadata().offset());
+                    results.put(outboxMessage, OutboxStatus.COMPLETED);
+                } else {
+                    log.error("Error while sending RestaurantApprovalRequestAvroModel with outbox id: {} " +
+                                    "to topic {}, error: {}",
+                            outboxMessage.getId(), topicName, ex.getMessage());
+                    results.put(outboxMessage, OutboxStatus.FAILED);
+                }
+                pending.countDown();
+            });
+        }
+
+        try {
+            if (!pending.await(kafkaProducerConfigData.getRequestTimeoutMs(), TimeUnit.MILLISECONDS)) {
+                log.warn("Timed out waiting for {} RestaurantApprovalRequestAvroModel acknowledgements",
+                        pending.getCount());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Interrupted while waiting for RestaurantApprovalRequestAvroModel acknowledgements");
+        }
+
+        orderApprovalOutboxMessages.forEach(outboxMessage ->
+                outboxCallback.accept(outboxMessage, results.getOrDefault(outboxMessage, OutboxStatus.FAILED)));
+    }
+}
@@ -0,0 +1,103 @@
+package com.food.ordering.system.order.service.messaging.publisher.kafka;
+
+import com.food.ordering.system.domain.valueobject.OutboxStatus;
+import com.food.ordering.system.kafka.config.data.KafkaProducerConfigData;
+import com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel;
+import com.food.ordering.system.kafka.producer.service.KafkaProducer;
+import com.food.ordering.system.kafka.producer.service.KafkaSendPolicy;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentOutboxMessage;
+import com.food.ordering.system.order.service.domain.ports.output.message.publisher.payment.PaymentRequestMessagePublisher;
+import com.food.ordering.system.order.service.messaging.mapper.OrderMessagingDataMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+@Slf4j
+@Component
+public class OrderPaymentOutboxKafkaMessagePublisher implements PaymentRequestMessagePublisher {
+
+    private final OrderMessagingDataMapper orderMessagingDataMapper;
+    private final OrderServiceConfigData orderServiceConfigData;
+    private final KafkaProducerConfigData kafkaProducerConfigData;
+    private final KafkaProducer<String, PaymentRequestAvroModel> kafkaProducer;
+
+    public OrderPaymentOutboxKafkaMessagePublisher(OrderMessagingDataMapper orderMessagingDataMapper,
+                                                   OrderServiceConfigData orderServiceConfigData,
+                                                   KafkaProducerConfigData kafkaProducerConfigData,
+                                                   KafkaProducer<String, PaymentRequestAvroModel> kafkaProducer) {
+        this.orderMessagingDataMapper = orderMessagingDataMapper;
+        this.orderServiceConfigData = orderServiceConfigData;
+        this.kafkaProducerConfigData = kafkaProducerConfigData;
+        this.kafkaProducer = kafkaProducer;
+    }
+
+    @Override
+    public void publish(List<OrderPaymentOutboxMessage> orderPaymentOutboxMessages,
+                        BiConsumer<OrderPaymentOutboxMessage, OutboxStatus> outboxCallback) {
+        String topicName = orderServiceConfigData.getPaymentRequestTopicName();
+        Map<OrderPaymentOutboxMessage, OutboxStatus> results = new ConcurrentHashMap<>();
+        CountDownLatch pending = new CountDownLatch(orderPaymentOutboxMessages.size());
+
+        // all records are handed to the producer before waiting, so they share producer batches; the order id key
+        // keeps every message of one order on the same partition. The outbox scheduler runs in the background, so
+        // it waits for the in-flight limit instead of failing the messages.
+        List<OrderPaymentOutboxMessage> sentOutboxMessages = new ArrayList<>(orderPaymentOutboxMessages.size());
+        List<ProducerRecord<String, PaymentRequestAvroModel>> records =
+                new ArrayList<>(orderPaymentOutboxMessages.size());
+        for (OrderPaymentOutboxMessage outboxMessage : orderPaymentOutboxMessages) {
+            String orderId = outboxMessage.getOrderId().toString();
+            try {
+                records.add(new ProducerRecord<>(topicName, orderId, orderMessagingDataMapper
+                        .orderPaymentOutboxMessageToPaymentRequestAvroModel(outboxMessage)));
+                sentOutboxMessages.add(outboxMessage);
+            } catch (Exception e) {
+                log.error("Error while sending PaymentRequestAvroModel message to Kafka with order id: {}," +
+                        " outbox id: {}, error: {}", orderId, outboxMessage.getId(), e.getMessage());
+                results.put(outboxMessage, OutboxStatus.FAILED);
+                pending.countDown();
+            }
+        }
+        List<CompletableFuture<SendResult<String, PaymentRequestAvroModel>>> futures =
+                kafkaProducer.sendBatch(records, KafkaSendPolicy.WAIT);
+        for (int i = 0; i < futures.size(); i++) {
+            OrderPaymentOutboxMessage outboxMessage = sentOutboxMessages.get(i);
+            futures.get(i).whenComplete((result, ex) -> {
+                if (ex == null) {
+                    log.debug("PaymentRequestAvroModel with outbox id: {} acknowledged, partition: {} offset: {}",
+                            outboxMessage.getId(),
+                            result.getRecordMetadata().partition(),
+                            result.getRecordMetadata().offset());
+                    results.put(outboxMessage, OutboxStatus.COMPLETED);
+                } else {
+                    log.error("Error while sending PaymentRequestAvroModel with outbox id: {} to topic {}, error: {}",
+                            outboxMessage.getId(), topicName, ex.getMessage());
+                    results.put(outboxMessage, OutboxStatus.FAILED);
+                }
+                pending.countDown();
+            });
+        }
+
+        try {
+            if (!pending.await(kafkaProducerConfigData.getRequestTimeoutMs(), TimeUnit.MILLISECONDS)) {
+                log.warn("Timed out waiting for {} PaymentRequestAvroModel acknowledgements", pending.getCount());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Interrupted while waiting for PaymentRequestAvroModel acknowledgements");
+        }
+
+        orderPaymentOutboxMessages.forEach(outboxMessage ->
+                outboxCallback.accept(outboxMessage, results.getOrDefault(outboxMessage, OutboxStatus.FAILED)));
+    }
+}
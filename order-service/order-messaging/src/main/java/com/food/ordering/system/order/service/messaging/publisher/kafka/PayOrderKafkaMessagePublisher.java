@@ -1,55 +0,0 @@
-package com.food.ordering.system.order.service.messaging.publisher.kafka;
-
-import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel;
-import com.food.ordering.system.kafka.producer.service.KafkaMessageHelper;
-import com.food.ordering.system.kafka.producer.service.KafkaProducer;
-import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
-import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
-import com.food.ordering.system.order.service.domain.ports.output.message.publisher.retaurantapproval.OrderPaidRestaurantRequestMessagePublisher;
-import com.food.ordering.system.order.service.messaging.mapper.OrderMessagingDataMapper;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.stereotype.Component;
-
-@Slf4j
-@Component
-public class PayOrderKafkaMessagePublisher implements OrderPaidRestaurantRequestMessagePublisher {
-    private final OrderMessagingDataMapper orderMessagingDataMapper;
-    private final OrderServiceConfigData orderServiceConfigData;
-    private final KafkaMessageHelper kafkaMessageHelper;
-    private final KafkaProducer<String, RestaurantApprovalRequestAvroModel> kafkaProducer;
-
-    public PayOrderKafkaMessagePublisher(OrderMessagingDataMapper orderMessagingDataMapper,
-                                         OrderServiceConfigData orderServiceConfigData,
-                                         KafkaMessageHelper kafkaMessageHelper,
-                                         KafkaProducer<String, RestaurantApprovalRequestAvroModel> kafkaProducer) {
-        this.orderMessagingDataMapper = orderMessagingDataMapper;
-        this.orderServiceConfigData = orderServiceConfigData;
-        this.kafkaMessageHelper = kafkaMessageHelper;
-        this.kafkaProducer = kafkaProducer;
-    }
-
-    @Override
-    public void publish(OrderPaidEvent domainEvent) {
-        String orderId = domainEvent.getOrder().getId().getValue().toString();
-        log.info("Received OrderPaidEvent for order id: {}", orderId);
-        try {
-            RestaurantApprovalRequestAvroModel restaurantApprovalRequestAvroModel = orderMessagingDataMapper
-                    .orderPaidEventToRestaurantApprovalRequestAvroModel(domainEvent);
-
-            kafkaProducer.send(orderServiceConfigData.getRestaurantApprovalRequestTopicName(),
-                    orderId,
-                    restaurantApprovalRequestAvroModel, kafkaMessageHelper
-                            .getKafkaCallback(
-                                    orderServiceConfigData.getPaymentRequestTopicName(),
-                                    restaurantApprovalRequestAvroModel,
-                                    restaurantApprovalRequestAvroModel.getOrderId(),
-                                    "RestaurantApprovalRequestAvroModel")
-            );
-            log.info("RestaurantApprovalRequestAvroModel sent to Kafka for order id: {}",
-                    restaurantApprovalRequestAvroModel.getOrderId());
-        } catch(Exception e) {
-            log.error("Error while sending RestaurantApprovalRequestAvroModel message" +
-                    " to Kafka with order id: {}, error: {}", orderId, e.getMessage());
-        }
-    }
-}
@@ -5,10 +5,12 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @EnableJpaRepositories(basePackages = {"com.food.ordering.system.payment.service.dataaccess"})
 @EntityScan(basePackages = {"com.food.ordering.system.payment.service.dataaccess"})
 @SpringBootApplication(scanBasePackages = "com.food.ordering.system")
+@EnableScheduling
 public class PaymentServiceApplication {
      public static void main(String[] args) {
          SpringApplication.run(PaymentServiceApplication.class, args);
@@ -28,6 +28,7 @@ CREATE TABLE "payment".credit_entry
     id uuid NOT NULL,
     customer_id uuid NOT NULL,
     total_credit_amount numeric(10,2) NOT NULL,
+    version bigint NOT NULL DEFAULT 0,
     CONSTRAINT credit_entry_pkey PRIMARY KEY (id)
 );
 
@@ -43,6 +44,32 @@ CREATE TABLE "payment".credit_history
     customer_id uuid NOT NULL,
     amount numeric(10,2) NOT NULL,
     type transaction_type NOT NULL,
-    CONSTRAINT credit_history_pkey PRIMARY KEY (id)
+    sequence_number bigint NOT NULL,
+    CONSTRAINT credit_history_pkey PRIMARY KEY (id),
+    CONSTRAINT credit_history_customer_sequence_key UNIQUE (customer_id, sequence_number)
 );
 
+DROP TABLE IF EXISTS "payment".credit_ledger CASCADE;
+
+CREATE TABLE "payment".credit_ledger
+(
+    customer_id uuid NOT NULL,
+    total_credit_amount numeric(19,2) NOT NULL,
+    total_debit_amount numeric(19,2) NOT NULL,
+    sequence_number bigint NOT NULL,
+    CONSTRAINT credit_ledger_pkey PRIMARY KEY (customer_id)
+);
+
+
+DROP TABLE IF EXISTS "payment".processed_messages CASCADE;
+
+CREATE TABLE "payment".processed_messages
+(
+    id uuid NOT NULL,
+    processed_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    CONSTRAINT processed_messages_pkey PRIMARY KEY (id)
+);
+
+CREATE INDEX "processed_messages_processed_at"
+    ON "payment".processed_messages
+    (processed_at);
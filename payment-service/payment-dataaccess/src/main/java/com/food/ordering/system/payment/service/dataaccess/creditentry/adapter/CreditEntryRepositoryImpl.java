@@ -7,7 +7,10 @@ import com.food.ordering.system.payment.service.domain.entity.CreditEntry;
 import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditEntryRepository;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Component
 public class CreditEntryRepositoryImpl implements CreditEntryRepository {
@@ -28,10 +31,32 @@ public class CreditEntryRepositoryImpl implements CreditEntryRepository {
                         .save(creditEntryDataAccessMapper.creditEntryToCreditEntryEntity(creditEntry)));
     }
 
+    @Override
+    public void saveAll(List<CreditEntry> creditEntries) {
+        creditEntryJpaRepository.saveAll(creditEntries.stream()
+                .map(creditEntryDataAccessMapper::creditEntryToCreditEntryEntity)
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    public boolean updateTotalCreditAmount(CreditEntry creditEntry) {
+        return creditEntryJpaRepository.updateTotalCreditAmount(creditEntry.getId().getValue(),
+                creditEntry.getTotalCreditAmount().getAmount(), creditEntry.getVersion()) == 1;
+    }
+
     @Override
     public Optional<CreditEntry> findByCustomerId(CustomerId customerId) {
         return creditEntryJpaRepository
                 .findByCustomerId(customerId.getValue())
                 .map(creditEntryDataAccessMapper::creditEntryEntityToCreditEntry);
     }
+
+    @Override
+    public List<CreditEntry> findByCustomerIdIn(Collection<CustomerId> customerIds) {
+        return creditEntryJpaRepository
+                .findByCustomerIdIn(customerIds.stream().map(CustomerId::getValue).collect(Collectors.toList()))
+                .stream()
+                .map(creditEntryDataAccessMapper::creditEntryEntityToCreditEntry)
+                .collect(Collectors.toList());
+    }
 }
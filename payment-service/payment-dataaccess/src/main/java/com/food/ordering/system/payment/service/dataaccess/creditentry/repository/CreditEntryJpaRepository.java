@@ -2,8 +2,14 @@ package com.food.ordering.system.payment.service.dataaccess.creditentry.reposito
 
 import com.food.ordering.system.payment.service.dataaccess.creditentry.entity.CreditEntryEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -12,5 +18,13 @@ public interface CreditEntryJpaRepository extends JpaRepository<CreditEntryEntit
 
     Optional<CreditEntryEntity> findByCustomerId(UUID customerId);
 
+    List<CreditEntryEntity> findByCustomerIdIn(Collection<UUID> customerIds);
+
+    @Modifying
+    @Query("UPDATE CreditEntryEntity c SET c.totalCreditAmount = :totalCreditAmount, c.version = c.version + 1 " +
+            "WHERE c.id = :id AND c.version = :version")
+    int updateTotalCreditAmount(@Param("id") UUID id,
+                                @Param("totalCreditAmount") BigDecimal totalCreditAmount,
+                                @Param("version") Long version);
 
 }
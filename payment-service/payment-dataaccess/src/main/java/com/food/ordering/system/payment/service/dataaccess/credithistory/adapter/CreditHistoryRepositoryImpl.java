@@ -8,6 +8,8 @@ import com.food.ordering.system.payment.service.domain.entity.CreditHistory;
 import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditHistoryRepository;
 import org.springframework.stereotype.Component;
 
+import javax.persistence.EntityManager;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -17,11 +19,14 @@ public class CreditHistoryRepositoryImpl implements CreditHistoryRepository {
 
     private final CreditHistoryJpaRepository creditHistoryJpaRepository;
     private final CreditHistoryDataAccessMapper creditHistoryDataAccessMapper;
+    private final EntityManager entityManager;
 
     public CreditHistoryRepositoryImpl(CreditHistoryJpaRepository creditHistoryJpaRepository,
-                                       CreditHistoryDataAccessMapper creditHistoryDataAccessMapper) {
+                                       CreditHistoryDataAccessMapper creditHistoryDataAccessMapper,
+                                       EntityManager entityManager) {
         this.creditHistoryJpaRepository = creditHistoryJpaRepository;
         this.creditHistoryDataAccessMapper = creditHistoryDataAccessMapper;
+        this.entityManager = entityManager;
     }
 
     @Override
@@ -30,6 +35,14 @@ public class CreditHistoryRepositoryImpl implements CreditHistoryRepository {
                 .save(creditHistoryDataAccessMapper.creditHistoryToCreditHistoryEntity(creditHistory)));
     }
 
+    @Override
+    public void insertAll(List<CreditHistory> creditHistories) {
+        // History rows are append-only, persist skips the select merge would issue per row
+        creditHistories.stream()
+                .map(creditHistoryDataAccessMapper::creditHistoryToCreditHistoryEntity)
+                .forEach(entityManager::persist);
+    }
+
     @Override
     public Optional<List<CreditHistory>> findByCustomerId(CustomerId customerId) {
         Optional<List<CreditHistoryEntity>> creditHistory =
@@ -40,4 +53,13 @@ public class CreditHistoryRepositoryImpl implements CreditHistoryRepository {
                                 .map(creditHistoryDataAccessMapper::creditHistoryEntityToCreditHistory)
                                 .collect(Collectors.toList()));
     }
+
+    @Override
+    public List<CreditHistory> findByCustomerIdIn(Collection<CustomerId> customerIds) {
+        return creditHistoryJpaRepository
+                .findByCustomerIdIn(customerIds.stream().map(CustomerId::getValue).collect(Collectors.toList()))
+                .stream()
+                .map(creditHistoryDataAccessMapper::creditHistoryEntityToCreditHistory)
+                .collect(Collectors.toList());
+    }
 }
@@ -23,6 +23,7 @@ public class CreditHistoryEntity {
     private BigDecimal amount;
     @Enumerated(EnumType.STRING)
     private TransactionType type;
+    private Long sequenceNumber;
 
     @Override
     public boolean equals(Object o) {
@@ -4,6 +4,7 @@ import com.food.ordering.system.payment.service.dataaccess.credithistory.entity.
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -13,5 +14,7 @@ public interface CreditHistoryJpaRepository extends JpaRepository<CreditHistoryE
 
     Optional<List<CreditHistoryEntity>> findByCustomerId(UUID customerId);
 
+    List<CreditHistoryEntity> findByCustomerIdIn(Collection<UUID> customerIds);
+
 
 }
@@ -0,0 +1,68 @@
+package com.food.ordering.system.payment.service.dataaccess.creditledger.adapter;
+
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.payment.service.dataaccess.creditledger.entity.CreditLedgerEntity;
+import com.food.ordering.system.payment.service.dataaccess.creditledger.mapper.CreditLedgerDataAccessMapper;
+import com.food.ordering.system.payment.service.dataaccess.creditledger.repository.CreditLedgerJpaRepository;
+import com.food.ordering.system.payment.service.domain.entity.CreditLedger;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditLedgerRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+@Component
+public class CreditLedgerRepositoryImpl implements CreditLedgerRepository {
+
+    private final CreditLedgerJpaRepository creditLedgerJpaRepository;
+    private final CreditLedgerDataAccessMapper creditLedgerDataAccessMapper;
+
+    public CreditLedgerRepositoryImpl(CreditLedgerJpaRepository creditLedgerJpaRepository,
+                                      CreditLedgerDataAccessMapper creditLedgerDataAccessMapper) {
+        this.creditLedgerJpaRepository = creditLedgerJpaRepository;
+        this.creditLedgerDataAccessMapper = creditLedgerDataAccessMapper;
+    }
+
+    @Override
+    public CreditLedger save(CreditLedger creditLedger) {
+        return creditLedgerDataAccessMapper.creditLedgerEntityToCreditLedger(creditLedgerJpaRepository
+                .save(creditLedgerDataAccessMapper.creditLedgerToCreditLedgerEntity(creditLedger)));
+    }
+
+    @Override
+    public void saveAll(List<CreditLedger> creditLedgers) {
+        creditLedgerJpaRepository.saveAll(creditLedgers.stream()
+                .map(creditLedgerDataAccessMapper::creditLedgerToCreditLedgerEntity)
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    public Optional<CreditLedger> findByCustomerId(CustomerId customerId) {
+        return creditLedgerJpaRepository.findById(customerId.getValue())
+                .map(creditLedgerDataAccessMapper::creditLedgerEntityToCreditLedger);
+    }
+
+    @Override
+    public List<CreditLedger> findByCustomerIdIn(Collection<CustomerId> customerIds) {
+        return toCreditLedgers(creditLedgerJpaRepository
+                .findByCustomerIdIn(customerIds.stream().map(CustomerId::getValue).collect(Collectors.toList())));
+    }
+
+    @Override
+    public List<CreditLedger> findPageAfter(CustomerId lastCustomerId, int pageSize) {
+        PageRequest pageRequest = PageRequest.of(0, pageSize);
+        return toCreditLedgers(lastCustomerId == null ?
+                creditLedgerJpaRepository.findAllByOrderByCustomerId(pageRequest) :
+                creditLedgerJpaRepository.findByCustomerIdGreaterThanOrderByCustomerId(lastCustomerId.getValue(),
+                        pageRequest));
+    }
+
+    private List<CreditLedger> toCreditLedgers(List<CreditLedgerEntity> creditLedgerEntities) {
+        return creditLedgerEntities.stream()
+                .map(creditLedgerDataAccessMapper::creditLedgerEntityToCreditLedger)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,20 @@
+package com.food.ordering.system.payment.service.dataaccess.creditledger.repository;
+
+import com.food.ordering.system.payment.service.dataaccess.creditledger.entity.CreditLedgerEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface CreditLedgerJpaRepository extends JpaRepository<CreditLedgerEntity, UUID> {
+
+    List<CreditLedgerEntity> findByCustomerIdIn(Collection<UUID> customerIds);
+
+    List<CreditLedgerEntity> findAllByOrderByCustomerId(Pageable pageable);
+
+    List<CreditLedgerEntity> findByCustomerIdGreaterThanOrderByCustomerId(UUID customerId, Pageable pageable);
+}
@@ -6,19 +6,26 @@ import com.food.ordering.system.payment.service.domain.entity.Payment;
 import com.food.ordering.system.payment.service.domain.ports.output.repository.PaymentRepository;
 import org.springframework.stereotype.Component;
 
+import javax.persistence.EntityManager;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Component
 public class PaymentRepositoryImpl implements PaymentRepository {
 
     private final PaymentJpaRepository paymentJpaRepository;
     private final PaymentDataAccessMapper paymentDataAccessMapper;
+    private final EntityManager entityManager;
 
     public PaymentRepositoryImpl(PaymentJpaRepository paymentJpaRepository,
-                                 PaymentDataAccessMapper paymentDataAccessMapper) {
+                                 PaymentDataAccessMapper paymentDataAccessMapper,
+                                 EntityManager entityManager) {
         this.paymentJpaRepository = paymentJpaRepository;
         this.paymentDataAccessMapper = paymentDataAccessMapper;
+        this.entityManager = entityManager;
     }
 
     @Override
@@ -33,4 +40,25 @@ public class PaymentRepositoryImpl implements PaymentRepository {
         return paymentJpaRepository.findByOrderId(orderId)
                 .map(paymentDataAccessMapper::paymentEntityToPayment);
     }
+
+    @Override
+    public void insertAll(List<Payment> payments) {
+        payments.stream()
+                .map(paymentDataAccessMapper::paymentToPaymentEntity)
+                .forEach(entityManager::persist);
+    }
+
+    @Override
+    public void saveAll(List<Payment> payments) {
+        paymentJpaRepository.saveAll(payments.stream()
+                .map(paymentDataAccessMapper::paymentToPaymentEntity)
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    public List<Payment> findByOrderIdIn(Collection<UUID> orderIds) {
+        return paymentJpaRepository.findByOrderIdIn(orderIds).stream()
+                .map(paymentDataAccessMapper::paymentEntityToPayment)
+                .collect(Collectors.toList());
+    }
 }
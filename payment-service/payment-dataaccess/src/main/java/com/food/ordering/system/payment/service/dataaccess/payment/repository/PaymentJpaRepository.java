@@ -4,6 +4,8 @@ import com.food.ordering.system.payment.service.dataaccess.payment.entity.Paymen
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -12,5 +14,7 @@ public interface PaymentJpaRepository extends JpaRepository<PaymentEntity, UUID>
 
     Optional<PaymentEntity> findByOrderId(UUID orderId);
 
+    List<PaymentEntity> findByOrderIdIn(Collection<UUID> orderIds);
+
 
 }
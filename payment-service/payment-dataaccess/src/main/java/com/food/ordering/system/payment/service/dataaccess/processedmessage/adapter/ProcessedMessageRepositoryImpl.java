@@ -0,0 +1,54 @@
+package com.food.ordering.system.payment.service.dataaccess.processedmessage.adapter;
+
+import com.food.ordering.system.payment.service.dataaccess.processedmessage.entity.ProcessedMessageEntity;
+import com.food.ordering.system.payment.service.dataaccess.processedmessage.repository.ProcessedMessageJpaRepository;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.ProcessedMessageRepository;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManager;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static com.food.ordering.system.domain.DomainConstants.UTC;
+
+@Component
+public class ProcessedMessageRepositoryImpl implements ProcessedMessageRepository {
+
+    private final ProcessedMessageJpaRepository processedMessageJpaRepository;
+    private final EntityManager entityManager;
+
+    public ProcessedMessageRepositoryImpl(ProcessedMessageJpaRepository processedMessageJpaRepository,
+                                          EntityManager entityManager) {
+        this.processedMessageJpaRepository = processedMessageJpaRepository;
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public void insert(UUID messageId) {
+        // a redelivered message fails on the primary key at flush and rolls its transaction back
+        entityManager.persist(ProcessedMessageEntity.builder()
+                .id(messageId)
+                .processedAt(ZonedDateTime.now(ZoneId.of(UTC)))
+                .build());
+    }
+
+    @Override
+    public void insertAll(List<UUID> messageIds) {
+        messageIds.forEach(this::insert);
+    }
+
+    @Override
+    public Set<UUID> findProcessedMessageIds(Collection<UUID> messageIds) {
+        return new HashSet<>(processedMessageJpaRepository.findIdsByIdIn(messageIds));
+    }
+
+    @Override
+    public int deleteByProcessedAtBefore(ZonedDateTime processedAt) {
+        return processedMessageJpaRepository.deleteByProcessedAtBefore(processedAt);
+    }
+}
@@ -0,0 +1,24 @@
+package com.food.ordering.system.payment.service.dataaccess.processedmessage.repository;
+
+import com.food.ordering.system.payment.service.dataaccess.processedmessage.entity.ProcessedMessageEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ProcessedMessageJpaRepository extends JpaRepository<ProcessedMessageEntity, UUID> {
+
+    @Query("select p.id from ProcessedMessageEntity p where p.id in :ids")
+    List<UUID> findIdsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Modifying
+    @Query("delete from ProcessedMessageEntity p where p.processedAt < :processedAt")
+    int deleteByProcessedAtBefore(@Param("processedAt") ZonedDateTime processedAt);
+}
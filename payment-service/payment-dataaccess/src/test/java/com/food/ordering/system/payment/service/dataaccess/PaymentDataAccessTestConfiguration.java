@@ -0,0 +1,7 @@
+package com.food.ordering.system.payment.service.dataaccess;
+
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication
+public class PaymentDataAccessTestConfiguration {
+}
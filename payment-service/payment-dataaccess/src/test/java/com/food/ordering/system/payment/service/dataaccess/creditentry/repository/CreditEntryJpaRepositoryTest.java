@@ -0,0 +1,107 @@
+package com.food.ordering.system.payment.service.dataaccess.creditentry.repository;
+
+import com.food.ordering.system.payment.service.dataaccess.creditentry.entity.CreditEntryEntity;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// the PostgreSQL dialect maps UUID ids to H2's uuid type as it does to PostgreSQL's
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.PostgreSQL9Dialect")
+public class CreditEntryJpaRepositoryTest {
+
+    private static final int THREADS = 8;
+    private static final int DEBITS_PER_THREAD = 25;
+    private static final BigDecimal DEBIT = new BigDecimal("1.00");
+
+    @Autowired
+    private CreditEntryJpaRepository creditEntryJpaRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    public void testUpdateWithStaleVersionMatchesNoRow() {
+        CreditEntryEntity creditEntry = testEntityManager.persistFlushFind(creditEntry(new BigDecimal("500.00")));
+        long readVersion = creditEntry.getVersion();
+
+        assertEquals(1, creditEntryJpaRepository.updateTotalCreditAmount(creditEntry.getId(),
+                new BigDecimal("400.00"), readVersion));
+        assertEquals(0, creditEntryJpaRepository.updateTotalCreditAmount(creditEntry.getId(),
+                new BigDecimal("300.00"), readVersion));
+
+        testEntityManager.clear();
+        CreditEntryEntity updated = testEntityManager.find(CreditEntryEntity.class, creditEntry.getId());
+        assertEquals(0, new BigDecimal("400.00").compareTo(updated.getTotalCreditAmount()));
+        assertEquals(readVersion + 1, updated.getVersion());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void testConcurrentDebitsReconcile() throws Exception {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        BigDecimal initialCredit = new BigDecimal("500.00");
+        UUID id = transactionTemplate.execute(status ->
+                creditEntryJpaRepository.save(creditEntry(initialCredit)).getId());
+
+        ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int thread = 0; thread < THREADS; thread++) {
+            futures.add(executorService.submit(() -> {
+                start.await();
+                for (int i = 0; i < DEBITS_PER_THREAD; i++) {
+                    // read and conditionally update in one transaction, retried on a stale version
+                    Boolean updated;
+                    do {
+                        updated = transactionTemplate.execute(status -> {
+                            CreditEntryEntity creditEntry = creditEntryJpaRepository.findById(id).orElseThrow();
+                            return creditEntryJpaRepository.updateTotalCreditAmount(id,
+                                    creditEntry.getTotalCreditAmount().subtract(DEBIT),
+                                    creditEntry.getVersion()) == 1;
+                        });
+                    } while (!Boolean.TRUE.equals(updated));
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executorService.shutdown();
+
+        CreditEntryEntity creditEntry = transactionTemplate.execute(status ->
+                creditEntryJpaRepository.findById(id).orElseThrow());
+        int debits = THREADS * DEBITS_PER_THREAD;
+        assertEquals(0, initialCredit.subtract(DEBIT.multiply(BigDecimal.valueOf(debits)))
+                .compareTo(creditEntry.getTotalCreditAmount()));
+        assertEquals(debits, creditEntry.getVersion());
+    }
+
+    private CreditEntryEntity creditEntry(BigDecimal totalCreditAmount) {
+        return CreditEntryEntity.builder()
+                .id(UUID.randomUUID())
+                .customerId(UUID.randomUUID())
+                .totalCreditAmount(totalCreditAmount)
+                .build();
+    }
+}
@@ -0,0 +1,129 @@
+package com.food.ordering.system.payment.service.domain;
+
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.payment.service.domain.config.PaymentServiceConfigData;
+import com.food.ordering.system.payment.service.domain.entity.CreditEntry;
+import com.food.ordering.system.payment.service.domain.entity.CreditHistory;
+import com.food.ordering.system.payment.service.domain.entity.CreditLedger;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditEntryRepository;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditHistoryRepository;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditLedgerRepository;
+import com.food.ordering.system.payment.service.domain.valueobject.TransactionType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Offline check that every credit ledger still matches the full credit history and the credit entry of its
+ * customer. Payments only consult the ledger, so this is the only place the whole history is read.
+ */
+@Slf4j
+@Component
+public class CreditLedgerReconciliationJob {
+
+    private final CreditLedgerRepository creditLedgerRepository;
+    private final CreditHistoryRepository creditHistoryRepository;
+    private final CreditEntryRepository creditEntryRepository;
+    private final PaymentServiceConfigData paymentServiceConfigData;
+
+    public CreditLedgerReconciliationJob(CreditLedgerRepository creditLedgerRepository,
+                                         CreditHistoryRepository creditHistoryRepository,
+                                         CreditEntryRepository creditEntryRepository,
+                                         PaymentServiceConfigData paymentServiceConfigData) {
+        this.creditLedgerRepository = creditLedgerRepository;
+        this.creditHistoryRepository = creditHistoryRepository;
+        this.creditEntryRepository = creditEntryRepository;
+        this.paymentServiceConfigData = paymentServiceConfigData;
+    }
+
+    @Scheduled(cron = "${payment-service.credit-ledger-reconciliation-cron}")
+    public int reconcile() {
+        log.info("Starting credit ledger reconciliation");
+        int pageSize = paymentServiceConfigData.getCreditLedgerReconciliationPageSize();
+        int checked = 0;
+        int mismatched = 0;
+        CustomerId lastCustomerId = null;
+        List<CreditLedger> creditLedgers;
+        do {
+            creditLedgers = creditLedgerRepository.findPageAfter(lastCustomerId, pageSize);
+            if (!creditLedgers.isEmpty()) {
+                mismatched += reconcilePage(creditLedgers);
+                checked += creditLedgers.size();
+                lastCustomerId = creditLedgers.get(creditLedgers.size() - 1).getId();
+            }
+        } while (creditLedgers.size() == pageSize);
+        log.info("Credit ledger reconciliation finished, {} ledgers checked, {} mismatched", checked, mismatched);
+        return mismatched;
+    }
+
+    private int reconcilePage(List<CreditLedger> creditLedgers) {
+        List<CustomerId> customerIds = creditLedgers.stream().map(CreditLedger::getId).collect(Collectors.toList());
+        Map<CustomerId, List<CreditHistory>> creditHistories = creditHistoryRepository
+                .findByCustomerIdIn(customerIds).stream()
+                .collect(Collectors.groupingBy(CreditHistory::getCustomerId));
+        Map<CustomerId, CreditEntry> creditEntries = creditEntryRepository.findByCustomerIdIn(customerIds).stream()
+                .collect(Collectors.toMap(CreditEntry::getCustomerId, Function.identity()));
+
+        int mismatched = 0;
+        for (CreditLedger creditLedger : creditLedgers) {
+            List<CreditHistory> customerCreditHistories =
+                    creditHistories.getOrDefault(creditLedger.getId(), Collections.emptyList());
+            if (!isConsistent(creditLedger, customerCreditHistories, creditEntries.get(creditLedger.getId()))) {
+                mismatched++;
+            }
+        }
+        return mismatched;
+    }
+
+    private boolean isConsistent(CreditLedger creditLedger, List<CreditHistory> creditHistories,
+                                 CreditEntry creditEntry) {
+        Money totalCreditHistory = getTotalHistoryAmount(creditHistories, TransactionType.CREDIT);
+        Money totalDebitHistory = getTotalHistoryAmount(creditHistories, TransactionType.DEBIT);
+        long lastSequenceNumber = creditHistories.stream()
+                .mapToLong(CreditHistory::getSequenceNumber)
+                .max()
+                .orElse(0L);
+
+        boolean consistent = true;
+        if (!isSameAmount(totalCreditHistory, creditLedger.getTotalCreditAmount()) ||
+                !isSameAmount(totalDebitHistory, creditLedger.getTotalDebitAmount())) {
+            log.error("Credit ledger totals credit: {}, debit: {} do not match credit history totals credit: {}, " +
+                            "debit: {} for customer id: {}", creditLedger.getTotalCreditAmount().getAmount(),
+                    creditLedger.getTotalDebitAmount().getAmount(), totalCreditHistory.getAmount(),
+                    totalDebitHistory.getAmount(), creditLedger.getId().getValue());
+            consistent = false;
+        }
+        if (lastSequenceNumber != creditLedger.getSequenceNumber() ||
+                creditHistories.size() != creditLedger.getSequenceNumber()) {
+            log.error("Credit ledger sequence number: {} does not match {} credit history rows up to sequence " +
+                            "number: {} for customer id: {}", creditLedger.getSequenceNumber(),
+                    creditHistories.size(), lastSequenceNumber, creditLedger.getId().getValue());
+            consistent = false;
+        }
+        if (creditEntry == null ||
+                !isSameAmount(creditEntry.getTotalCreditAmount(), totalCreditHistory.substract(totalDebitHistory))) {
+            log.error("Credit entry does not match credit history balance for customer id: {}",
+                    creditLedger.getId().getValue());
+            consistent = false;
+        }
+        return consistent;
+    }
+
+    private boolean isSameAmount(Money first, Money second) {
+        return first.getAmount().compareTo(second.getAmount()) == 0;
+    }
+
+    private Money getTotalHistoryAmount(List<CreditHistory> creditHistories, TransactionType transactionType) {
+        return creditHistories.stream()
+                .filter(creditHistory -> transactionType == creditHistory.getTransactionType())
+                .map(CreditHistory::getAmount)
+                .reduce(Money.ZERO, Money::add);
+    }
+}
@@ -0,0 +1,188 @@
+package com.food.ordering.system.payment.service.domain;
+
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.PaymentOrderStatus;
+import com.food.ordering.system.payment.service.domain.dto.PaymentRequest;
+import com.food.ordering.system.payment.service.domain.dto.PaymentRequestResult;
+import com.food.ordering.system.payment.service.domain.entity.CreditEntry;
+import com.food.ordering.system.payment.service.domain.entity.CreditHistory;
+import com.food.ordering.system.payment.service.domain.entity.CreditLedger;
+import com.food.ordering.system.payment.service.domain.entity.Payment;
+import com.food.ordering.system.payment.service.domain.event.PaymentEvent;
+import com.food.ordering.system.payment.service.domain.exception.PaymentApplicationServiceException;
+import com.food.ordering.system.payment.service.domain.mapper.PaymentDataMapper;
+import com.food.ordering.system.payment.service.domain.ports.output.message.publisher.PaymentCancelledMessagePublisher;
+import com.food.ordering.system.payment.service.domain.ports.output.message.publisher.PaymentCompletedMessagePublisher;
+import com.food.ordering.system.payment.service.domain.ports.output.message.publisher.PaymentFailedMessagePublisher;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditEntryRepository;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditHistoryRepository;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditLedgerRepository;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.PaymentRepository;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.ProcessedMessageRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+public class PaymentRequestBatchHelper {
+
+    private final PaymentDomainService paymentDomainService;
+    private final PaymentRepository paymentRepository;
+    private final ProcessedMessageRepository processedMessageRepository;
+    private final PaymentDataMapper paymentDataMapper;
+    private final CreditEntryRepository creditEntryRepository;
+    private final CreditHistoryRepository creditHistoryRepository;
+    private final CreditLedgerRepository creditLedgerRepository;
+    private final PaymentCompletedMessagePublisher paymentCompletedEventDomainEventPublisher;
+    private final PaymentCancelledMessagePublisher paymentCancelledEventDomainEventPublisher;
+    private final PaymentFailedMessagePublisher paymentFailedEventDomainEventPublisher;
+
+    public PaymentRequestBatchHelper(PaymentDomainService paymentDomainService,
+                                     PaymentRepository paymentRepository,
+                                     ProcessedMessageRepository processedMessageRepository,
+                                     PaymentDataMapper paymentDataMapper,
+                                     CreditEntryRepository creditEntryRepository,
+                                     CreditHistoryRepository creditHistoryRepository,
+                                     CreditLedgerRepository creditLedgerRepository,
+                                     PaymentCompletedMessagePublisher paymentCompletedEventDomainEventPublisher,
+                                     PaymentCancelledMessagePublisher paymentCancelledEventDomainEventPublisher,
+                                     PaymentFailedMessagePublisher paymentFailedEventDomainEventPublisher) {
+        this.paymentDomainService = paymentDomainService;
+        this.paymentRepository = paymentRepository;
+        this.processedMessageRepository = processedMessageRepository;
+        this.paymentDataMapper = paymentDataMapper;
+        this.creditEntryRepository = creditEntryRepository;
+        this.creditHistoryRepository = creditHistoryRepository;
+        this.creditLedgerRepository = creditLedgerRepository;
+        this.paymentCompletedEventDomainEventPublisher = paymentCompletedEventDomainEventPublisher;
+        this.paymentCancelledEventDomainEventPublisher = paymentCancelledEventDomainEventPublisher;
+        this.paymentFailedEventDomainEventPublisher = paymentFailedEventDomainEventPublisher;
+    }
+
+    /**
+     * Applies a whole poll of payment requests in one transaction. Credit entries, credit ledgers and the
+     * payments to cancel are loaded once for the batch, requests are applied in poll order so payments of
+     * the same customer see each other's effect, and all writes are flushed together at commit. The id of every
+     * request that could be processed is recorded, a redelivered one fails the batch on the primary key. A request
+     * that could not be processed is not recorded, so it can be retried.
+     */
+    @Transactional
+    public List<PaymentRequestResult> persistPayments(List<PaymentRequest> paymentRequests) {
+        log.info("Received batch of {} payment requests", paymentRequests.size());
+
+        Set<CustomerId> customerIds = paymentRequests.stream()
+                .map(paymentRequest -> new CustomerId(UUID.fromString(paymentRequest.getCustomerId())))
+                .collect(Collectors.toSet());
+        Map<CustomerId, CreditEntry> creditEntries = creditEntryRepository.findByCustomerIdIn(customerIds).stream()
+                .collect(Collectors.toMap(CreditEntry::getCustomerId, Function.identity()));
+        Map<CustomerId, CreditLedger> creditLedgers = creditLedgerRepository.findByCustomerIdIn(customerIds).stream()
+                .collect(Collectors.toMap(CreditLedger::getId, Function.identity()));
+
+        List<UUID> cancelledOrderIds = paymentRequests.stream()
+                .filter(paymentRequest -> PaymentOrderStatus.CANCELLED == paymentRequest.getPaymentOrderStatus())
+                .map(paymentRequest -> UUID.fromString(paymentRequest.getOrderId()))
+                .collect(Collectors.toList());
+        Map<UUID, Payment> payments = cancelledOrderIds.isEmpty() ? new HashMap<>() :
+                paymentRepository.findByOrderIdIn(cancelledOrderIds).stream()
+                        .collect(Collectors.toMap(payment -> payment.getOrderId().getValue(), Function.identity(),
+                                (first, second) -> first, HashMap::new));
+
+        List<Payment> newPayments = new ArrayList<>();
+        Set<Payment> updatedPayments = new LinkedHashSet<>();
+        Set<CreditEntry> updatedCreditEntries = new LinkedHashSet<>();
+        Set<CreditLedger> updatedCreditLedgers = new LinkedHashSet<>();
+        List<CreditHistory> newCreditHistories = new ArrayList<>();
+        List<PaymentRequestResult> results = new ArrayList<>(paymentRequests.size());
+
+        for (PaymentRequest paymentRequest : paymentRequests) {
+            try {
+                Payment payment;
+                boolean isNewPayment = PaymentOrderStatus.CANCELLED != paymentRequest.getPaymentOrderStatus();
+                if (isNewPayment) {
+                    payment = paymentDataMapper.paymentRequestModelToPayment(paymentRequest);
+                } else {
+                    payment = payments.get(UUID.fromString(paymentRequest.getOrderId()));
+                    if (payment == null) {
+                        log.error("Payment with order id: {} could not be found!", paymentRequest.getOrderId());
+                        throw new PaymentApplicationServiceException("Payment with order id: " +
+                                paymentRequest.getOrderId() + " could not be found");
+                    }
+                }
+                CreditEntry creditEntry = getCreditEntry(creditEntries, payment.getCustomerId());
+                CreditLedger creditLedger = getCreditLedger(creditLedgers, payment.getCustomerId());
+
+                Money creditAmountBefore = creditEntry.getTotalCreditAmount();
+                List<CreditHistory> creditHistories = new ArrayList<>();
+                List<String> failureMessages = new ArrayList<>();
+                PaymentEvent paymentEvent = isNewPayment ?
+                        paymentDomainService.validateAndInitiatePayment(payment, creditEntry, creditLedger,
+                                creditHistories, failureMessages,
+                                paymentCompletedEventDomainEventPublisher, paymentFailedEventDomainEventPublisher) :
+                        paymentDomainService.validateAndCancelPayment(payment, creditEntry, creditLedger,
+                                creditHistories, failureMessages,
+                                paymentCancelledEventDomainEventPublisher, paymentFailedEventDomainEventPublisher);
+
+                if (failureMessages.isEmpty()) {
+                    updatedCreditEntries.add(creditEntry);
+                    updatedCreditLedgers.add(creditLedger);
+                    newCreditHistories.addAll(creditHistories);
+                } else {
+                    // The single message path never persists a failed attempt, undo it before the next request
+                    creditEntry.addCreditAmount(creditAmountBefore.substract(creditEntry.getTotalCreditAmount()));
+                }
+                if (isNewPayment) {
+                    newPayments.add(payment);
+                    payments.put(payment.getOrderId().getValue(), payment);
+                } else if (!newPayments.contains(payment)) {
+                    updatedPayments.add(payment);
+                }
+                results.add(PaymentRequestResult.builder()
+                        .paymentRequest(paymentRequest)
+                        .paymentEvent(paymentEvent)
+                        .build());
+            } catch (PaymentApplicationServiceException e) {
+                results.add(PaymentRequestResult.builder()
+                        .paymentRequest(paymentRequest)
+                        .errorMessage(e.getMessage())
+                        .build());
+            }
+        }
+
+        paymentRepository.insertAll(newPayments);
+        paymentRepository.saveAll(new ArrayList<>(updatedPayments));
+        creditEntryRepository.saveAll(new ArrayList<>(updatedCreditEntries));
+        creditLedgerRepository.saveAll(new ArrayList<>(updatedCreditLedgers));
+        creditHistoryRepository.insertAll(newCreditHistories);
+        processedMessageRepository.insertAll(results.stream()
+                .filter(PaymentRequestResult::isProcessed)
+                .map(result -> UUID.fromString(result.getPaymentRequest().getId()))
+                .collect(Collectors.toList()));
+        return results;
+    }
+
+    private CreditEntry getCreditEntry(Map<CustomerId, CreditEntry> creditEntries, CustomerId customerId) {
+        CreditEntry creditEntry = creditEntries.get(customerId);
+        if (creditEntry == null) {
+            log.error("Could not find credit entry for customer: {}", customerId.getValue());
+            throw new PaymentApplicationServiceException("Could not find credit entry for customer: " +
+                    customerId.getValue());
+        }
+        return creditEntry;
+    }
+
+    private CreditLedger getCreditLedger(Map<CustomerId, CreditLedger> creditLedgers, CustomerId customerId) {
+        CreditLedger creditLedger = creditLedgers.get(customerId);
+        if (creditLedger == null) {
+            log.error("Could not find credit ledger for customer: {}", customerId.getValue());
+            throw new PaymentApplicationServiceException("Could not find credit ledger for customer: " +
+                    customerId.getValue());
+        }
+        return creditLedger;
+    }
+}
@@ -1,11 +1,14 @@
 package com.food.ordering.system.payment.service.domain;
 
 import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.payment.service.domain.config.PaymentServiceConfigData;
 import com.food.ordering.system.payment.service.domain.dto.PaymentRequest;
 import com.food.ordering.system.payment.service.domain.entity.CreditEntry;
 import com.food.ordering.system.payment.service.domain.entity.CreditHistory;
+import com.food.ordering.system.payment.service.domain.entity.CreditLedger;
 import com.food.ordering.system.payment.service.domain.entity.Payment;
 import com.food.ordering.system.payment.service.domain.event.PaymentEvent;
+import com.food.ordering.system.payment.service.domain.exception.CreditEntryConcurrentUpdateException;
 import com.food.ordering.system.payment.service.domain.exception.PaymentApplicationServiceException;
 import com.food.ordering.system.payment.service.domain.mapper.PaymentDataMapper;
 import com.food.ordering.system.payment.service.domain.ports.output.message.publisher.PaymentCancelledMessagePublisher;
@@ -13,15 +16,21 @@ import com.food.ordering.system.payment.service.domain.ports.output.message.publ
 import com.food.ordering.system.payment.service.domain.ports.output.message.publisher.PaymentFailedMessagePublisher;
 import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditEntryRepository;
 import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditHistoryRepository;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditLedgerRepository;
 import com.food.ordering.system.payment.service.domain.ports.output.repository.PaymentRepository;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.ProcessedMessageRepository;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
 
 @Slf4j
 @Component
@@ -29,50 +38,107 @@ public class PaymentRequestHelper {
 
     private final PaymentDomainService paymentDomainService;
     private final PaymentRepository paymentRepository;
+    private final ProcessedMessageRepository processedMessageRepository;
     private final PaymentDataMapper paymentDataMapper;
     private final CreditEntryRepository creditEntryRepository;
     private final CreditHistoryRepository creditHistoryRepository;
+    private final CreditLedgerRepository creditLedgerRepository;
     private final PaymentCompletedMessagePublisher paymentCompletedEventDomainEventPublisher;
     private final PaymentCancelledMessagePublisher paymentCancelledEventDomainEventPublisher;
     private final PaymentFailedMessagePublisher paymentFailedEventDomainEventPublisher;
+    private final PaymentServiceConfigData paymentServiceConfigData;
+    private final TransactionTemplate transactionTemplate;
 
     public PaymentRequestHelper(PaymentDomainService paymentDomainService,
                                 PaymentRepository paymentRepository,
+                                ProcessedMessageRepository processedMessageRepository,
                                 PaymentDataMapper paymentDataMapper,
                                 CreditEntryRepository creditEntryRepository,
                                 CreditHistoryRepository creditHistoryRepository,
+                                CreditLedgerRepository creditLedgerRepository,
                                 PaymentCompletedMessagePublisher paymentCompletedEventDomainEventPublisher,
                                 PaymentCancelledMessagePublisher paymentCancelledEventDomainEventPublisher,
-                                PaymentFailedMessagePublisher paymentFailedEventDomainEventPublisher) {
+                                PaymentFailedMessagePublisher paymentFailedEventDomainEventPublisher,
+                                PaymentServiceConfigData paymentServiceConfigData,
+                                PlatformTransactionManager transactionManager) {
         this.paymentDomainService = paymentDomainService;
         this.paymentRepository = paymentRepository;
+        this.processedMessageRepository = processedMessageRepository;
         this.paymentDataMapper = paymentDataMapper;
         this.creditEntryRepository = creditEntryRepository;
         this.creditHistoryRepository = creditHistoryRepository;
+        this.creditLedgerRepository = creditLedgerRepository;
         this.paymentCompletedEventDomainEventPublisher = paymentCompletedEventDomainEventPublisher;
         this.paymentCancelledEventDomainEventPublisher = paymentCancelledEventDomainEventPublisher;
         this.paymentFailedEventDomainEventPublisher = paymentFailedEventDomainEventPublisher;
+        this.paymentServiceConfigData = paymentServiceConfigData;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
-    @Transactional
     public PaymentEvent persistPayment(PaymentRequest paymentRequest) {
-        log.info("Received payment complete event for order id: {}", paymentRequest.getOrderId());
+        log.debug("Received payment complete event for order id: {}", paymentRequest.getOrderId());
+        return executeWithRetry(paymentRequest, () -> initiatePayment(paymentRequest));
+    }
+
+    public PaymentEvent persistCancelPayment(PaymentRequest paymentRequest) {
+        log.debug("Received payment rollback event for order id: {}", paymentRequest.getOrderId());
+        return executeWithRetry(paymentRequest, () -> cancelPayment(paymentRequest));
+    }
+
+    /**
+     * Runs each attempt in its own transaction. A concurrent change of the customer's credit entry rolls the
+     * attempt back, and it is retried from a fresh read with exponential backoff and jitter. The request id is
+     * recorded as processed in the same transaction, so a redelivered request can not be applied twice.
+     */
+    private PaymentEvent executeWithRetry(PaymentRequest paymentRequest, Supplier<PaymentEvent> attempt) {
+        int maxAttempts = paymentServiceConfigData.getCreditEntryUpdateMaxAttempts();
+        long backoffMs = paymentServiceConfigData.getCreditEntryUpdateInitialBackoffMs();
+        for (int attemptNumber = 1; ; attemptNumber++) {
+            try {
+                return transactionTemplate.execute(status -> {
+                    PaymentEvent paymentEvent = attempt.get();
+                    processedMessageRepository.insert(UUID.fromString(paymentRequest.getId()));
+                    return paymentEvent;
+                });
+            } catch (CreditEntryConcurrentUpdateException | ConcurrencyFailureException e) {
+                if (attemptNumber >= maxAttempts) {
+                    log.error("Credit entry update for order id: {} failed after {} attempts",
+                            paymentRequest.getOrderId(), attemptNumber);
+                    throw new PaymentApplicationServiceException("Credit entry update for order id: " +
+                            paymentRequest.getOrderId() + " failed after " + attemptNumber + " attempts", e);
+                }
+                log.info("Credit entry changed concurrently for order id: {}, retrying attempt {} of {}",
+                        paymentRequest.getOrderId(), attemptNumber + 1, maxAttempts);
+                backOff(backoffMs);
+                backoffMs = Math.min(backoffMs * 2, paymentServiceConfigData.getCreditEntryUpdateMaxBackoffMs());
+            }
+        }
+    }
 
+    private void backOff(long backoffMs) {
+        try {
+            Thread.sleep(backoffMs / 2 + ThreadLocalRandom.current().nextLong(backoffMs / 2 + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PaymentApplicationServiceException("Interrupted while waiting to retry credit entry update", e);
+        }
+    }
+
+    private PaymentEvent initiatePayment(PaymentRequest paymentRequest) {
         Payment payment = paymentDataMapper.paymentRequestModelToPayment(paymentRequest);
         CreditEntry creditEntry = getCreditEntry(payment.getCustomerId());
-        List<CreditHistory> creditHistories = getCreditHistories(payment.getCustomerId());
+        CreditLedger creditLedger = getCreditLedger(payment.getCustomerId());
+        List<CreditHistory> creditHistories = new ArrayList<>();
         List<String> failureMessages = new ArrayList<>();
         PaymentEvent paymentEvent =
-                paymentDomainService.validateAndInitiatePayment(payment, creditEntry, creditHistories, failureMessages,
+                paymentDomainService.validateAndInitiatePayment(payment, creditEntry, creditLedger, creditHistories,
+                        failureMessages,
                         paymentCompletedEventDomainEventPublisher, paymentFailedEventDomainEventPublisher);
-        persistDbObjects(payment, creditEntry, creditHistories, failureMessages);
+        persistDbObjects(payment, creditEntry, creditLedger, creditHistories, failureMessages);
         return paymentEvent;
     }
 
-    @Transactional
-    public PaymentEvent persistCancelPayment(PaymentRequest paymentRequest) {
-        log.info("Received payment rollback event for order id: {}", paymentRequest.getOrderId());
-
+    private PaymentEvent cancelPayment(PaymentRequest paymentRequest) {
         Optional<Payment> paymentOptional = paymentRepository
                 .findByOrderId(UUID.fromString(paymentRequest.getOrderId()));
 
@@ -84,24 +150,26 @@ public class PaymentRequestHelper {
 
         Payment payment = paymentOptional.get();
         CreditEntry creditEntry = getCreditEntry(payment.getCustomerId());
-        List<CreditHistory> creditHistories = getCreditHistories(payment.getCustomerId());
+        CreditLedger creditLedger = getCreditLedger(payment.getCustomerId());
+        List<CreditHistory> creditHistories = new ArrayList<>();
         List<String> failureMessages = new ArrayList<>();
 
         PaymentEvent paymentEvent =
-                paymentDomainService.validateAndCancelPayment(payment, creditEntry, creditHistories, failureMessages,
+                paymentDomainService.validateAndCancelPayment(payment, creditEntry, creditLedger, creditHistories,
+                        failureMessages,
                         paymentCancelledEventDomainEventPublisher, paymentFailedEventDomainEventPublisher);
-        persistDbObjects(payment, creditEntry, creditHistories, failureMessages);
+        persistDbObjects(payment, creditEntry, creditLedger, creditHistories, failureMessages);
         return paymentEvent;
     }
 
-    private List<CreditHistory> getCreditHistories(CustomerId customerId) {
-        Optional<List<CreditHistory>> optionalCreditHistories = creditHistoryRepository.findByCustomerId(customerId);
-        if (optionalCreditHistories.isEmpty()) {
-            log.error("Could not find credit history for customer: {}", customerId.getValue());
-            throw new PaymentApplicationServiceException("Could not find credit history for customer: " +
+    private CreditLedger getCreditLedger(CustomerId customerId) {
+        Optional<CreditLedger> creditLedgerOptional = creditLedgerRepository.findByCustomerId(customerId);
+        if (creditLedgerOptional.isEmpty()) {
+            log.error("Could not find credit ledger for customer: {}", customerId.getValue());
+            throw new PaymentApplicationServiceException("Could not find credit ledger for customer: " +
                     customerId.getValue());
         }
-        return optionalCreditHistories.get();
+        return creditLedgerOptional.get();
     }
 
     private CreditEntry getCreditEntry(CustomerId customerId) {
@@ -116,12 +184,17 @@ public class PaymentRequestHelper {
 
     private void persistDbObjects(Payment payment,
                                   CreditEntry creditEntry,
+                                  CreditLedger creditLedger,
                                   List<CreditHistory> creditHistories,
                                   List<String> failureMessages) {
-        paymentRepository.save(payment);
         if (failureMessages.isEmpty()) {
-            creditEntryRepository.save(creditEntry);
-            creditHistoryRepository.save(creditHistories.get(creditHistories.size()-1));
+            if (!creditEntryRepository.updateTotalCreditAmount(creditEntry)) {
+                throw new CreditEntryConcurrentUpdateException("Credit entry of customer: " +
+                        creditEntry.getCustomerId().getValue() + " was changed by a concurrent payment");
+            }
+            creditLedgerRepository.save(creditLedger);
+            creditHistoryRepository.insertAll(creditHistories);
         }
+        paymentRepository.save(payment);
     }
 }
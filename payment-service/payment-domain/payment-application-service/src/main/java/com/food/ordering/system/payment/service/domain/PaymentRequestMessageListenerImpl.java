@@ -1,34 +1,50 @@
 package com.food.ordering.system.payment.service.domain;
 
+import com.food.ordering.system.domain.valueobject.PaymentOrderStatus;
 import com.food.ordering.system.payment.service.domain.dto.PaymentRequest;
+import com.food.ordering.system.payment.service.domain.dto.PaymentRequestResult;
 import com.food.ordering.system.payment.service.domain.event.PaymentCancelledEvent;
 import com.food.ordering.system.payment.service.domain.event.PaymentCompletedEvent;
 import com.food.ordering.system.payment.service.domain.event.PaymentEvent;
 import com.food.ordering.system.payment.service.domain.event.PaymentFailedEvent;
+import com.food.ordering.system.payment.service.domain.exception.PaymentRequestFailedException;
 import com.food.ordering.system.payment.service.domain.ports.input.message.listener.PaymentRequestMessageListener;
 import com.food.ordering.system.payment.service.domain.ports.output.message.publisher.PaymentCancelledMessagePublisher;
 import com.food.ordering.system.payment.service.domain.ports.output.message.publisher.PaymentCompletedMessagePublisher;
 import com.food.ordering.system.payment.service.domain.ports.output.message.publisher.PaymentFailedMessagePublisher;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.ProcessedMessageRepository;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
 @Slf4j
 @Service
 public class PaymentRequestMessageListenerImpl implements PaymentRequestMessageListener {
 
     private final PaymentRequestHelper paymentRequestHelper;
+    private final PaymentRequestBatchHelper paymentRequestBatchHelper;
     private final PaymentCompletedMessagePublisher paymentCompletedMessagePublisher;
     private final PaymentCancelledMessagePublisher paymentCancelledMessagePublisher;
     private final PaymentFailedMessagePublisher paymentFailedMessagePublisher;
+    private final ProcessedMessageRepository processedMessageRepository;
 
     public PaymentRequestMessageListenerImpl(PaymentRequestHelper paymentRequestHelper,
+                                             PaymentRequestBatchHelper paymentRequestBatchHelper,
                                              PaymentCompletedMessagePublisher paymentCompletedMessagePublisher,
                                              PaymentCancelledMessagePublisher paymentCancelledMessagePublisher,
-                                             PaymentFailedMessagePublisher paymentFailedMessagePublisher) {
+                                             PaymentFailedMessagePublisher paymentFailedMessagePublisher,
+                                             ProcessedMessageRepository processedMessageRepository) {
         this.paymentRequestHelper = paymentRequestHelper;
+        this.paymentRequestBatchHelper = paymentRequestBatchHelper;
         this.paymentCompletedMessagePublisher = paymentCompletedMessagePublisher;
         this.paymentCancelledMessagePublisher = paymentCancelledMessagePublisher;
         this.paymentFailedMessagePublisher = paymentFailedMessagePublisher;
+        this.processedMessageRepository = processedMessageRepository;
     }
 
     @Override
@@ -44,8 +60,75 @@ public class PaymentRequestMessageListenerImpl implements PaymentRequestMessageL
         fireEvent(paymentEvent);
     }
 
+    /**
+     * Requests that could not be processed are not swallowed: the first one is reported with a
+     * PaymentRequestFailedException after the events of the processed ones are fired, so it can be retried.
+     */
+    @Override
+    public void processPayments(List<PaymentRequest> paymentRequests) {
+        List<PaymentRequestResult> results;
+        try {
+            results = paymentRequestBatchHelper.persistPayments(paymentRequests);
+        } catch (RuntimeException e) {
+            log.error("Batch of {} payment requests could not be persisted, falling back to one by one processing",
+                    paymentRequests.size(), e);
+            processOneByOne(paymentRequests);
+            return;
+        }
+        List<String> processedRequestIds = new ArrayList<>(results.size());
+        PaymentRequestResult failedResult = null;
+        for (PaymentRequestResult result : results) {
+            if (result.isProcessed()) {
+                fireEvent(result.getPaymentEvent());
+                processedRequestIds.add(result.getPaymentRequest().getId());
+            } else {
+                log.error("Payment request for order id: {} could not be processed: {}",
+                        result.getPaymentRequest().getOrderId(), result.getErrorMessage());
+                if (failedResult == null) {
+                    failedResult = result;
+                }
+            }
+        }
+        if (failedResult != null) {
+            throw new PaymentRequestFailedException(failedResult.getPaymentRequest(), processedRequestIds,
+                    "Payment request for order id: " + failedResult.getPaymentRequest().getOrderId() +
+                            " could not be processed: " + failedResult.getErrorMessage(), null);
+        }
+    }
+
+    private void processOneByOne(List<PaymentRequest> paymentRequests) {
+        List<String> processedRequestIds = new ArrayList<>(paymentRequests.size());
+        for (PaymentRequest paymentRequest : paymentRequests) {
+            try {
+                processPayment(paymentRequest);
+            } catch (RuntimeException e) {
+                throw new PaymentRequestFailedException(paymentRequest, processedRequestIds,
+                        "Payment request for order id: " + paymentRequest.getOrderId() + " could not be processed",
+                        e);
+            }
+            processedRequestIds.add(paymentRequest.getId());
+        }
+    }
+
+    private void processPayment(PaymentRequest paymentRequest) {
+        try {
+            if (PaymentOrderStatus.CANCELLED == paymentRequest.getPaymentOrderStatus()) {
+                cancelPayment(paymentRequest);
+            } else {
+                completePayment(paymentRequest);
+            }
+        } catch (DataIntegrityViolationException e) {
+            if (processedMessageRepository.findProcessedMessageIds(
+                    Collections.singletonList(UUID.fromString(paymentRequest.getId()))).isEmpty()) {
+                throw e;
+            }
+            log.info("Payment request with id: {} was processed by an earlier delivery, skipping it",
+                    paymentRequest.getId());
+        }
+    }
+
     private void fireEvent(PaymentEvent paymentEvent) {
-        log.info("Publishing payment event with payment id: {} and order id: {}",
+        log.debug("Publishing payment event with payment id: {} and order id: {}",
                 paymentEvent.getPayment().getId().getValue(),
                 paymentEvent.getPayment().getOrderId().getValue());
         paymentEvent.fire();
@@ -0,0 +1,43 @@
+package com.food.ordering.system.payment.service.domain;
+
+import com.food.ordering.system.payment.service.domain.config.PaymentServiceConfigData;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.ProcessedMessageRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import static com.food.ordering.system.domain.DomainConstants.UTC;
+
+/**
+ * Deletes processed message ids once they are older than any redelivery can be: the retention has to stay well
+ * beyond the retry topic delays and the time an outbox keeps resending a message.
+ */
+@Slf4j
+@Component
+public class ProcessedMessageCleanerScheduler {
+
+    private final ProcessedMessageRepository processedMessageRepository;
+    private final PaymentServiceConfigData paymentServiceConfigData;
+
+    public ProcessedMessageCleanerScheduler(ProcessedMessageRepository processedMessageRepository,
+                                            PaymentServiceConfigData paymentServiceConfigData) {
+        this.processedMessageRepository = processedMessageRepository;
+        this.paymentServiceConfigData = paymentServiceConfigData;
+    }
+
+    @Transactional
+    @Scheduled(fixedDelayString = "${payment-service.processed-message-cleaner-fixed-rate}",
+            initialDelayString = "${payment-service.processed-message-cleaner-fixed-rate}")
+    public void deleteExpiredProcessedMessages() {
+        ZonedDateTime processedBefore = ZonedDateTime.now(ZoneId.of(UTC))
+                .minusMinutes(paymentServiceConfigData.getProcessedMessageRetentionMinutes());
+        int deleted = processedMessageRepository.deleteByProcessedAtBefore(processedBefore);
+        if (deleted > 0) {
+            log.info("{} expired processed message ids deleted", deleted);
+        }
+    }
+}
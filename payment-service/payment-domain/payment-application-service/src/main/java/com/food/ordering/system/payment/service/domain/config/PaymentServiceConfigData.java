@@ -10,4 +10,12 @@ import org.springframework.context.annotation.Configuration;
 public class PaymentServiceConfigData {
     private String paymentRequestTopicName;
     private String paymentResponseTopicName;
+    private Boolean paymentRequestBatchEnabled;
+    private String creditLedgerReconciliationCron;
+    private Integer creditLedgerReconciliationPageSize;
+    private Integer creditEntryUpdateMaxAttempts;
+    private Long creditEntryUpdateInitialBackoffMs;
+    private Long creditEntryUpdateMaxBackoffMs;
+    private Long processedMessageRetentionMinutes;
+    private Long processedMessageCleanerFixedRate;
 }
@@ -0,0 +1,19 @@
+package com.food.ordering.system.payment.service.domain.dto;
+
+import com.food.ordering.system.payment.service.domain.event.PaymentEvent;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class PaymentRequestResult {
+    private final PaymentRequest paymentRequest;
+    private final PaymentEvent paymentEvent;
+    private final String errorMessage;
+
+    public boolean isProcessed() {
+        return paymentEvent != null;
+    }
+}
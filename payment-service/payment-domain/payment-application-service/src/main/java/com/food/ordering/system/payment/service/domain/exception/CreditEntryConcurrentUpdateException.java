@@ -0,0 +1,7 @@
+package com.food.ordering.system.payment.service.domain.exception;
+
+public class CreditEntryConcurrentUpdateException extends PaymentApplicationServiceException {
+    public CreditEntryConcurrentUpdateException(String message) {
+        super(message);
+    }
+}
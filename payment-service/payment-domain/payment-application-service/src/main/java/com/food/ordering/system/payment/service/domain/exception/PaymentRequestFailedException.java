@@ -0,0 +1,32 @@
+package com.food.ordering.system.payment.service.domain.exception;
+
+import com.food.ordering.system.payment.service.domain.dto.PaymentRequest;
+
+import java.util.List;
+
+/**
+ * Thrown when a request of a batch could not be processed. Carries the first failed request, so the message can be
+ * retried, and the ids of the requests of the batch that were processed and must not be retried.
+ */
+public class PaymentRequestFailedException extends PaymentApplicationServiceException {
+
+    private final PaymentRequest paymentRequest;
+    private final List<String> processedRequestIds;
+
+    public PaymentRequestFailedException(PaymentRequest paymentRequest,
+                                         List<String> processedRequestIds,
+                                         String message,
+                                         Throwable cause) {
+        super(message, cause);
+        this.paymentRequest = paymentRequest;
+        this.processedRequestIds = processedRequestIds;
+    }
+
+    public PaymentRequest getPaymentRequest() {
+        return paymentRequest;
+    }
+
+    public List<String> getProcessedRequestIds() {
+        return processedRequestIds;
+    }
+}
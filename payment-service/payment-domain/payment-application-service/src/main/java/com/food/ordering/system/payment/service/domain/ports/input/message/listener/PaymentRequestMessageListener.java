@@ -2,7 +2,10 @@ package com.food.ordering.system.payment.service.domain.ports.input.message.list
 
 import com.food.ordering.system.payment.service.domain.dto.PaymentRequest;
 
+import java.util.List;
+
 public interface PaymentRequestMessageListener {
     void completePayment(PaymentRequest paymentRequest);
     void cancelPayment(PaymentRequest paymentRequest);
+    void processPayments(List<PaymentRequest> paymentRequests);
 }
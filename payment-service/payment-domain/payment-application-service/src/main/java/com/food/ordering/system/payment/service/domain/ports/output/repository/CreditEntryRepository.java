@@ -3,9 +3,14 @@ package com.food.ordering.system.payment.service.domain.ports.output.repository;
 import com.food.ordering.system.domain.valueobject.CustomerId;
 import com.food.ordering.system.payment.service.domain.entity.CreditEntry;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface CreditEntryRepository {
     CreditEntry save(CreditEntry creditEntry);
+    void saveAll(List<CreditEntry> creditEntries);
+    boolean updateTotalCreditAmount(CreditEntry creditEntry);
     Optional<CreditEntry> findByCustomerId(CustomerId customerId);
+    List<CreditEntry> findByCustomerIdIn(Collection<CustomerId> customerIds);
 }
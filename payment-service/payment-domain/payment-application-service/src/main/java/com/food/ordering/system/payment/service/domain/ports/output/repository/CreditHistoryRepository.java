@@ -3,10 +3,13 @@ package com.food.ordering.system.payment.service.domain.ports.output.repository;
 import com.food.ordering.system.domain.valueobject.CustomerId;
 import com.food.ordering.system.payment.service.domain.entity.CreditHistory;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface CreditHistoryRepository {
     CreditHistory save(CreditHistory creditHistory);
+    void insertAll(List<CreditHistory> creditHistories);
     Optional<List<CreditHistory>> findByCustomerId(CustomerId customerId);
+    List<CreditHistory> findByCustomerIdIn(Collection<CustomerId> customerIds);
 }
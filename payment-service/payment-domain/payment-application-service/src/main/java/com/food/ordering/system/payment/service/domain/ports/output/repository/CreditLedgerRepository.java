@@ -0,0 +1,16 @@
+package com.food.ordering.system.payment.service.domain.ports.output.repository;
+
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.payment.service.domain.entity.CreditLedger;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface CreditLedgerRepository {
+    CreditLedger save(CreditLedger creditLedger);
+    void saveAll(List<CreditLedger> creditLedgers);
+    Optional<CreditLedger> findByCustomerId(CustomerId customerId);
+    List<CreditLedger> findByCustomerIdIn(Collection<CustomerId> customerIds);
+    List<CreditLedger> findPageAfter(CustomerId lastCustomerId, int pageSize);
+}
@@ -2,10 +2,15 @@ package com.food.ordering.system.payment.service.domain.ports.output.repository;
 
 import com.food.ordering.system.payment.service.domain.entity.Payment;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface PaymentRepository {
     Payment save(Payment payment);
+    void insertAll(List<Payment> payments);
+    void saveAll(List<Payment> payments);
     Optional<Payment> findByOrderId(UUID orderId);
+    List<Payment> findByOrderIdIn(Collection<UUID> orderIds);
 }
@@ -0,0 +1,14 @@
+package com.food.ordering.system.payment.service.domain.ports.output.repository;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+public interface ProcessedMessageRepository {
+    void insert(UUID messageId);
+    void insertAll(List<UUID> messageIds);
+    Set<UUID> findProcessedMessageIds(Collection<UUID> messageIds);
+    int deleteByProcessedAtBefore(ZonedDateTime processedAt);
+}
@@ -0,0 +1,316 @@
+package com.food.ordering.system.payment.service.domain;
+
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.payment.service.domain.entity.CreditEntry;
+import com.food.ordering.system.payment.service.domain.entity.CreditHistory;
+import com.food.ordering.system.payment.service.domain.entity.CreditLedger;
+import com.food.ordering.system.payment.service.domain.entity.Payment;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditEntryRepository;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditHistoryRepository;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditLedgerRepository;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.PaymentRepository;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.ProcessedMessageRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static com.food.ordering.system.domain.DomainConstants.UTC;
+
+/**
+ * Payment tables kept in memory for the retry loop of PaymentRequestHelper. Writes become visible together on
+ * commit, a commit fails with a concurrency failure if the credit entry changed since it was read, and a processed
+ * message id can only be inserted once. The versioned update itself is tested against a database in
+ * payment-dataaccess.
+ */
+public class InMemoryPaymentDatabase extends AbstractPlatformTransactionManager {
+
+    private final Object lock = new Object();
+    private final Map<CustomerId, CreditEntry> creditEntries = new HashMap<>();
+    private final Map<CustomerId, CreditLedger> creditLedgers = new HashMap<>();
+    private final List<CreditHistory> creditHistories = new ArrayList<>();
+    private final Map<UUID, Payment> payments = new HashMap<>();
+    private final Map<UUID, ZonedDateTime> processedMessages = new HashMap<>();
+    private final ThreadLocal<Transaction> currentTransaction = new ThreadLocal<>();
+
+    private static class Transaction {
+        private final Map<CustomerId, CreditEntry> creditEntryUpdates = new HashMap<>();
+        private final Map<CustomerId, CreditLedger> creditLedgerUpdates = new HashMap<>();
+        private final List<CreditHistory> newCreditHistories = new ArrayList<>();
+        private final Map<UUID, Payment> savedPayments = new HashMap<>();
+        private final Set<UUID> newProcessedMessageIds = new HashSet<>();
+    }
+
+    private static class TransactionHolder {
+        private Transaction transaction;
+    }
+
+    public void addCustomer(CreditEntry creditEntry, CreditLedger creditLedger, List<CreditHistory> histories) {
+        synchronized (lock) {
+            creditEntries.put(creditEntry.getCustomerId(), copy(creditEntry, creditEntry.getVersion()));
+            creditLedgers.put(creditLedger.getId(), copy(creditLedger));
+            creditHistories.addAll(histories);
+        }
+    }
+
+    public CreditEntry getCreditEntry(CustomerId customerId) {
+        synchronized (lock) {
+            return copy(creditEntries.get(customerId), creditEntries.get(customerId).getVersion());
+        }
+    }
+
+    public CreditLedger getCreditLedger(CustomerId customerId) {
+        synchronized (lock) {
+            return copy(creditLedgers.get(customerId));
+        }
+    }
+
+    public List<CreditHistory> getCreditHistories(CustomerId customerId) {
+        synchronized (lock) {
+            return creditHistories.stream()
+                    .filter(creditHistory -> creditHistory.getCustomerId().equals(customerId))
+                    .collect(Collectors.toList());
+        }
+    }
+
+    public List<Payment> getPayments() {
+        synchronized (lock) {
+            return new ArrayList<>(payments.values());
+        }
+    }
+
+    public CreditEntryRepository creditEntryRepository() {
+        return new CreditEntryRepository() {
+            @Override
+            public CreditEntry save(CreditEntry creditEntry) {
+                throw new UnsupportedOperationException("Credit entries are only changed by versioned update");
+            }
+
+            @Override
+            public void saveAll(List<CreditEntry> creditEntries) {
+                throw new UnsupportedOperationException("Credit entries are only changed by versioned update");
+            }
+
+            @Override
+            public boolean updateTotalCreditAmount(CreditEntry creditEntry) {
+                transaction().creditEntryUpdates.put(creditEntry.getCustomerId(),
+                        copy(creditEntry, creditEntry.getVersion()));
+                return true;
+            }
+
+            @Override
+            public Optional<CreditEntry> findByCustomerId(CustomerId customerId) {
+                return Optional.of(getCreditEntry(customerId));
+            }
+
+            @Override
+            public List<CreditEntry> findByCustomerIdIn(Collection<CustomerId> customerIds) {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    public CreditLedgerRepository creditLedgerRepository() {
+        return new CreditLedgerRepository() {
+            @Override
+            public CreditLedger save(CreditLedger creditLedger) {
+                transaction().creditLedgerUpdates.put(creditLedger.getId(), copy(creditLedger));
+                return creditLedger;
+            }
+
+            @Override
+            public void saveAll(List<CreditLedger> creditLedgers) {
+                creditLedgers.forEach(this::save);
+            }
+
+            @Override
+            public Optional<CreditLedger> findByCustomerId(CustomerId customerId) {
+                return Optional.of(getCreditLedger(customerId));
+            }
+
+            @Override
+            public List<CreditLedger> findByCustomerIdIn(Collection<CustomerId> customerIds) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public List<CreditLedger> findPageAfter(CustomerId lastCustomerId, int pageSize) {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    public CreditHistoryRepository creditHistoryRepository() {
+        return new CreditHistoryRepository() {
+            @Override
+            public CreditHistory save(CreditHistory creditHistory) {
+                transaction().newCreditHistories.add(creditHistory);
+                return creditHistory;
+            }
+
+            @Override
+            public void insertAll(List<CreditHistory> creditHistories) {
+                transaction().newCreditHistories.addAll(creditHistories);
+            }
+
+            @Override
+            public Optional<List<CreditHistory>> findByCustomerId(CustomerId customerId) {
+                return Optional.of(getCreditHistories(customerId));
+            }
+
+            @Override
+            public List<CreditHistory> findByCustomerIdIn(Collection<CustomerId> customerIds) {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    public PaymentRepository paymentRepository() {
+        return new PaymentRepository() {
+            @Override
+            public Payment save(Payment payment) {
+                transaction().savedPayments.put(payment.getOrderId().getValue(), payment);
+                return payment;
+            }
+
+            @Override
+            public void insertAll(List<Payment> payments) {
+                payments.forEach(this::save);
+            }
+
+            @Override
+            public void saveAll(List<Payment> payments) {
+                payments.forEach(this::save);
+            }
+
+            @Override
+            public Optional<Payment> findByOrderId(UUID orderId) {
+                synchronized (lock) {
+                    return Optional.ofNullable(payments.get(orderId));
+                }
+            }
+
+            @Override
+            public List<Payment> findByOrderIdIn(Collection<UUID> orderIds) {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    public ProcessedMessageRepository processedMessageRepository() {
+        return new ProcessedMessageRepository() {
+            @Override
+            public void insert(UUID messageId) {
+                transaction().newProcessedMessageIds.add(messageId);
+            }
+
+            @Override
+            public void insertAll(List<UUID> messageIds) {
+                messageIds.forEach(this::insert);
+            }
+
+            @Override
+            public Set<UUID> findProcessedMessageIds(Collection<UUID> messageIds) {
+                synchronized (lock) {
+                    return messageIds.stream().filter(processedMessages::containsKey).collect(Collectors.toSet());
+                }
+            }
+
+            @Override
+            public int deleteByProcessedAtBefore(ZonedDateTime processedAt) {
+                synchronized (lock) {
+                    int size = processedMessages.size();
+                    processedMessages.values().removeIf(messageProcessedAt ->
+                            messageProcessedAt.isBefore(processedAt));
+                    return size - processedMessages.size();
+                }
+            }
+        };
+    }
+
+    @Override
+    protected Object doGetTransaction() {
+        TransactionHolder transactionHolder = new TransactionHolder();
+        transactionHolder.transaction = currentTransaction.get();
+        return transactionHolder;
+    }
+
+    @Override
+    protected boolean isExistingTransaction(Object transaction) {
+        return ((TransactionHolder) transaction).transaction != null;
+    }
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+        Transaction newTransaction = new Transaction();
+        ((TransactionHolder) transaction).transaction = newTransaction;
+        currentTransaction.set(newTransaction);
+    }
+
+    @Override
+    protected void doCommit(DefaultTransactionStatus status) {
+        Transaction transaction = ((TransactionHolder) status.getTransaction()).transaction;
+        synchronized (lock) {
+            // the credit entry is read before the ledger, so an unchanged entry also means an unchanged ledger
+            for (CreditEntry creditEntry : transaction.creditEntryUpdates.values()) {
+                if (creditEntries.get(creditEntry.getCustomerId()).getVersion() != creditEntry.getVersion()) {
+                    throw new OptimisticLockingFailureException("Credit entry of customer: " +
+                            creditEntry.getCustomerId().getValue() + " was updated concurrently");
+                }
+            }
+            for (UUID messageId : transaction.newProcessedMessageIds) {
+                if (processedMessages.containsKey(messageId)) {
+                    throw new DataIntegrityViolationException("Message: " + messageId + " is already processed");
+                }
+            }
+            ZonedDateTime processedAt = ZonedDateTime.now(ZoneId.of(UTC));
+            transaction.newProcessedMessageIds.forEach(messageId -> processedMessages.put(messageId, processedAt));
+            transaction.creditEntryUpdates.values().forEach(creditEntry ->
+                    creditEntries.put(creditEntry.getCustomerId(), copy(creditEntry, creditEntry.getVersion() + 1)));
+            creditLedgers.putAll(transaction.creditLedgerUpdates);
+            creditHistories.addAll(transaction.newCreditHistories);
+            payments.putAll(transaction.savedPayments);
+        }
+    }
+
+    @Override
+    protected void doRollback(DefaultTransactionStatus status) {
+    }
+
+    @Override
+    protected void doCleanupAfterCompletion(Object transaction) {
+        currentTransaction.remove();
+    }
+
+    private Transaction transaction() {
+        Transaction transaction = currentTransaction.get();
+        if (transaction == null) {
+            throw new IllegalStateException("Payment tables can only be accessed inside a transaction");
+        }
+        return transaction;
+    }
+
+    private CreditEntry copy(CreditEntry creditEntry, long version) {
+        return CreditEntry.Builder.builder()
+                .creditEntryId(creditEntry.getId())
+                .customerId(creditEntry.getCustomerId())
+                .totalCreditAmount(creditEntry.getTotalCreditAmount())
+                .version(version)
+                .build();
+    }
+
+    private CreditLedger copy(CreditLedger creditLedger) {
+        return CreditLedger.Builder.builder()
+                .customerId(creditLedger.getId())
+                .totalCreditAmount(creditLedger.getTotalCreditAmount())
+                .totalDebitAmount(creditLedger.getTotalDebitAmount())
+                .sequenceNumber(creditLedger.getSequenceNumber())
+                .build();
+    }
+}
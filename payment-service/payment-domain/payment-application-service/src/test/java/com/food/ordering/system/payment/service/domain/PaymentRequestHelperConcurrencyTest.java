@@ -0,0 +1,208 @@
+package com.food.ordering.system.payment.service.domain;
+
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.PaymentOrderStatus;
+import com.food.ordering.system.domain.valueobject.PaymentStatus;
+import com.food.ordering.system.payment.service.domain.dto.PaymentRequest;
+import com.food.ordering.system.payment.service.domain.entity.CreditEntry;
+import com.food.ordering.system.payment.service.domain.entity.CreditHistory;
+import com.food.ordering.system.payment.service.domain.entity.CreditLedger;
+import com.food.ordering.system.payment.service.domain.entity.Payment;
+import com.food.ordering.system.payment.service.domain.event.PaymentCompletedEvent;
+import com.food.ordering.system.payment.service.domain.event.PaymentEvent;
+import com.food.ordering.system.payment.service.domain.exception.PaymentRequestFailedException;
+import com.food.ordering.system.payment.service.domain.ports.input.message.listener.PaymentRequestMessageListener;
+import com.food.ordering.system.payment.service.domain.valueobject.CreditEntryId;
+import com.food.ordering.system.payment.service.domain.valueobject.CreditHistoryId;
+import com.food.ordering.system.payment.service.domain.valueobject.TransactionType;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(classes = PaymentTestConfiguration.class, properties = {
+        "payment-service.credit-entry-update-max-attempts=200",
+        "payment-service.credit-entry-update-initial-backoff-ms=1",
+        "payment-service.credit-entry-update-max-backoff-ms=8"
+})
+public class PaymentRequestHelperConcurrencyTest {
+
+    @Autowired
+    private PaymentRequestHelper paymentRequestHelper;
+
+    @Autowired
+    private PaymentRequestMessageListener paymentRequestMessageListener;
+
+    @Autowired
+    private InMemoryPaymentDatabase inMemoryPaymentDatabase;
+
+    private final CustomerId CUSTOMER_ID = new CustomerId(UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb41"));
+    private final CustomerId REDELIVERY_CUSTOMER_ID =
+            new CustomerId(UUID.fromString("0d5a0c1e-6c38-4f4f-9d4c-3c5f5b3f0a21"));
+    private final CustomerId BATCH_FAILURE_CUSTOMER_ID =
+            new CustomerId(UUID.fromString("7f3e2b6a-1c4d-4e8f-a2b9-5d6c7e8f9a01"));
+    private final BigDecimal INITIAL_CREDIT = new BigDecimal("5000.00");
+    private final int THREADS = 8;
+    private final int PAYMENTS_PER_THREAD = 50;
+
+    @BeforeAll
+    public void init() {
+        addCustomer(CUSTOMER_ID);
+        addCustomer(REDELIVERY_CUSTOMER_ID);
+        addCustomer(BATCH_FAILURE_CUSTOMER_ID);
+    }
+
+    private void addCustomer(CustomerId customerId) {
+        inMemoryPaymentDatabase.addCustomer(
+                CreditEntry.Builder.builder()
+                        .creditEntryId(new CreditEntryId(UUID.randomUUID()))
+                        .customerId(customerId)
+                        .totalCreditAmount(new Money(INITIAL_CREDIT))
+                        .build(),
+                CreditLedger.Builder.builder()
+                        .customerId(customerId)
+                        .totalCreditAmount(new Money(INITIAL_CREDIT))
+                        .totalDebitAmount(new Money(new BigDecimal("0.00")))
+                        .sequenceNumber(1)
+                        .build(),
+                List.of(CreditHistory.Builder.builder()
+                        .creditHistoryId(new CreditHistoryId(UUID.randomUUID()))
+                        .customerId(customerId)
+                        .amount(new Money(INITIAL_CREDIT))
+                        .transactionType(TransactionType.CREDIT)
+                        .sequenceNumber(1)
+                        .build()));
+    }
+
+    @Test
+    public void testConcurrentPaymentsForSameCustomerReconcile() throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<PaymentEvent>>> futures = new ArrayList<>();
+        for (int thread = 0; thread < THREADS; thread++) {
+            int threadNumber = thread;
+            futures.add(executorService.submit(() -> {
+                start.await();
+                List<PaymentEvent> paymentEvents = new ArrayList<>();
+                for (int i = 0; i < PAYMENTS_PER_THREAD; i++) {
+                    paymentEvents.add(paymentRequestHelper.persistPayment(paymentRequest(
+                            BigDecimal.valueOf((threadNumber * PAYMENTS_PER_THREAD + i) % 40 + 1))));
+                }
+                return paymentEvents;
+            }));
+        }
+        start.countDown();
+
+        List<PaymentEvent> paymentEvents = new ArrayList<>();
+        for (Future<List<PaymentEvent>> future : futures) {
+            paymentEvents.addAll(future.get(60, TimeUnit.SECONDS));
+        }
+        executorService.shutdown();
+
+        BigDecimal completedTotal = paymentEvents.stream()
+                .filter(paymentEvent -> paymentEvent instanceof PaymentCompletedEvent)
+                .map(paymentEvent -> paymentEvent.getPayment().getPrice().getAmount())
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        long completedCount = paymentEvents.stream()
+                .filter(paymentEvent -> paymentEvent instanceof PaymentCompletedEvent)
+                .count();
+        assertEquals(THREADS * PAYMENTS_PER_THREAD, paymentEvents.size());
+        assertTrue(completedCount > 0 && completedCount < paymentEvents.size(),
+                "Credit should run out part way through the payments");
+
+        CreditEntry creditEntry = inMemoryPaymentDatabase.getCreditEntry(CUSTOMER_ID);
+        CreditLedger creditLedger = inMemoryPaymentDatabase.getCreditLedger(CUSTOMER_ID);
+        List<CreditHistory> creditHistories = inMemoryPaymentDatabase.getCreditHistories(CUSTOMER_ID);
+
+        assertEquals(0, INITIAL_CREDIT.subtract(completedTotal)
+                .compareTo(creditEntry.getTotalCreditAmount().getAmount()));
+        assertTrue(creditEntry.getTotalCreditAmount().getAmount().signum() >= 0);
+        assertEquals(completedCount, creditEntry.getVersion());
+        assertEquals(0, creditLedger.getTotalCreditAmount().substract(creditLedger.getTotalDebitAmount())
+                .getAmount().compareTo(creditEntry.getTotalCreditAmount().getAmount()));
+        assertEquals(0, completedTotal.compareTo(creditLedger.getTotalDebitAmount().getAmount()));
+        assertEquals(completedCount + 1, creditLedger.getSequenceNumber());
+        assertEquals(creditLedger.getSequenceNumber(), creditHistories.size());
+        assertEquals(creditHistories.size(), creditHistories.stream()
+                .mapToLong(CreditHistory::getSequenceNumber).distinct().count());
+        assertEquals(0, completedTotal.compareTo(creditHistories.stream()
+                .filter(creditHistory -> creditHistory.getTransactionType() == TransactionType.DEBIT)
+                .map(creditHistory -> creditHistory.getAmount().getAmount())
+                .reduce(BigDecimal.ZERO, BigDecimal::add)));
+
+        List<Payment> payments = inMemoryPaymentDatabase.getPayments().stream()
+                .filter(payment -> payment.getCustomerId().equals(CUSTOMER_ID))
+                .collect(Collectors.toList());
+        assertEquals(paymentEvents.size(), payments.size());
+        assertEquals(completedCount, payments.stream()
+                .filter(payment -> payment.getPaymentStatus() == PaymentStatus.COMPLETED)
+                .count());
+    }
+
+    @Test
+    public void testRedeliveredPaymentRequestIsNotDebitedTwice() {
+        PaymentRequest paymentRequest = paymentRequest(REDELIVERY_CUSTOMER_ID, new BigDecimal("100.00"));
+        assertTrue(paymentRequestHelper.persistPayment(paymentRequest) instanceof PaymentCompletedEvent);
+
+        assertThrows(DataIntegrityViolationException.class, () -> paymentRequestHelper.persistPayment(paymentRequest));
+        assertEquals(0, new BigDecimal("4900.00").compareTo(
+                inMemoryPaymentDatabase.getCreditEntry(REDELIVERY_CUSTOMER_ID).getTotalCreditAmount().getAmount()));
+        assertEquals(2, inMemoryPaymentDatabase.getCreditHistories(REDELIVERY_CUSTOMER_ID).size());
+    }
+
+    @Test
+    public void testFailedRequestOfBatchIsReportedAndNotRecordedAsProcessed() {
+        PaymentRequest paymentRequest = paymentRequest(BATCH_FAILURE_CUSTOMER_ID, new BigDecimal("100.00"));
+        PaymentRequest cancelOfUnknownPayment = PaymentRequest.builder()
+                .id(UUID.randomUUID().toString())
+                .sagaId(UUID.randomUUID().toString())
+                .orderId(UUID.randomUUID().toString())
+                .customerId(BATCH_FAILURE_CUSTOMER_ID.getValue().toString())
+                .price(new BigDecimal("100.00"))
+                .createdAt(Instant.now())
+                .paymentOrderStatus(PaymentOrderStatus.CANCELLED)
+                .build();
+
+        PaymentRequestFailedException exception = assertThrows(PaymentRequestFailedException.class, () ->
+                paymentRequestMessageListener.processPayments(List.of(paymentRequest, cancelOfUnknownPayment)));
+
+        assertEquals(cancelOfUnknownPayment.getId(), exception.getPaymentRequest().getId());
+        assertEquals(List.of(paymentRequest.getId()), exception.getProcessedRequestIds());
+        assertEquals(Set.of(UUID.fromString(paymentRequest.getId())), inMemoryPaymentDatabase
+                .processedMessageRepository().findProcessedMessageIds(List.of(
+                        UUID.fromString(paymentRequest.getId()), UUID.fromString(cancelOfUnknownPayment.getId()))));
+        assertEquals(0, new BigDecimal("4900.00").compareTo(inMemoryPaymentDatabase
+                .getCreditEntry(BATCH_FAILURE_CUSTOMER_ID).getTotalCreditAmount().getAmount()));
+    }
+
+    private PaymentRequest paymentRequest(BigDecimal price) {
+        return paymentRequest(CUSTOMER_ID, price);
+    }
+
+    private PaymentRequest paymentRequest(CustomerId customerId, BigDecimal price) {
+        return PaymentRequest.builder()
+                .id(UUID.randomUUID().toString())
+                .sagaId(UUID.randomUUID().toString())
+                .orderId(UUID.randomUUID().toString())
+                .customerId(customerId.getValue().toString())
+                .price(price)
+                .createdAt(Instant.now())
+                .paymentOrderStatus(PaymentOrderStatus.PENDING)
+                .build();
+    }
+}
@@ -0,0 +1,67 @@
+package com.food.ordering.system.payment.service.domain;
+
+import com.food.ordering.system.payment.service.domain.ports.output.message.publisher.PaymentCancelledMessagePublisher;
+import com.food.ordering.system.payment.service.domain.ports.output.message.publisher.PaymentCompletedMessagePublisher;
+import com.food.ordering.system.payment.service.domain.ports.output.message.publisher.PaymentFailedMessagePublisher;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditEntryRepository;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditHistoryRepository;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditLedgerRepository;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.PaymentRepository;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.ProcessedMessageRepository;
+import org.mockito.Mockito;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Bean;
+
+@SpringBootApplication(scanBasePackages = "com.food.ordering.system")
+public class PaymentTestConfiguration {
+
+    @Bean
+    public PaymentCompletedMessagePublisher paymentCompletedMessagePublisher() {
+        return Mockito.mock(PaymentCompletedMessagePublisher.class);
+    }
+
+    @Bean
+    public PaymentCancelledMessagePublisher paymentCancelledMessagePublisher() {
+        return Mockito.mock(PaymentCancelledMessagePublisher.class);
+    }
+
+    @Bean
+    public PaymentFailedMessagePublisher paymentFailedMessagePublisher() {
+        return Mockito.mock(PaymentFailedMessagePublisher.class);
+    }
+
+    @Bean
+    public InMemoryPaymentDatabase inMemoryPaymentDatabase() {
+        return new InMemoryPaymentDatabase();
+    }
+
+    @Bean
+    public CreditEntryRepository creditEntryRepository(InMemoryPaymentDatabase inMemoryPaymentDatabase) {
+        return inMemoryPaymentDatabase.creditEntryRepository();
+    }
+
+    @Bean
+    public CreditLedgerRepository creditLedgerRepository(InMemoryPaymentDatabase inMemoryPaymentDatabase) {
+        return inMemoryPaymentDatabase.creditLedgerRepository();
+    }
+
+    @Bean
+    public CreditHistoryRepository creditHistoryRepository(InMemoryPaymentDatabase inMemoryPaymentDatabase) {
+        return inMemoryPaymentDatabase.creditHistoryRepository();
+    }
+
+    @Bean
+    public PaymentRepository paymentRepository(InMemoryPaymentDatabase inMemoryPaymentDatabase) {
+        return inMemoryPaymentDatabase.paymentRepository();
+    }
+
+    @Bean
+    public ProcessedMessageRepository processedMessageRepository(InMemoryPaymentDatabase inMemoryPaymentDatabase) {
+        return inMemoryPaymentDatabase.processedMessageRepository();
+    }
+
+    @Bean
+    public PaymentDomainService paymentDomainService() {
+        return new PaymentDomainServiceImpl();
+    }
+}
@@ -1,10 +1,12 @@
 package com.food.ordering.system.payment.service.domain;
 
 import com.food.ordering.system.domain.event.publisher.DomainEventPublisher;
+import com.food.ordering.system.domain.id.Ids;
 import com.food.ordering.system.domain.valueobject.Money;
 import com.food.ordering.system.domain.valueobject.PaymentStatus;
 import com.food.ordering.system.payment.service.domain.entity.CreditEntry;
 import com.food.ordering.system.payment.service.domain.entity.CreditHistory;
+import com.food.ordering.system.payment.service.domain.entity.CreditLedger;
 import com.food.ordering.system.payment.service.domain.entity.Payment;
 import com.food.ordering.system.payment.service.domain.event.PaymentCancelledEvent;
 import com.food.ordering.system.payment.service.domain.event.PaymentCompletedEvent;
@@ -17,7 +19,6 @@ import lombok.extern.slf4j.Slf4j;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.List;
-import java.util.UUID;
 
 import static com.food.ordering.system.domain.DomainConstants.UTC;
 
@@ -26,6 +27,7 @@ public class PaymentDomainServiceImpl implements PaymentDomainService {
     @Override
     public PaymentEvent validateAndInitiatePayment(Payment payment,
                                                    CreditEntry creditEntry,
+                                                   CreditLedger creditLedger,
                                                    List<CreditHistory> creditHistories,
                                                    List<String> failureMessages,
                                                    DomainEventPublisher<PaymentCompletedEvent>
@@ -36,10 +38,11 @@ public class PaymentDomainServiceImpl implements PaymentDomainService {
         payment.initializePayment();
         validateCreditEntry(payment, creditEntry, failureMessages);
         subtractCreditEntry(payment, creditEntry);
-        updateCreditHistory(payment, creditHistories, TransactionType.DEBIT);
-        validateCreditHistory(creditEntry, creditHistories, failureMessages);
+        CreditHistory creditHistory = updateCreditHistory(payment, creditLedger, creditHistories, TransactionType.DEBIT);
+        validateCreditHistory(creditEntry, creditLedger, creditHistory, failureMessages);
 
         if (failureMessages.isEmpty()) {
+            creditLedger.recordCreditHistory(creditHistory);
             log.info("Payment is initiated for order if: {}", payment.getOrderId().getValue());
             payment.updateStatus(PaymentStatus.COMPLETED);
             return new PaymentCompletedEvent(payment, ZonedDateTime.now(ZoneId.of(UTC)), paymentCompletedEventDomainEventPublisher);
@@ -56,6 +59,7 @@ public class PaymentDomainServiceImpl implements PaymentDomainService {
     @Override
     public PaymentEvent validateAndCancelPayment(Payment payment,
                                                  CreditEntry creditEntry,
+                                                 CreditLedger creditLedger,
                                                  List<CreditHistory> creditHistories,
                                                  List<String> failureMessages,
                                                  DomainEventPublisher<PaymentCancelledEvent>
@@ -65,9 +69,11 @@ public class PaymentDomainServiceImpl implements PaymentDomainService {
         
         payment.validatePayment(failureMessages);
         addCreditEntry(payment, creditEntry);
-        updateCreditHistory(payment, creditHistories, TransactionType.CREDIT);
+        CreditHistory creditHistory = updateCreditHistory(payment, creditLedger, creditHistories,
+                TransactionType.CREDIT);
 
         if (failureMessages.isEmpty()) {
+            creditLedger.recordCreditHistory(creditHistory);
             log.info("Payment is cancelled for order if: {}", payment.getOrderId().getValue());
             payment.updateStatus(PaymentStatus.CANCELLED);
             return new PaymentCancelledEvent(payment, ZonedDateTime.now(ZoneId.of(UTC)),
@@ -92,20 +98,26 @@ public class PaymentDomainServiceImpl implements PaymentDomainService {
         creditEntry.substractCreditAmount(payment.getPrice());
     }
 
-    private void updateCreditHistory(Payment payment, List<CreditHistory> creditHistories,
-                                     TransactionType transactionType) {
-        creditHistories.add(CreditHistory.Builder.builder()
-                        .creditHistoryId(new CreditHistoryId(UUID.randomUUID()))
+    private CreditHistory updateCreditHistory(Payment payment, CreditLedger creditLedger,
+                                              List<CreditHistory> creditHistories,
+                                              TransactionType transactionType) {
+        CreditHistory creditHistory = CreditHistory.Builder.builder()
+                        .creditHistoryId(new CreditHistoryId(Ids.newId()))
                         .customerId(payment.getCustomerId())
                         .amount(payment.getPrice())
                         .transactionType(transactionType)
-                        .build());
+                        .sequenceNumber(creditLedger.nextSequenceNumber())
+                        .build();
+        creditHistories.add(creditHistory);
+        return creditHistory;
     }
 
-    private void validateCreditHistory(CreditEntry creditEntry, List<CreditHistory> creditHistories,
-                                       List<String> failureMessages) {
-        Money totalCreditHistory = getTotalHistoryAmount(creditHistories, TransactionType.CREDIT);
-        Money totalDebitHistory = getTotalHistoryAmount(creditHistories, TransactionType.DEBIT);
+    private void validateCreditHistory(CreditEntry creditEntry, CreditLedger creditLedger,
+                                       CreditHistory creditHistory, List<String> failureMessages) {
+        Money totalCreditHistory = getTotalHistoryAmount(creditLedger.getTotalCreditAmount(), creditHistory,
+                TransactionType.CREDIT);
+        Money totalDebitHistory = getTotalHistoryAmount(creditLedger.getTotalDebitAmount(), creditHistory,
+                TransactionType.DEBIT);
 
         if (totalDebitHistory.isGreaterThan(totalCreditHistory)) {
             log.error("Customer with id: {} doesn't have enough credit according to credit history",
@@ -123,11 +135,10 @@ public class PaymentDomainServiceImpl implements PaymentDomainService {
     }
 
 
-    private  Money getTotalHistoryAmount(List<CreditHistory> creditHistories, TransactionType transactionType) {
-        return creditHistories.stream()
-                .filter(creditHistory -> transactionType == creditHistory.getTransactionType())
-                .map(CreditHistory::getAmount)
-                .reduce(Money.ZERO, Money::add);
+    private Money getTotalHistoryAmount(Money ledgerTotal, CreditHistory creditHistory,
+                                        TransactionType transactionType) {
+        return transactionType == creditHistory.getTransactionType() ?
+                ledgerTotal.add(creditHistory.getAmount()) : ledgerTotal;
     }
 
 
@@ -8,6 +8,7 @@ import com.food.ordering.system.payment.service.domain.valueobject.CreditEntryId
 public class CreditEntry extends BaseEntity<CreditEntryId> {
     private final CustomerId customerId;
     private Money totalCreditAmount;
+    private final long version;
 
     public void addCreditAmount(Money amount) {
         totalCreditAmount = totalCreditAmount.add(amount);
@@ -21,6 +22,7 @@ public class CreditEntry extends BaseEntity<CreditEntryId> {
         setId(builder.creditEntryId);
         customerId = builder.customerId;
         totalCreditAmount = builder.totalCreditAmount;
+        version = builder.version;
     }
 
 
@@ -32,10 +34,15 @@ public class CreditEntry extends BaseEntity<CreditEntryId> {
         return totalCreditAmount;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
     public static final class Builder {
         private CreditEntryId creditEntryId;
         private CustomerId customerId;
         private Money totalCreditAmount;
+        private long version;
 
         private Builder() {
         }
@@ -59,6 +66,11 @@ public class CreditEntry extends BaseEntity<CreditEntryId> {
             return this;
         }
 
+        public Builder version(long val) {
+            version = val;
+            return this;
+        }
+
         public CreditEntry build() {
             return new CreditEntry(this);
         }
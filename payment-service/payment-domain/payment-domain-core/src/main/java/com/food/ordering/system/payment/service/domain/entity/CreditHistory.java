@@ -10,12 +10,14 @@ public class CreditHistory extends BaseEntity<CreditHistoryId> {
     private final CustomerId customerId;
     private final Money amount;
     private final TransactionType transactionType;
+    private final long sequenceNumber;
 
     private CreditHistory(Builder builder) {
         setId(builder.creditHistoryId);
         customerId = builder.customerId;
         amount = builder.amount;
         transactionType = builder.transactionType;
+        sequenceNumber = builder.sequenceNumber;
     }
 
     public CustomerId getCustomerId() {
@@ -30,11 +32,16 @@ public class CreditHistory extends BaseEntity<CreditHistoryId> {
         return transactionType;
     }
 
+    public long getSequenceNumber() {
+        return sequenceNumber;
+    }
+
     public static final class Builder {
         private CreditHistoryId creditHistoryId;
         private CustomerId customerId;
         private Money amount;
         private TransactionType transactionType;
+        private long sequenceNumber;
 
         private Builder() {
         }
@@ -63,6 +70,11 @@ public class CreditHistory extends BaseEntity<CreditHistoryId> {
             return this;
         }
 
+        public Builder sequenceNumber(long val) {
+            sequenceNumber = val;
+            return this;
+        }
+
         public CreditHistory build() {
             return new CreditHistory(this);
         }
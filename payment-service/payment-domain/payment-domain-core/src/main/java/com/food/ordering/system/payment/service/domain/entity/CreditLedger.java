@@ -0,0 +1,88 @@
+package com.food.ordering.system.payment.service.domain.entity;
+
+import com.food.ordering.system.domain.entity.BaseEntity;
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.payment.service.domain.exception.PaymentDomainException;
+import com.food.ordering.system.payment.service.domain.valueobject.TransactionType;
+
+public class CreditLedger extends BaseEntity<CustomerId> {
+    private Money totalCreditAmount;
+    private Money totalDebitAmount;
+    private long sequenceNumber;
+
+    public void recordCreditHistory(CreditHistory creditHistory) {
+        if (creditHistory.getSequenceNumber() != nextSequenceNumber()) {
+            throw new PaymentDomainException("Credit history sequence number " + creditHistory.getSequenceNumber() +
+                    " does not follow ledger sequence number " + sequenceNumber + " for customer: " +
+                    getId().getValue());
+        }
+        if (TransactionType.CREDIT == creditHistory.getTransactionType()) {
+            totalCreditAmount = totalCreditAmount.add(creditHistory.getAmount());
+        } else {
+            totalDebitAmount = totalDebitAmount.add(creditHistory.getAmount());
+        }
+        sequenceNumber = creditHistory.getSequenceNumber();
+    }
+
+    public long nextSequenceNumber() {
+        return sequenceNumber + 1;
+    }
+
+    private CreditLedger(Builder builder) {
+        setId(builder.customerId);
+        totalCreditAmount = builder.totalCreditAmount;
+        totalDebitAmount = builder.totalDebitAmount;
+        sequenceNumber = builder.sequenceNumber;
+    }
+
+    public Money getTotalCreditAmount() {
+        return totalCreditAmount;
+    }
+
+    public Money getTotalDebitAmount() {
+        return totalDebitAmount;
+    }
+
+    public long getSequenceNumber() {
+        return sequenceNumber;
+    }
+
+    public static final class Builder {
+        private CustomerId customerId;
+        private Money totalCreditAmount;
+        private Money totalDebitAmount;
+        private long sequenceNumber;
+
+        private Builder() {
+        }
+
+        public static Builder builder() {
+            return new Builder();
+        }
+
+        public Builder customerId(CustomerId val) {
+            customerId = val;
+            return this;
+        }
+
+        public Builder totalCreditAmount(Money val) {
+            totalCreditAmount = val;
+            return this;
+        }
+
+        public Builder totalDebitAmount(Money val) {
+            totalDebitAmount = val;
+            return this;
+        }
+
+        public Builder sequenceNumber(long val) {
+            sequenceNumber = val;
+            return this;
+        }
+
+        public CreditLedger build() {
+            return new CreditLedger(this);
+        }
+    }
+}
@@ -1,55 +1,119 @@
 package com.food.ordering.system.payment.service.messaging.listener.kafka;
 
+import com.food.ordering.system.domain.logging.SampledLogger;
+import com.food.ordering.system.kafka.config.data.KafkaConsumerConfigData;
 import com.food.ordering.system.kafka.consumer.KafkaConsumer;
+import com.food.ordering.system.kafka.consumer.dispatch.KeyOrderedDispatcher;
+import com.food.ordering.system.kafka.consumer.idempotency.ProcessedMessageFilter;
 import com.food.ordering.system.kafka.order.avro.model.PaymentOrderStatus;
 import com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel;
 import com.food.ordering.system.kafka.order.avro.model.PaymentStatus;
+import com.food.ordering.system.payment.service.domain.config.PaymentServiceConfigData;
+import com.food.ordering.system.payment.service.domain.exception.PaymentRequestFailedException;
 import com.food.ordering.system.payment.service.domain.ports.input.message.listener.PaymentRequestMessageListener;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.ProcessedMessageRepository;
 import com.food.ordering.system.payment.service.messaging.mapper.PaymentMessagingDataMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.annotation.KafkaListener;
-import org.springframework.kafka.annotation.KafkaListeners;
 import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Component
 public class PaymentRequestKafkaListener implements KafkaConsumer<PaymentRequestAvroModel> {
+    private static final SampledLogger receivedLog =
+            SampledLogger.of(PaymentRequestKafkaListener.class, 1, Duration.ofSeconds(1));
+
     private final PaymentRequestMessageListener paymentRequestMessageListener;
     private final PaymentMessagingDataMapper paymentMessagingDataMapper;
+    private final PaymentServiceConfigData paymentServiceConfigData;
+    private final ProcessedMessageFilter processedMessageFilter;
+    private final KeyOrderedDispatcher keyOrderedDispatcher;
 
     public PaymentRequestKafkaListener(PaymentRequestMessageListener paymentRequestMessageListener,
-                                       PaymentMessagingDataMapper paymentMessagingDataMapper) {
+                                       PaymentMessagingDataMapper paymentMessagingDataMapper,
+                                       PaymentServiceConfigData paymentServiceConfigData,
+                                       ProcessedMessageRepository processedMessageRepository,
+                                       KafkaConsumerConfigData kafkaConsumerConfigData,
+                                       KeyOrderedDispatcher keyOrderedDispatcher) {
         this.paymentRequestMessageListener = paymentRequestMessageListener;
         this.paymentMessagingDataMapper = paymentMessagingDataMapper;
+        this.paymentServiceConfigData = paymentServiceConfigData;
+        this.processedMessageFilter = new ProcessedMessageFilter(messageIds -> processedMessageRepository
+                .findProcessedMessageIds(messageIds.stream().map(UUID::fromString).collect(Collectors.toList()))
+                .stream()
+                .map(UUID::toString)
+                .collect(Collectors.toSet()), kafkaConsumerConfigData);
+        this.keyOrderedDispatcher = keyOrderedDispatcher;
     }
 
     @Override
     @KafkaListener(id = "${kafka-consumer-config.payment-consumer-group-id}",
-                topics = "${payment-service.payment-request-topic-name}")
+            topics = "${payment-service.payment-request-topic-name}")
+    @KafkaListener(id = "${kafka-consumer-config.payment-consumer-group-id}-retry-0",
+            topics = "${payment-service.payment-request-topic-name}-retry-0",
+            containerFactory = "retryKafkaListenerContainerFactory")
+    @KafkaListener(id = "${kafka-consumer-config.payment-consumer-group-id}-retry-1",
+            topics = "${payment-service.payment-request-topic-name}-retry-1",
+            containerFactory = "retryKafkaListenerContainerFactory")
+    @KafkaListener(id = "${kafka-consumer-config.payment-consumer-group-id}-retry-2",
+            topics = "${payment-service.payment-request-topic-name}-retry-2",
+            containerFactory = "retryKafkaListenerContainerFactory")
     public void recieve(@Payload List<PaymentRequestAvroModel> messages,
                         @Header(KafkaHeaders.RECEIVED_MESSAGE_KEY) List<String> keys,
                         @Header(KafkaHeaders.RECEIVED_PARTITION_ID) List<Integer> partitions,
                         @Header(KafkaHeaders.OFFSET) List<Long> offsets) {
 
-        log.info("{} number of payment requests received with keys: {}, partitions: {}, and offsets: {}",
-                messages.size(), keys.toString(), partitions.toString(), offsets.toString());
-
-        messages.forEach(paymentRequestAvroModel -> {
-            if (PaymentOrderStatus.PENDING == paymentRequestAvroModel.getPaymentOrderStatus()) {
-                log.info("Processing payment for order id: {}", paymentRequestAvroModel.getOrderId());
-                paymentRequestMessageListener.completePayment(
-                        paymentMessagingDataMapper.paymentRequestAvroModelToPaymentRequest(paymentRequestAvroModel));
-            } else if (PaymentOrderStatus.CANCELLED == paymentRequestAvroModel.getPaymentOrderStatus()) {
-                log.info("Cancelling payment for order id: {}", paymentRequestAvroModel.getOrderId());
-                paymentRequestMessageListener.cancelPayment(paymentMessagingDataMapper
-                        .paymentRequestAvroModelToPaymentRequest(paymentRequestAvroModel));
-            }
-        });
+        receivedLog.info("payment-requests-received", "count", messages.size(),
+                "partitions", partitions, "offsets", offsets);
+
+        List<PaymentRequestAvroModel> newMessages =
+                processedMessageFilter.removeProcessed(messages, PaymentRequestAvroModel::getId);
+
+        // requests of a customer stay in one lane, so they are applied in order and lanes never share a credit entry
+        if (Boolean.TRUE.equals(paymentServiceConfigData.getPaymentRequestBatchEnabled())) {
+            keyOrderedDispatcher.dispatchBatches(messages, newMessages, PaymentRequestAvroModel::getCustomerId,
+                    lane -> {
+                        try {
+                            paymentRequestMessageListener.processPayments(lane.stream()
+                                    .map(paymentMessagingDataMapper::paymentRequestAvroModelToPaymentRequest)
+                                    .collect(Collectors.toList()));
+                        } catch (PaymentRequestFailedException e) {
+                            // only the processed requests are skipped on redelivery, the failed one goes to retry
+                            processedMessageFilter.markProcessed(e.getProcessedRequestIds());
+                            throw new KeyOrderedDispatcher.MessageFailedException(lane.stream()
+                                    .filter(message -> message.getId().equals(e.getPaymentRequest().getId()))
+                                    .findFirst()
+                                    .orElse(lane.get(0)), e);
+                        }
+                        processedMessageFilter.markProcessed(lane.stream()
+                                .map(PaymentRequestAvroModel::getId)
+                                .collect(Collectors.toList()));
+                    });
+            return;
+        }
+
+        keyOrderedDispatcher.dispatch(messages, newMessages, PaymentRequestAvroModel::getCustomerId,
+                paymentRequestAvroModel -> processedMessageFilter.process(paymentRequestAvroModel,
+                        paymentRequestAvroModel.getId(), this::processPayment));
+    }
 
+    private void processPayment(PaymentRequestAvroModel paymentRequestAvroModel) {
+        if (PaymentOrderStatus.PENDING == paymentRequestAvroModel.getPaymentOrderStatus()) {
+            log.debug("Processing payment for order id: {}", paymentRequestAvroModel.getOrderId());
+            paymentRequestMessageListener.completePayment(
+                    paymentMessagingDataMapper.paymentRequestAvroModelToPaymentRequest(paymentRequestAvroModel));
+        } else if (PaymentOrderStatus.CANCELLED == paymentRequestAvroModel.getPaymentOrderStatus()) {
+            log.debug("Cancelling payment for order id: {}", paymentRequestAvroModel.getOrderId());
+            paymentRequestMessageListener.cancelPayment(paymentMessagingDataMapper
+                    .paymentRequestAvroModelToPaymentRequest(paymentRequestAvroModel));
+        }
     }
 }
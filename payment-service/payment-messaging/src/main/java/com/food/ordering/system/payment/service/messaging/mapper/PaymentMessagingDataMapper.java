@@ -1,5 +1,6 @@
 package com.food.ordering.system.payment.service.messaging.mapper;
 
+import com.food.ordering.system.domain.id.Ids;
 import com.food.ordering.system.domain.valueobject.PaymentOrderStatus;
 import com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel;
 import com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel;
@@ -10,14 +11,13 @@ import com.food.ordering.system.payment.service.domain.event.PaymentCompletedEve
 import com.food.ordering.system.payment.service.domain.event.PaymentFailedEvent;
 import org.springframework.stereotype.Component;
 
-import java.util.UUID;
 
 @Component
 public class PaymentMessagingDataMapper {
     public PaymentResponseAvroModel paymentCompletedEventToPaymentResponseAvroModel(PaymentCompletedEvent
                                                                                             paymentCompletedEvent) {
         return PaymentResponseAvroModel.newBuilder()
-                .setId(UUID.randomUUID().toString())
+                .setId(Ids.newId().toString())
                 .setSagaId("")
                 .setPaymentId(paymentCompletedEvent.getPayment().getId().getValue().toString())
                 .setCustomerId(paymentCompletedEvent.getPayment().getCustomerId().getValue().toString())
@@ -31,7 +31,7 @@ public class PaymentMessagingDataMapper {
     public PaymentResponseAvroModel paymentCancelledEventToPaymentResponseAvroModel(PaymentCancelledEvent
                                                                                            paymentCancelledEvent) {
         return PaymentResponseAvroModel.newBuilder()
-                .setId(UUID.randomUUID().toString())
+                .setId(Ids.newId().toString())
                 .setSagaId("")
                 .setPaymentId(paymentCancelledEvent.getPayment().getId().getValue().toString())
                 .setCustomerId(paymentCancelledEvent.getPayment().getCustomerId().getValue().toString())
@@ -46,7 +46,7 @@ public class PaymentMessagingDataMapper {
     public PaymentResponseAvroModel paymentFailedEventToPaymentResponseAvroModel(PaymentFailedEvent
                                                                                          paymentFailedEvent) {
         return PaymentResponseAvroModel.newBuilder()
-                .setId(UUID.randomUUID().toString())
+                .setId(Ids.newId().toString())
                 .setSagaId("")
                 .setPaymentId(paymentFailedEvent.getPayment().getId().getValue().toString())
                 .setCustomerId(paymentFailedEvent.getPayment().getCustomerId().getValue().toString())
@@ -30,7 +30,7 @@ public class PaymentCompletedKafkaMessagePublisher implements PaymentCompletedMe
     @Override
     public void publish(PaymentCompletedEvent domainEvent) {
         String orderId = domainEvent.getPayment().getOrderId().getValue().toString();
-        log.info("Received PaymentCompletedEvent for order id: {}", orderId);
+        log.debug("Received PaymentCompletedEvent for order id: {}", orderId);
 
         try {
             PaymentResponseAvroModel paymentResponseAvroModel =
@@ -45,7 +45,7 @@ public class PaymentCompletedKafkaMessagePublisher implements PaymentCompletedMe
                             orderId,
                             "PaymentResponseAvroModel")
             );
-            log.info("PaymentResponseAvroModel sent to Kafka for order id: {}", paymentResponseAvroModel.getOrderId());
+            log.debug("PaymentResponseAvroModel sent to Kafka for order id: {}", paymentResponseAvroModel.getOrderId());
         } catch (Exception e) {
             log.error("Error while sending PaymentResponseAvroModel message" +
                     " to Kafka with order id: {}, error: {}", orderId, e.getMessage());
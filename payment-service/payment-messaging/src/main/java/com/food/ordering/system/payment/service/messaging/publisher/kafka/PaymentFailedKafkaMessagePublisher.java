@@ -30,7 +30,7 @@ public class PaymentFailedKafkaMessagePublisher implements PaymentFailedMessageP
     @Override
     public void publish(PaymentFailedEvent domainEvent) {
         String orderId = domainEvent.getPayment().getOrderId().getValue().toString();
-        log.info("Received PaymentFailedEvent for order id: {}", orderId);
+        log.debug("Received PaymentFailedEvent for order id: {}", orderId);
 
         try {
             PaymentResponseAvroModel paymentResponseAvroModel =
@@ -45,7 +45,7 @@ public class PaymentFailedKafkaMessagePublisher implements PaymentFailedMessageP
                             orderId,
                             "PaymentResponseAvroModel")
             );
-            log.info("PaymentResponseAvroModel sent to Kafka for order id: {}", paymentResponseAvroModel.getOrderId());
+            log.debug("PaymentResponseAvroModel sent to Kafka for order id: {}", paymentResponseAvroModel.getOrderId());
         } catch (Exception e) {
             log.error("Error while sending PaymentResponseAvroModel message" +
                     " to Kafka with order id: {}, error: {}", orderId, e.getMessage());
@@ -4,10 +4,12 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @EnableJpaRepositories(basePackages = {"com.food.ordering.system.restaurant.service.dataaccess","com.food.ordering.system.dataaccess"})
 @EntityScan(basePackages = {"com.food.ordering.system.restaurant.service.dataaccess","com.food.ordering.system.dataaccess"})
 @SpringBootApplication(scanBasePackages = "com.food.ordering.system")
+@EnableScheduling
 public class RestaurantServiceApplication {
     public static void main(String[] args) {
         SpringApplication.run(RestaurantServiceApplication.class, args);
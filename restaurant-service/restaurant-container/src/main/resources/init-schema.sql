@@ -29,6 +29,19 @@ CREATE TABLE restaurant.order_approval
     CONSTRAINT order_approval_pkey PRIMARY KEY (id)
 );
 
+DROP TABLE IF EXISTS restaurant.processed_messages CASCADE;
+
+CREATE TABLE restaurant.processed_messages
+(
+    id uuid NOT NULL,
+    processed_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    CONSTRAINT processed_messages_pkey PRIMARY KEY (id)
+);
+
+CREATE INDEX "processed_messages_processed_at"
+    ON restaurant.processed_messages
+    (processed_at);
+
 DROP TABLE IF EXISTS restaurant.products CASCADE;
 
 CREATE TABLE restaurant.products
@@ -68,40 +81,122 @@ DROP TYPE IF EXISTS outbox_status;
 CREATE TYPE outbox_status AS ENUM ('STARTED', 'COMPLETED', 'FAILED');
 
 
-DROP MATERIALIZED VIEW IF EXISTS restaurant.order_restaurant_m_view;
+DROP TABLE IF EXISTS restaurant.order_restaurant_m_view CASCADE;
 
-CREATE MATERIALIZED VIEW restaurant.order_restaurant_m_view
-TABLESPACE pg_default
-AS
- SELECT r.id AS restaurant_id,
-    r.name AS restaurant_name,
-    r.active AS restaurant_active,
-    p.id AS product_id,
-    p.name AS product_name,
-    p.price AS product_price,
-    p.available AS product_available
+-- Projection table kept under the old view name so RestaurantEntity keeps reading it unchanged.
+-- Row level triggers on the base tables maintain it incrementally instead of a full refresh per statement.
+CREATE TABLE restaurant.order_restaurant_m_view
+(
+    restaurant_id uuid NOT NULL,
+    restaurant_name character varying COLLATE pg_catalog."default" NOT NULL,
+    restaurant_active boolean NOT NULL,
+    product_id uuid NOT NULL,
+    product_name character varying COLLATE pg_catalog."default" NOT NULL,
+    product_price numeric(10,2) NOT NULL,
+    product_available boolean NOT NULL,
+    CONSTRAINT order_restaurant_m_view_pkey PRIMARY KEY (restaurant_id, product_id)
+);
+
+INSERT INTO restaurant.order_restaurant_m_view
+ SELECT DISTINCT r.id, r.name, r.active, p.id, p.name, p.price, p.available
    FROM restaurant.restaurants r,
     restaurant.products p,
     restaurant.restaurant_products rp
-  WHERE r.id = rp.restaurant_id AND p.id = rp.product_id
-WITH DATA;
+  WHERE r.id = rp.restaurant_id AND p.id = rp.product_id;
+
+DROP function IF EXISTS restaurant.refresh_order_restaurant_m_view CASCADE;
+
+CREATE OR replace function restaurant.project_restaurant_product()
+returns trigger
+AS '
+BEGIN
+    IF TG_OP IN (''DELETE'', ''UPDATE'') THEN
+        DELETE FROM restaurant.order_restaurant_m_view v
+         WHERE v.restaurant_id = OLD.restaurant_id
+           AND v.product_id = OLD.product_id
+           AND NOT EXISTS (SELECT 1 FROM restaurant.restaurant_products rp
+                            WHERE rp.restaurant_id = OLD.restaurant_id
+                              AND rp.product_id = OLD.product_id);
+    END IF;
+    IF TG_OP IN (''INSERT'', ''UPDATE'') THEN
+        INSERT INTO restaurant.order_restaurant_m_view
+         SELECT r.id, r.name, r.active, p.id, p.name, p.price, p.available
+           FROM restaurant.restaurants r, restaurant.products p
+          WHERE r.id = NEW.restaurant_id AND p.id = NEW.product_id
+        ON CONFLICT (restaurant_id, product_id) DO NOTHING;
+    END IF;
+    return null;
+END;
+'  LANGUAGE plpgsql;
 
-refresh materialized VIEW restaurant.order_restaurant_m_view;
+DROP trigger IF EXISTS project_restaurant_product ON restaurant.restaurant_products;
 
-DROP function IF EXISTS restaurant.refresh_order_restaurant_m_view;
+CREATE trigger project_restaurant_product
+after INSERT OR UPDATE OR DELETE
+ON restaurant.restaurant_products FOR each row
+EXECUTE PROCEDURE restaurant.project_restaurant_product();
 
-CREATE OR replace function restaurant.refresh_order_restaurant_m_view()
+CREATE OR replace function restaurant.truncate_restaurant_product_projection()
 returns trigger
 AS '
 BEGIN
-    refresh materialized VIEW restaurant.order_restaurant_m_view;
+    TRUNCATE restaurant.order_restaurant_m_view;
     return null;
 END;
 '  LANGUAGE plpgsql;
 
-DROP trigger IF EXISTS refresh_order_restaurant_m_view ON restaurant.restaurant_products;
+DROP trigger IF EXISTS truncate_restaurant_product_projection ON restaurant.restaurant_products;
 
-CREATE trigger refresh_order_restaurant_m_view
-after INSERT OR UPDATE OR DELETE OR truncate
+CREATE trigger truncate_restaurant_product_projection
+after truncate
 ON restaurant.restaurant_products FOR each statement
-EXECUTE PROCEDURE restaurant.refresh_order_restaurant_m_view();
\ No newline at end of file
+EXECUTE PROCEDURE restaurant.truncate_restaurant_product_projection();
+
+CREATE OR replace function restaurant.project_restaurant()
+returns trigger
+AS '
+BEGIN
+    IF TG_OP = ''DELETE'' THEN
+        DELETE FROM restaurant.order_restaurant_m_view WHERE restaurant_id = OLD.id;
+    ELSIF NEW.name IS DISTINCT FROM OLD.name OR NEW.active IS DISTINCT FROM OLD.active THEN
+        UPDATE restaurant.order_restaurant_m_view
+           SET restaurant_name = NEW.name, restaurant_active = NEW.active
+         WHERE restaurant_id = NEW.id;
+    END IF;
+    return null;
+END;
+'  LANGUAGE plpgsql;
+
+DROP trigger IF EXISTS project_restaurant ON restaurant.restaurants;
+
+CREATE trigger project_restaurant
+after UPDATE OR DELETE
+ON restaurant.restaurants FOR each row
+EXECUTE PROCEDURE restaurant.project_restaurant();
+
+CREATE OR replace function restaurant.project_product()
+returns trigger
+AS '
+BEGIN
+    IF TG_OP = ''DELETE'' THEN
+        DELETE FROM restaurant.order_restaurant_m_view WHERE product_id = OLD.id;
+    ELSIF NEW.name IS DISTINCT FROM OLD.name OR NEW.price IS DISTINCT FROM OLD.price
+            OR NEW.available IS DISTINCT FROM OLD.available THEN
+        UPDATE restaurant.order_restaurant_m_view
+           SET product_name = NEW.name, product_price = NEW.price, product_available = NEW.available
+         WHERE product_id = NEW.id;
+    END IF;
+    return null;
+END;
+'  LANGUAGE plpgsql;
+
+DROP trigger IF EXISTS project_product ON restaurant.products;
+
+CREATE trigger project_product
+after UPDATE OR DELETE
+ON restaurant.products FOR each row
+EXECUTE PROCEDURE restaurant.project_product();
+
+CREATE INDEX "order_restaurant_m_view_product_id"
+    ON restaurant.order_restaurant_m_view
+    (product_id);
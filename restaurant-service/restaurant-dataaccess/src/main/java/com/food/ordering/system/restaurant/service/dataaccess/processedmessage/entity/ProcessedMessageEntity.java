@@ -0,0 +1,37 @@
+package com.food.ordering.system.restaurant.service.dataaccess.processedmessage.entity;
+
+import lombok.*;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.time.ZonedDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "processed_messages", schema = "restaurant")
+@Entity
+public class ProcessedMessageEntity {
+
+    @Id
+    private UUID id;
+    private ZonedDateTime processedAt;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ProcessedMessageEntity that = (ProcessedMessageEntity) o;
+        return id.equals(that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
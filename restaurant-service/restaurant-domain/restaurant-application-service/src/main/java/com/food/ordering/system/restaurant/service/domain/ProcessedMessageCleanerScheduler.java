@@ -0,0 +1,42 @@
+package com.food.ordering.system.restaurant.service.domain;
+
+import com.food.ordering.system.restaurant.service.domain.config.RestaurantServiceConfigData;
+import com.food.ordering.system.restaurant.service.domain.ports.output.repository.ProcessedMessageRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import static com.food.ordering.system.domain.DomainConstants.UTC;
+
+/**
+ * Deletes the ids of approval requests processed longer ago than the retention.
+ */
+@Slf4j
+@Component
+public class ProcessedMessageCleanerScheduler {
+
+    private final ProcessedMessageRepository processedMessageRepository;
+    private final RestaurantServiceConfigData restaurantServiceConfigData;
+
+    public ProcessedMessageCleanerScheduler(ProcessedMessageRepository processedMessageRepository,
+                                            RestaurantServiceConfigData restaurantServiceConfigData) {
+        this.processedMessageRepository = processedMessageRepository;
+        this.restaurantServiceConfigData = restaurantServiceConfigData;
+    }
+
+    @Transactional
+    @Scheduled(fixedDelayString = "${restaurant-service.processed-message-cleaner-fixed-rate}",
+            initialDelayString = "${restaurant-service.processed-message-cleaner-fixed-rate}")
+    public void deleteExpiredProcessedMessages() {
+        ZonedDateTime processedBefore = ZonedDateTime.now(ZoneId.of(UTC))
+                .minusMinutes(restaurantServiceConfigData.getProcessedMessageRetentionMinutes());
+        int deleted = processedMessageRepository.deleteByProcessedAtBefore(processedBefore);
+        if (deleted > 0) {
+            log.info("{} expired processed message ids deleted", deleted);
+        }
+    }
+}
@@ -9,6 +9,7 @@ import com.food.ordering.system.restaurant.service.domain.mapper.RestaurantDataM
 import com.food.ordering.system.restaurant.service.domain.ports.output.message.publisher.OrderApprovedMessagePublisher;
 import com.food.ordering.system.restaurant.service.domain.ports.output.message.publisher.OrderRejectedMessagePublisher;
 import com.food.ordering.system.restaurant.service.domain.ports.output.repository.OrderApprovalRepository;
+import com.food.ordering.system.restaurant.service.domain.ports.output.repository.ProcessedMessageRepository;
 import com.food.ordering.system.restaurant.service.domain.ports.output.repository.RestaurantRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -27,6 +28,7 @@ public class RestaurantApprovalRequestHelper {
     private final RestaurantDataMapper restaurantDataMapper;
     private final RestaurantRepository restaurantRepository;
     private final OrderApprovalRepository orderApprovalRepository;
+    private final ProcessedMessageRepository processedMessageRepository;
     private final OrderApprovedMessagePublisher orderApprovedMessagePublisher;
     private final OrderRejectedMessagePublisher orderRejectedMessagePublisher;
 
@@ -36,19 +38,21 @@ public class RestaurantApprovalRequestHelper {
                                            RestaurantDataMapper restaurantDataMapper,
                                            RestaurantRepository restaurantRepository,
                                            OrderApprovalRepository orderApprovalRepository,
+                                           ProcessedMessageRepository processedMessageRepository,
                                            OrderApprovedMessagePublisher orderApprovedMessagePublisher,
                                            OrderRejectedMessagePublisher orderRejectedMessagePublisher) {
         this.restaurantDomainService = restaurantDomainService;
         this.restaurantDataMapper = restaurantDataMapper;
         this.restaurantRepository = restaurantRepository;
         this.orderApprovalRepository = orderApprovalRepository;
+        this.processedMessageRepository = processedMessageRepository;
         this.orderApprovedMessagePublisher = orderApprovedMessagePublisher;
         this.orderRejectedMessagePublisher = orderRejectedMessagePublisher;
     }
 
     @Transactional
     public OrderApprovalEvent persistOrderApproval(RestaurantApprovalRequest restaurantApprovalRequest) {
-        log.info("Processing restaurant approval for order id: {}", restaurantApprovalRequest.getOrderId());
+        log.debug("Processing restaurant approval for order id: {}", restaurantApprovalRequest.getOrderId());
         List<String> failureMessages = new ArrayList<>();
         Restaurant restaurant = findRestaurant(restaurantApprovalRequest);
         OrderApprovalEvent orderApprovalEvent =
@@ -58,6 +62,8 @@ public class RestaurantApprovalRequestHelper {
                         orderApprovedMessagePublisher,
                         orderRejectedMessagePublisher);
         orderApprovalRepository.save(restaurant.getOrderApproval());
+        // written with the approval, a redelivered request fails here instead of adding a second approval
+        processedMessageRepository.insert(UUID.fromString(restaurantApprovalRequest.getId()));
         return orderApprovalEvent;
     }
 
@@ -74,11 +80,9 @@ public class RestaurantApprovalRequestHelper {
         Restaurant restaurantEntity = restaurantResult.get();
         restaurant.setActive(restaurantEntity.isActive());
         restaurant.getOrderDetail().getProducts().forEach(product ->
-                restaurantEntity.getOrderDetail().getProducts().forEach(p -> {
-            if (p.getId().equals(product.getId())) {
-                product.updateWithConfirmedNamePriceAndAvailability(p.getName(), p.getPrice(), p.isAvailable());
-            }
-        }));
+                restaurantEntity.findProduct(product.getId()).ifPresent(p ->
+                        product.updateWithConfirmedNamePriceAndAvailability(p.getName(), p.getPrice(),
+                                p.isAvailable())));
         restaurant.getOrderDetail().setId(new OrderId(UUID.fromString(restaurantApprovalRequest.getOrderId())));
 
         return restaurant;
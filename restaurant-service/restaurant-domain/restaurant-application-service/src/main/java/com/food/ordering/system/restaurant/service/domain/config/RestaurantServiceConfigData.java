@@ -10,4 +10,6 @@ import org.springframework.context.annotation.Configuration;
 public class RestaurantServiceConfigData {
     private String restaurantApprovalRequestTopicName;
     private String restaurantApprovalResponseTopicName;
+    private Long processedMessageRetentionMinutes;
+    private Long processedMessageCleanerFixedRate;
 }
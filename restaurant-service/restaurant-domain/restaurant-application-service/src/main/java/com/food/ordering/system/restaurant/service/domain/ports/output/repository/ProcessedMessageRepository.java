@@ -0,0 +1,12 @@
+package com.food.ordering.system.restaurant.service.domain.ports.output.repository;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+
+public interface ProcessedMessageRepository {
+    void insert(UUID messageId);
+    Set<UUID> findProcessedMessageIds(Collection<UUID> messageIds);
+    int deleteByProcessedAtBefore(ZonedDateTime processedAt);
+}
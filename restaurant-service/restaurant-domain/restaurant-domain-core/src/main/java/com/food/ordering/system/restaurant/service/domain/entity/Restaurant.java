@@ -1,19 +1,25 @@
 package com.food.ordering.system.restaurant.service.domain.entity;
 
 import com.food.ordering.system.domain.entity.AggregateRoot;
+import com.food.ordering.system.domain.id.Ids;
 import com.food.ordering.system.domain.valueobject.Money;
 import com.food.ordering.system.domain.valueobject.OrderApprovalStatus;
 import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.domain.valueobject.ProductId;
 import com.food.ordering.system.domain.valueobject.RestaurantId;
 import com.food.ordering.system.restaurant.service.domain.valueobject.OrderApprovalId;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-import java.util.UUID;
+import java.util.Map;
+import java.util.Optional;
 
 public class Restaurant extends AggregateRoot<RestaurantId> {
    private OrderApproval orderApproval;
    private boolean active;
    private final OrderDetail orderDetail;
+   private final Map<ProductId, Product> productIndex;
 
    public void validateOrder(List<String> failureMessages) {
        if (orderDetail.getOrderStatus() != OrderStatus.PAID) {
@@ -34,7 +40,7 @@ public class Restaurant extends AggregateRoot<RestaurantId> {
 
    public void constructOrderApproval(OrderApprovalStatus orderApprovalStatus) {
        this.orderApproval = OrderApproval.builder()
-               .orderApprovalId(new OrderApprovalId(UUID.randomUUID()))
+               .orderApprovalId(new OrderApprovalId(Ids.newId()))
                .restaurantId(this.getId())
                .orderId(this.getOrderDetail().getId())
                .approvalStatus(orderApprovalStatus)
@@ -50,6 +56,20 @@ public class Restaurant extends AggregateRoot<RestaurantId> {
         orderApproval = builder.orderApproval;
         active = builder.active;
         orderDetail = builder.orderDetail;
+        productIndex = indexProducts(builder.orderDetail);
+    }
+
+    public Optional<Product> findProduct(ProductId productId) {
+        return Optional.ofNullable(productIndex.get(productId));
+    }
+
+    private static Map<ProductId, Product> indexProducts(OrderDetail orderDetail) {
+        if (orderDetail == null || orderDetail.getProducts() == null) {
+            return Collections.emptyMap();
+        }
+        Map<ProductId, Product> index = new HashMap<>(orderDetail.getProducts().size() * 2);
+        orderDetail.getProducts().forEach(product -> index.put(product.getId(), product));
+        return index;
     }
 
     public static Builder builder() {
@@ -1,8 +1,13 @@
 package com.food.ordering.system.restaurant.service.messaging.listener.kafka;
 
+import com.food.ordering.system.domain.logging.SampledLogger;
+import com.food.ordering.system.kafka.config.data.KafkaConsumerConfigData;
 import com.food.ordering.system.kafka.consumer.KafkaConsumer;
+import com.food.ordering.system.kafka.consumer.dispatch.KeyOrderedDispatcher;
+import com.food.ordering.system.kafka.consumer.idempotency.ProcessedMessageFilter;
 import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel;
 import com.food.ordering.system.restaurant.service.domain.ports.input.message.listener.RestaurantApprovalRequestMessageListener;
+import com.food.ordering.system.restaurant.service.domain.ports.output.repository.ProcessedMessageRepository;
 import com.food.ordering.system.restaurant.service.messaging.mapper.RestaurantMessagingDataMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.annotation.KafkaListener;
@@ -11,42 +16,70 @@ import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Component
 public class RestaurantApprovalRequestKafkaListener implements KafkaConsumer<RestaurantApprovalRequestAvroModel> {
 
+    private static final SampledLogger receivedLog =
+            SampledLogger.of(RestaurantApprovalRequestKafkaListener.class, 1, Duration.ofSeconds(1));
+
     private final RestaurantApprovalRequestMessageListener restaurantApprovalRequestMessageListener;
     private final RestaurantMessagingDataMapper restaurantMessagingDataMapper;
+    private final ProcessedMessageFilter processedMessageFilter;
+    private final KeyOrderedDispatcher keyOrderedDispatcher;
 
     public RestaurantApprovalRequestKafkaListener(RestaurantApprovalRequestMessageListener
                                                           restaurantApprovalRequestMessageListener,
                                                   RestaurantMessagingDataMapper
-                                                          restaurantMessagingDataMapper) {
+                                                          restaurantMessagingDataMapper,
+                                                  ProcessedMessageRepository processedMessageRepository,
+                                                  KafkaConsumerConfigData kafkaConsumerConfigData,
+                                                  KeyOrderedDispatcher keyOrderedDispatcher) {
         this.restaurantApprovalRequestMessageListener = restaurantApprovalRequestMessageListener;
         this.restaurantMessagingDataMapper = restaurantMessagingDataMapper;
+        this.processedMessageFilter = new ProcessedMessageFilter(messageIds -> processedMessageRepository
+                .findProcessedMessageIds(messageIds.stream().map(UUID::fromString).collect(Collectors.toList()))
+                .stream()
+                .map(UUID::toString)
+                .collect(Collectors.toSet()), kafkaConsumerConfigData);
+        this.keyOrderedDispatcher = keyOrderedDispatcher;
     }
 
     @Override
     @KafkaListener(id = "${kafka-consumer-config.restaurant-approval-consumer-group-id}",
             topics = "${restaurant-service.restaurant-approval-request-topic-name}")
+    @KafkaListener(id = "${kafka-consumer-config.restaurant-approval-consumer-group-id}-retry-0",
+            topics = "${restaurant-service.restaurant-approval-request-topic-name}-retry-0",
+            containerFactory = "retryKafkaListenerContainerFactory")
+    @KafkaListener(id = "${kafka-consumer-config.restaurant-approval-consumer-group-id}-retry-1",
+            topics = "${restaurant-service.restaurant-approval-request-topic-name}-retry-1",
+            containerFactory = "retryKafkaListenerContainerFactory")
+    @KafkaListener(id = "${kafka-consumer-config.restaurant-approval-consumer-group-id}-retry-2",
+            topics = "${restaurant-service.restaurant-approval-request-topic-name}-retry-2",
+            containerFactory = "retryKafkaListenerContainerFactory")
     public void recieve(@Payload List<RestaurantApprovalRequestAvroModel> messages,
                         @Header(KafkaHeaders.RECEIVED_MESSAGE_KEY) List<String> keys,
                         @Header(KafkaHeaders.RECEIVED_PARTITION_ID) List<Integer> partitions,
                         @Header(KafkaHeaders.OFFSET) List<Long> offsets) {
-        log.info("{} number of orders approval requests received with keys {}, partitions {} and offsets {}" +
-                        ", sending for restaurant approval",
-                messages.size(),
-                keys.toString(),
-                partitions.toString(),
-                offsets.toString());
-
-        messages.forEach(restaurantApprovalRequestAvroModel -> {
-            log.info("Processing order approval for order id: {}", restaurantApprovalRequestAvroModel.getOrderId());
-            restaurantApprovalRequestMessageListener.approveOrder(restaurantMessagingDataMapper.
-                    restaurantApprovalRequestAvroModelToRestaurantApproval(restaurantApprovalRequestAvroModel));
-        });
+        receivedLog.info("restaurant-approval-requests-received", "count", messages.size(),
+                "partitions", partitions, "offsets", offsets);
+
+        keyOrderedDispatcher.dispatch(messages,
+                processedMessageFilter.removeProcessed(messages, RestaurantApprovalRequestAvroModel::getId),
+                RestaurantApprovalRequestAvroModel::getRestaurantId,
+                restaurantApprovalRequestAvroModel -> processedMessageFilter.process(restaurantApprovalRequestAvroModel,
+                        restaurantApprovalRequestAvroModel.getId(), this::approveOrder));
+    }
+
+    private void approveOrder(RestaurantApprovalRequestAvroModel restaurantApprovalRequestAvroModel) {
+        log.debug("Processing order approval for order id: {}", restaurantApprovalRequestAvroModel.getOrderId());
+        restaurantApprovalRequestMessageListener.approveOrder(restaurantMessagingDataMapper.
+                restaurantApprovalRequestAvroModelToRestaurantApproval(restaurantApprovalRequestAvroModel));
     }
 
 }
@@ -1,5 +1,6 @@
 package com.food.ordering.system.restaurant.service.messaging.mapper;
 
+import com.food.ordering.system.domain.id.Ids;
 import com.food.ordering.system.domain.valueobject.ProductId;
 import com.food.ordering.system.domain.valueobject.RestaurantOrderStatus;
 import com.food.ordering.system.kafka.order.avro.model.OrderApprovalStatus;
@@ -20,7 +21,7 @@ public class RestaurantMessagingDataMapper {
     public RestaurantApprovalResponseAvroModel orderApprovedEventToRestaurantApprovalResponseModel(
             OrderApprovalEvent orderApprovalEvent) {
         return RestaurantApprovalResponseAvroModel.newBuilder()
-                .setId(UUID.randomUUID().toString())
+                .setId(Ids.newId().toString())
                 .setSagaId("")
                 .setOrderId(orderApprovalEvent.getOrderApproval().getOrderId().getValue().toString())
                 .setRestaurantId(orderApprovalEvent.getRestaurantId().getValue().toString())
@@ -34,7 +35,7 @@ public class RestaurantMessagingDataMapper {
     public RestaurantApprovalResponseAvroModel orderRejectedEventToRestaurantApprovalResponseModel(
             OrderRejectedEvent orderRejectedEvent) {
         return RestaurantApprovalResponseAvroModel.newBuilder()
-                .setId(UUID.randomUUID().toString())
+                .setId(Ids.newId().toString())
                 .setSagaId("")
                 .setOrderId(orderRejectedEvent.getOrderApproval().getOrderId().getValue().toString())
                 .setRestaurantId(orderRejectedEvent.getRestaurantId().getValue().toString())
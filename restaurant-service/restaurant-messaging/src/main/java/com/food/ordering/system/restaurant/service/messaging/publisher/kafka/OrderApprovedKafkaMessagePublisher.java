@@ -31,7 +31,7 @@ public class OrderApprovedKafkaMessagePublisher implements OrderApprovedMessageP
     @Override
     public void publish(OrderApprovedEvent orderApprovedEvent) {
         String orderId = orderApprovedEvent.getOrderApproval().getOrderId().getValue().toString();
-        log.info("Received OrderApprovedEvent for order id: {}", orderId);
+        log.debug("Received OrderApprovedEvent for order id: {}", orderId);
 
         try {
             RestaurantApprovalResponseAvroModel restaurantApprovalResponseAvroModel =
@@ -46,7 +46,7 @@ public class OrderApprovedKafkaMessagePublisher implements OrderApprovedMessageP
                             restaurantApprovalResponseAvroModel,
                             orderId,
                             "RestaurantApprovalResponseAvroModel"));
-            log.info("RestaurantApprovalResponseAvroModel sent to kafka at: {}", System.nanoTime());
+            log.debug("RestaurantApprovalResponseAvroModel sent to Kafka for order id: {}", orderId);
         } catch(Exception e) {
             log.error("Error while sending RestaurantApprovalResponseAvroModel message" +
                     " to Kafka with order id: {}, error: {}", orderId, e.getMessage());
@@ -32,7 +32,7 @@ public class OrderRejectedKafkaMessagePublisher implements OrderRejectedMessageP
     @Override
     public void publish(OrderRejectedEvent orderRejectedEvent) {
         String orderId = orderRejectedEvent.getOrderApproval().getOrderId().getValue().toString();
-        log.info("Received OrderApprovedEvent for order id: {}", orderId);
+        log.debug("Received OrderApprovedEvent for order id: {}", orderId);
 
         try {
             RestaurantApprovalResponseAvroModel restaurantApprovalResponseAvroModel =
@@ -47,7 +47,7 @@ public class OrderRejectedKafkaMessagePublisher implements OrderRejectedMessageP
                             restaurantApprovalResponseAvroModel,
                             orderId,
                             "RestaurantApprovalResponseAvroModel"));
-            log.info("RestaurantApprovalResponseAvroModel sent to kafka at: {}", System.nanoTime());
+            log.debug("RestaurantApprovalResponseAvroModel sent to Kafka for order id: {}", orderId);
         } catch(Exception e) {
             log.error("Error while sending RestaurantApprovalResponseAvroModel message" +
                     " to Kafka with order id: {}, error: {}", orderId, e.getMessage());